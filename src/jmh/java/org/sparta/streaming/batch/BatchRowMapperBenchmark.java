@@ -0,0 +1,97 @@
+package org.sparta.streaming.batch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sparta.streaming.domain.settlement.batch.DailySettlementBatchConfig;
+import org.sparta.streaming.domain.statistics.batch.DailyStatisticsBatchConfig;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 리더 RowMapper의 행당 비용 (청크 1,000행)
+ * DB 대신 JDK CachedRowSet에 행을 올려 두고 매핑만 잰다. (드라이버의 컬럼 이름 조회 비용은 다를 수 있음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BatchRowMapperBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 17);
+
+    private CachedRowSet statisticsRows;
+    private CachedRowSet settlementRows;
+    private RowMapper<DailyStatisticsBatchConfig.StatisticsDto> statisticsMapper;
+    private RowMapper<DailySettlementBatchConfig.SettlementSourceDto> settlementMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        statisticsRows = rows(new String[]{"video_id", "view_count", "total_watch_seconds"},
+                new int[]{Types.INTEGER, Types.INTEGER, Types.BIGINT});
+        settlementRows = rows(new String[]{"video_id", "user_id", "previous_total_views", "today_views",
+                        "previous_total_ad_views", "today_ad_views"},
+                new int[]{Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER});
+        statisticsMapper = DailyStatisticsBatchConfig.statisticsRowMapper(DATE);
+        settlementMapper = DailySettlementBatchConfig.settlementRowMapper(DATE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void statistics(Blackhole blackhole) throws SQLException {
+        map(statisticsRows, statisticsMapper, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void settlement(Blackhole blackhole) throws SQLException {
+        map(settlementRows, settlementMapper, blackhole);
+    }
+
+    private static void map(CachedRowSet rows, RowMapper<?> mapper, Blackhole blackhole) throws SQLException {
+        rows.beforeFirst();
+        int rowNum = 0;
+        while (rows.next()) {
+            blackhole.consume(mapper.mapRow(rows, rowNum++));
+        }
+    }
+
+    private static CachedRowSet rows(String[] columns, int[] types) throws SQLException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            metaData.setColumnName(i + 1, columns[i]);
+            metaData.setColumnType(i + 1, types[i]);
+        }
+
+        CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+        rows.setMetaData(metaData);
+        for (int row = 0; row < ROWS; row++) {
+            rows.moveToInsertRow();
+            for (int i = 0; i < columns.length; i++) {
+                if (types[i] == Types.BIGINT) {
+                    rows.updateLong(i + 1, (row + 1) * 600L);
+                } else {
+                    rows.updateInt(i + 1, row + 1);
+                }
+            }
+            rows.insertRow();
+            rows.moveToCurrentRow();
+        }
+        return rows;
+    }
+}
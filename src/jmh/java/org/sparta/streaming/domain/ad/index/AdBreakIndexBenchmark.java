@@ -0,0 +1,72 @@
+package org.sparta.streaming.domain.ad.index;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 저장 한 번(10초 전진)에 통과한 광고 찾기
+ * - index: AdBreakIndex 이진 탐색 두 번
+ * - linearScan: 광고 목록 전체를 돌며 (이전 위치, 현재 위치] 필터 (인덱스 도입 전 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdBreakIndexBenchmark {
+
+    private static final int VIDEO_SECONDS = 3_600;
+    private static final int STEP_SECONDS = 10;
+
+    @Param({"4", "32", "256"})
+    public int adCount;
+
+    private List<AdBreak> breaks;
+    private AdBreakIndex index;
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        breaks = new ArrayList<>(adCount);
+        int interval = VIDEO_SECONDS / adCount;
+        for (int i = 0; i < adCount; i++) {
+            breaks.add(new AdBreak(i + 1, (i + 1) * interval));
+        }
+        index = AdBreakIndex.of(breaks);
+    }
+
+    @Benchmark
+    public int[] index() {
+        int previous = advance();
+        return index.passedBetween(previous, previous + STEP_SECONDS);
+    }
+
+    @Benchmark
+    public List<Integer> linearScan() {
+        int previous = advance();
+        int current = previous + STEP_SECONDS;
+        List<Integer> passed = new ArrayList<>();
+        for (AdBreak adBreak : breaks) {
+            int at = adBreak.positionSeconds();
+            if (at > previous && at <= current) {
+                passed.add(adBreak.videoAdsId());
+            }
+        }
+        return passed;
+    }
+
+    private int advance() {
+        int previous = position;
+        position = (position + STEP_SECONDS) % VIDEO_SECONDS;
+        return previous;
+    }
+}
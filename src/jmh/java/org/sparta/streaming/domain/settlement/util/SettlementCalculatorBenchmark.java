@@ -0,0 +1,123 @@
+package org.sparta.streaming.domain.settlement.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정산 청크 하나(1,000건)의 영상 + 광고 금액 계산 비용
+ * - legacy: 바꾸기 전 계산 (double 단가 구간 4번 + BigDecimal)
+ * - perItem: 구간표 계산을 건별로 (BigDecimal 반환)
+ * - bulk: 구간표 계산을 int[] → long[] 로 한 번에
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SettlementCalculatorBenchmark {
+
+    private static final int CHUNK = 1_000;
+
+    private SettlementCalculator calculator;
+    private int[] previousViews;
+    private int[] todayViews;
+    private int[] previousAdViews;
+    private int[] todayAdViews;
+    private long[] videoAmounts;
+    private long[] adAmounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        calculator = new SettlementCalculator(
+                SettlementCalculator.DEFAULT_VIDEO_TIERS, SettlementCalculator.DEFAULT_AD_TIERS);
+
+        // 대부분 작은 동영상, 일부는 구간 경계를 넘는 인기 동영상
+        SplittableRandom random = new SplittableRandom(42);
+        previousViews = new int[CHUNK];
+        todayViews = new int[CHUNK];
+        previousAdViews = new int[CHUNK];
+        todayAdViews = new int[CHUNK];
+        for (int i = 0; i < CHUNK; i++) {
+            boolean popular = random.nextInt(10) == 0;
+            previousViews[i] = random.nextInt(popular ? 2_000_000 : 50_000);
+            todayViews[i] = random.nextInt(popular ? 300_000 : 2_000);
+            previousAdViews[i] = previousViews[i] / 3;
+            todayAdViews[i] = todayViews[i] / 3;
+        }
+        videoAmounts = new long[CHUNK];
+        adAmounts = new long[CHUNK];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public void legacy(Blackhole blackhole) {
+        for (int i = 0; i < CHUNK; i++) {
+            blackhole.consume(Legacy.videoAmount(previousViews[i], todayViews[i]));
+            blackhole.consume(Legacy.adAmount(previousAdViews[i], todayAdViews[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public void perItem(Blackhole blackhole) {
+        for (int i = 0; i < CHUNK; i++) {
+            blackhole.consume(calculator.calculateVideoAmount(previousViews[i], todayViews[i]));
+            blackhole.consume(calculator.calculateAdAmount(previousAdViews[i], todayAdViews[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public void bulk(Blackhole blackhole) {
+        calculator.calculateVideoAmounts(previousViews, todayViews, videoAmounts, CHUNK);
+        calculator.calculateAdAmounts(previousAdViews, todayAdViews, adAmounts, CHUNK);
+        blackhole.consume(videoAmounts);
+        blackhole.consume(adAmounts);
+    }
+
+    /**
+     * 바꾸기 전 SettlementCalculator 계산
+     */
+    private static final class Legacy {
+
+        static BigDecimal videoAmount(int previousTotal, int todayViews) {
+            return amount(previousTotal, todayViews, 1.0, 1.1, 1.3, 1.5);
+        }
+
+        static BigDecimal adAmount(int previousTotal, int todayViews) {
+            return amount(previousTotal, todayViews, 10.0, 12.0, 15.0, 20.0);
+        }
+
+        private static BigDecimal amount(int previousTotal, int todayViews, double... rates) {
+            if (todayViews <= 0) {
+                return BigDecimal.ZERO;
+            }
+            int currentTotal = previousTotal + todayViews;
+            long totalAmount = 0;
+            totalAmount += tier(previousTotal, currentTotal, 0, 100_000, rates[0]);
+            totalAmount += tier(previousTotal, currentTotal, 100_000, 500_000, rates[1]);
+            totalAmount += tier(previousTotal, currentTotal, 500_000, 1_000_000, rates[2]);
+            totalAmount += tier(previousTotal, currentTotal, 1_000_000, Integer.MAX_VALUE, rates[3]);
+            return BigDecimal.valueOf(totalAmount).setScale(0, RoundingMode.DOWN);
+        }
+
+        private static long tier(int previousTotal, int currentTotal, int tierStart, int tierEnd, double rate) {
+            if (previousTotal >= tierEnd || currentTotal <= tierStart) {
+                return 0;
+            }
+            int viewsInTier = Math.min(currentTotal, tierEnd) - Math.max(previousTotal, tierStart);
+            return (long) (viewsInTier * rate);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.sparta.streaming.domain.user.jwt;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sparta.streaming.domain.user.util.JwtUtil;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthorizationFilter 요청당 비용: 검증된 토큰 캐시 사용 / 미사용
+ * stateless 모드로 돌려 DB 조회 없이 토큰 처리 비용만 잰다.
+ * 사용자 1,000명이 각자 토큰 하나로 계속 요청하는 상황
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtAuthorizationFilter filter;
+    private MockHttpServletRequest[] requests;
+    private MockHttpServletResponse response;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        JwtUtil jwtUtil = new JwtUtil(Base64.getEncoder().encodeToString(secret), cacheEnabled, 100_000);
+        filter = new JwtAuthorizationFilter(jwtUtil, null, true);
+
+        requests = new MockHttpServletRequest[USERS];
+        for (int i = 0; i < USERS; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/streaming/update-position/1");
+            request.addHeader(JwtUtil.AUTHORIZATION_HEADER, jwtUtil.createToken(i + 1, "user" + i + "@test.com", "USER"));
+            requests[i] = request;
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object authorize() throws Exception {
+        MockHttpServletRequest request = requests[next];
+        next = (next + 1) % USERS;
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,75 @@
+package org.sparta.streaming.domain.user.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 검증/파싱 비용 (필터, 시큐리티 컨텍스트 제외)
+ * 사용자 1,000명의 토큰을 돌아가며 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final int USERS = 1_000;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        jwtUtil = new JwtUtil(Base64.getEncoder().encodeToString(secret), cacheEnabled, 100_000);
+
+        tokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            // "Bearer " 접두어 제거 (필터가 넘기는 형태)
+            tokens[i] = jwtUtil.createToken(i + 1, "user" + i + "@test.com", "USER")
+                    .substring(JwtUtil.BEARER_PREFIX.length());
+        }
+    }
+
+    /**
+     * 필터가 쓰는 경로 (cacheEnabled면 검증된 토큰 캐시 사용)
+     */
+    @Benchmark
+    public Object parseVerified() {
+        return jwtUtil.parseVerified(nextToken());
+    }
+
+    /**
+     * 캐시 없이 서명 검증 + 파싱
+     */
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(nextToken());
+    }
+
+    @Benchmark
+    public Object getUserInfoFromToken() {
+        return jwtUtil.getUserInfoFromToken(nextToken());
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % USERS;
+        return token;
+    }
+}
@@ -0,0 +1,68 @@
+package org.sparta.streaming.domain.video.abuse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.sparta.streaming.redis.InMemoryRedisStore;
+
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재생 시작마다 하는 어뷰징 체크 (30초 윈도우)
+ * - local: LocalAbuseDetector 링 버퍼
+ * - redis: RedisAbuseDetector + 인메모리 저장소 (네트워크 왕복 제외, 키 처리 비용만)
+ * 동영상 1,000개 X IP 10,000개 중 무작위 재생, 1스레드 / 4스레드
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbuseDetectorBenchmark {
+
+    private static final int VIDEOS = 1_000;
+    private static final int IPS = 10_000;
+
+    @Param({"local", "redis"})
+    public String backend;
+
+    private AbuseDetector detector;
+    private String[] ipAddresses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        detector = switch (backend) {
+            case "local" -> new LocalAbuseDetector(30, 200_000, Clock.systemUTC());
+            case "redis" -> new RedisAbuseDetector(new InMemoryRedisStore(Clock.systemUTC()), 30,
+                    new LocalAbuseDetector(30, 200_000, Clock.systemUTC()));
+            default -> throw new IllegalArgumentException("알 수 없는 backend: " + backend);
+        };
+        ipAddresses = new String[IPS];
+        for (int i = 0; i < IPS; i++) {
+            ipAddresses[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public boolean checkAndRecord() {
+        return check();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean checkAndRecordContended() {
+        return check();
+    }
+
+    private boolean check() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return detector.checkAndRecord(random.nextInt(VIDEOS), ipAddresses[random.nextInt(IPS)]);
+    }
+}
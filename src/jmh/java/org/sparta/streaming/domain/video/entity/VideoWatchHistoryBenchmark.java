@@ -0,0 +1,46 @@
+package org.sparta.streaming.domain.video.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시청 기록 엔티티의 위치 갱신 비용 (영속성 컨텍스트 없이 엔티티 메서드만)
+ * 재생 중 위치 저장 요청마다 한 번씩 불린다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoWatchHistoryBenchmark {
+
+    private VideoWatchHistory history;
+    private int position;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        history = VideoWatchHistory.create(null, null, "10.0.0.1", true);
+        position = 0;
+    }
+
+    @Benchmark
+    public VideoWatchHistory updateWatchPosition() {
+        int previous = position;
+        position += 10;
+        history.updateWatchPosition(position, previous);
+        return history;
+    }
+
+    @Benchmark
+    public VideoWatchHistory updatePositionOnly() {
+        position += 10;
+        history.updatePositionOnly(position);
+        return history;
+    }
+}
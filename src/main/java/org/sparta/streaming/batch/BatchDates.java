@@ -0,0 +1,57 @@
+// ========================================
+// BatchDates.java (배치 대상 날짜/시간 범위)
+// ========================================
+package org.sparta.streaming.batch;
+
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 배치가 읽을 하루치 범위를 [자정, 다음 날 자정) 반열림 구간으로 만든다.
+ * DATE(created_at) = ? 처럼 컬럼을 함수로 감싸면 인덱스와 파티션 프루닝을 모두 못 쓰므로
+ * created_at >= from AND created_at < to 형태로만 비교한다.
+ */
+public final class BatchDates {
+
+    public static final String TARGET_DATE = "targetDate";
+
+    // 스케줄러 cron, MySQL(TZ)과 같은 기준
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private BatchDates() {
+    }
+
+    /**
+     * 잡 파라미터로 날짜가 오지 않으면 어제
+     */
+    public static LocalDate targetDateOrYesterday(LocalDate targetDate) {
+        return targetDate != null ? targetDate : LocalDate.now(ZONE).minusDays(1);
+    }
+
+    /**
+     * targetDate는 식별 파라미터라 같은 날짜로 다시 실행하면 같은 JobInstance가 된다.
+     * (실패했으면 실패한 파티션부터 재시작, 완료됐으면 JobInstanceAlreadyCompleteException)
+     * force면 실행 시각을 식별 파라미터로 더해 새 JobInstance로 처음부터 다시 돈다.
+     */
+    public static JobParameters jobParameters(LocalDate targetDate, boolean force) {
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addLocalDate(TARGET_DATE, targetDateOrYesterday(targetDate));
+        if (force) {
+            builder.addLocalDateTime("forcedAt", LocalDateTime.now(ZONE));
+        }
+        return builder.toJobParameters();
+    }
+
+    public static Timestamp startOf(LocalDate date) {
+        return Timestamp.valueOf(date.atStartOfDay());
+    }
+
+    public static Timestamp endOf(LocalDate date) {
+        return Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+    }
+}
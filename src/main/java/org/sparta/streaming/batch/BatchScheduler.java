@@ -7,14 +7,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
 @Slf4j
 @Component
 @Profile("batch")  // batch 프로필에서만 활성화
@@ -24,6 +21,7 @@ public class BatchScheduler {
     private final JobLauncher jobLauncher;
     private final Job dailyStatisticsJob;
     private final Job dailySettlementJob;
+    private final Job dailyAdRollupJob;
 
     /**
      * 매일 새벽 1시에 통계 배치 실행
@@ -33,9 +31,7 @@ public class BatchScheduler {
         try {
             log.info("=== 일간 통계 배치 시작 ===");
 
-            JobParameters params = new JobParametersBuilder()
-                    .addLocalDateTime("timestamp", LocalDateTime.now())
-                    .toJobParameters();
+            JobParameters params = BatchDates.jobParameters(null, false);
 
             jobLauncher.run(dailyStatisticsJob, params);
 
@@ -46,16 +42,32 @@ public class BatchScheduler {
     }
 
     /**
-     * 매일 새벽 2시에 정산 배치 실행 (통계 배치 이후)
+     * 매일 새벽 1시 30분에 광고 노출 집계 실행 (정산이 이 집계를 읽음)
+     */
+    @Scheduled(cron = "0 30 1 * * *", zone = "Asia/Seoul")
+    public void runDailyAdRollup() {
+        try {
+            log.info("=== 일별 광고 노출 집계 시작 ===");
+
+            JobParameters params = BatchDates.jobParameters(null, false);
+
+            jobLauncher.run(dailyAdRollupJob, params);
+
+            log.info("=== 일별 광고 노출 집계 완료 ===");
+        } catch (Exception e) {
+            log.error("광고 노출 집계 실행 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 2시에 정산 배치 실행 (통계 배치, 광고 노출 집계 이후)
      */
     @Scheduled(cron = "0 0 2 * * *", zone = "Asia/Seoul")
     public void runDailySettlement() {
         try {
             log.info("=== 일간 정산 배치 시작 ===");
 
-            JobParameters params = new JobParametersBuilder()
-                    .addLocalDateTime("timestamp", LocalDateTime.now())
-                    .toJobParameters();
+            JobParameters params = BatchDates.jobParameters(null, false);
 
             jobLauncher.run(dailySettlementJob, params);
 
@@ -5,17 +5,24 @@ package org.sparta.streaming.batch;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.domain.settlement.batch.CumulativeTotalsTasklet;
+import org.sparta.streaming.domain.statistics.batch.PeriodRollupBackfill;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 
 @Slf4j
 @RestController
@@ -27,49 +34,86 @@ public class ManualBatchRunner {
     private final JobLauncher jobLauncher;
     private final Job dailyStatisticsJob;
     private final Job dailySettlementJob;
+    private final Job dailyAdRollupJob;
+    private final PeriodRollupBackfill periodRollupBackfill;
 
     /**
      * 통계 배치 수동 실행
-     * POST /api/batch/statistics
+     * POST /api/batch/statistics?date=2024-01-01&force=false
+     * date 생략 시 어제, 실패한 날짜를 다시 실행하면 실패한 파티션만 재시작
      */
     @PostMapping("/statistics")
-    public ResponseEntity<String> runStatisticsBatch() {
-        try {
-            log.info("=== 통계 배치 수동 실행 시작 ===");
-
-            JobParameters params = new JobParametersBuilder()
-                    .addLocalDateTime("timestamp", LocalDateTime.now())
-                    .toJobParameters();
-
-            jobLauncher.run(dailyStatisticsJob, params);
+    public ResponseEntity<String> runStatisticsBatch(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean force) {
+        return run(dailyStatisticsJob, "통계", date, force);
+    }
 
-            log.info("=== 통계 배치 수동 실행 완료 ===");
-            return ResponseEntity.ok("통계 배치가 성공적으로 실행되었습니다.");
-        } catch (Exception e) {
-            log.error("통계 배치 실행 중 오류 발생", e);
-            return ResponseEntity.internalServerError().body("배치 실행 실패: " + e.getMessage());
+    /**
+     * 주간/월간 통계 기간 재집계 (배포 전 기간 채우기, 과거 일간 통계를 다시 돌린 뒤)
+     * POST /api/batch/period-rollup/backfill?from=2024-01-01&to=2024-06-30
+     * from이 속한 주/월부터 to가 속한 주/월까지 일간 통계로 다시 만든다. to는 어제까지
+     */
+    @PostMapping("/period-rollup/backfill")
+    public ResponseEntity<String> backfillPeriodRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            int rows = periodRollupBackfill.backfill(from, to);
+            return ResponseEntity.ok("주간/월간 통계를 다시 집계했습니다. (" + from + " ~ " + to + ", " + rows + "건)");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    /**
+     * 광고 노출 집계 수동 실행 (이미 집계한 날짜면 그 적재일만 다시 집계)
+     * POST /api/batch/ad-rollup?date=2024-01-01&force=false
+     */
+    @PostMapping("/ad-rollup")
+    public ResponseEntity<String> runAdRollupBatch(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean force) {
+        return run(dailyAdRollupJob, "광고 노출 집계", date, force);
+    }
+
     /**
      * 정산 배치 수동 실행
-     * POST /api/batch/settlement
+     * POST /api/batch/settlement?date=2024-01-01&force=false&mode=INCREMENTAL
+     * mode: INCREMENTAL(기본), VERIFY(누적 합계 검증만), REBUILD(누적 합계를 전체 이력으로 다시 만든 뒤 정산)
      */
     @PostMapping("/settlement")
-    public ResponseEntity<String> runSettlementBatch() {
-        try {
-            log.info("=== 정산 배치 수동 실행 시작 ===");
-
-            JobParameters params = new JobParametersBuilder()
-                    .addLocalDateTime("timestamp", LocalDateTime.now())
+    public ResponseEntity<String> runSettlementBatch(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean force,
+            @RequestParam(defaultValue = "INCREMENTAL") CumulativeTotalsTasklet.Mode mode) {
+        JobParameters params = BatchDates.jobParameters(date, force);
+        if (mode != CumulativeTotalsTasklet.Mode.INCREMENTAL) {
+            params = new JobParametersBuilder(params)
+                    .addString(CumulativeTotalsTasklet.MODE, mode.name())
                     .toJobParameters();
+        }
+        return run(dailySettlementJob, "정산", params);
+    }
+
+    private ResponseEntity<String> run(Job job, String name, LocalDate date, boolean force) {
+        return run(job, name, BatchDates.jobParameters(date, force));
+    }
+
+    private ResponseEntity<String> run(Job job, String name, JobParameters params) {
+        LocalDate targetDate = params.getLocalDate(BatchDates.TARGET_DATE);
+        try {
+            log.info("=== {} 배치 수동 실행 시작: {} ===", name, params);
 
-            jobLauncher.run(dailySettlementJob, params);
+            JobExecution execution = jobLauncher.run(job, params);
 
-            log.info("=== 정산 배치 수동 실행 완료 ===");
-            return ResponseEntity.ok("정산 배치가 성공적으로 실행되었습니다.");
+            log.info("=== {} 배치 수동 실행 완료: date={}, status={} ===", name, targetDate, execution.getStatus());
+            return ResponseEntity.ok(name + " 배치가 실행되었습니다. (" + targetDate + ", " + execution.getStatus() + ")");
+        } catch (JobInstanceAlreadyCompleteException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(targetDate + " " + name + " 배치는 이미 완료되었습니다. 다시 실행하려면 force=true");
         } catch (Exception e) {
-            log.error("정산 배치 실행 중 오류 발생", e);
+            log.error("{} 배치 실행 중 오류 발생", name, e);
             return ResponseEntity.internalServerError().body("배치 실행 실패: " + e.getMessage());
         }
     }
@@ -0,0 +1,159 @@
+// ========================================
+// PartitionMaintenance.java (시청 기록 파티션 관리)
+// ========================================
+package org.sparta.streaming.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * video_watch_history, ad_watch_history의 월 파티션(pYYYYMM)을 관리한다. (docs/partitioning.md)
+ * - 이번 달부터 months-ahead 달까지 파티션이 없으면 p_future(MAXVALUE)를 쪼개서 만든다.
+ * - retention-months보다 오래된 파티션은 archive면 별도 테이블로 EXCHANGE 후, 아니면 바로 DROP 한다.
+ * 매일 돌아도 이미 있는 파티션은 건드리지 않는다. 파티션이 없는 테이블(마이그레이션 전)은 건너뛴다.
+ */
+@Slf4j
+@Component
+@Profile("batch")
+@ConditionalOnProperty(name = "streaming.partition.enabled", havingValue = "true")
+public class PartitionMaintenance {
+
+    static final List<String> TABLES = List.of("video_watch_history", "ad_watch_history");
+    static final String FUTURE_PARTITION = "p_future";
+
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p(\\d{6})");
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITIONS_SQL = """
+            SELECT PARTITION_NAME
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = ?
+              AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean archive;
+
+    public PartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                @Value("${streaming.partition.months-ahead:3}") int monthsAhead,
+                                @Value("${streaming.partition.retention-months:0}") int retentionMonths,
+                                @Value("${streaming.partition.archive:true}") boolean archive) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("미리 만들 파티션은 1개월 이상이어야 합니다.");
+        }
+        if (retentionMonths < 0) {
+            throw new IllegalArgumentException("보관 기간은 0(무기한) 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archive = archive;
+    }
+
+    /**
+     * 매일 0시 30분 (통계 배치 전)
+     */
+    @Scheduled(cron = "${streaming.partition.cron:0 30 0 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        YearMonth current = YearMonth.now(BatchDates.ZONE);
+        for (String table : TABLES) {
+            try {
+                maintain(table, current);
+            } catch (Exception e) {
+                log.error("파티션 관리 실패: table={}", table, e);
+            }
+        }
+    }
+
+    void maintain(String table, YearMonth current) {
+        List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, table);
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            log.warn("파티션 관리 대상 아님 (p_future 없음, docs/partitioning.md 참고): table={}", table);
+            return;
+        }
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!partitions.contains(partitionName(month))) {
+                createPartition(table, month);
+            }
+        }
+
+        if (retentionMonths == 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        for (String partition : partitions) {
+            Matcher matcher = MONTH_PARTITION.matcher(partition);
+            if (matcher.matches() && YearMonth.parse(matcher.group(1), MONTH_FORMAT).isBefore(oldestKept)) {
+                removePartition(table, partition);
+            }
+        }
+    }
+
+    // p_future가 비어 있을 때(미리 만들어 두면 항상)는 메타데이터만 바뀐다
+    private void createPartition(String table, YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                + "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + upperBound(month) + "'), "
+                + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        log.info("파티션 생성: table={}, partition={}", table, partitionName(month));
+    }
+
+    // archive: 같은 구조의 일반 테이블로 파티션 데이터를 옮긴 뒤(EXCHANGE, 복사 없음) 빈 파티션을 지운다
+    private void removePartition(String table, String partition) {
+        if (archive) {
+            String archiveTable = table + "_" + partition;
+            if (!tableExists(archiveTable)) {
+                jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE " + table);
+                jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+                jdbcTemplate.execute("ALTER TABLE " + table + " EXCHANGE PARTITION " + partition
+                        + " WITH TABLE " + archiveTable);
+                log.info("파티션 보관: table={}, partition={} → {}", table, partition, archiveTable);
+            } else if (!partitionEmpty(table, partition)) {
+                // 보관 테이블을 덮어쓰거나 데이터를 되돌려 놓지 않도록 손으로 확인할 때까지 둔다
+                log.warn("보관 테이블이 이미 있어 파티션을 남겨둠: table={}, partition={}", table, partition);
+                return;
+            }
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+        log.info("파티션 삭제: table={}, partition={}", table, partition);
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean partitionEmpty(String table, String partition) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT 1 FROM " + table + " PARTITION (" + partition + ") LIMIT 1", Integer.class);
+        return rows.isEmpty();
+    }
+
+    static String partitionName(YearMonth month) {
+        return "p" + month.format(MONTH_FORMAT);
+    }
+
+    // 다음 달 1일 0시 미만
+    static LocalDate upperBound(YearMonth month) {
+        return month.plusMonths(1).atDay(1);
+    }
+}
@@ -0,0 +1,66 @@
+// ========================================
+// VideoIdRangePartitioner.java (video_id 구간 파티셔너)
+// ========================================
+package org.sparta.streaming.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * videos의 video_id [min, max]를 gridSize개의 겹치지 않는 구간으로 나눈다.
+ * 일간 통계/정산은 동영상별로 한 행씩 만들기 때문에 구간별로 나눠 돌려도 순차 실행과 결과가 같다.
+ * 재시작 시에는 Spring Batch가 저장된 파티션 컨텍스트를 다시 쓰므로 실패한 구간만 다시 돈다.
+ */
+@Component
+@Profile("batch")
+@RequiredArgsConstructor
+public class VideoIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_VIDEO_ID = "minVideoId";
+    public static final String MAX_VIDEO_ID = "maxVideoId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] bounds = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(video_id), 1), COALESCE(MAX(video_id), 0) FROM videos",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        return split(bounds[0], bounds[1], gridSize);
+    }
+
+    static Map<String, ExecutionContext> split(long min, long max, int gridSize) {
+        if (gridSize < 1) {
+            throw new IllegalArgumentException("파티션 수는 1 이상이어야 합니다.");
+        }
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (max < min) {
+            // 동영상이 없어도 step은 정상 종료되도록 빈 구간 하나
+            partitions.put("partition0", context(min, max));
+            return partitions;
+        }
+
+        long size = Math.max(1, (max - min + gridSize) / gridSize);
+        long start = min;
+        for (int i = 0; start <= max; i++) {
+            long end = Math.min(max, start + size - 1);
+            partitions.put("partition" + i, context(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private static ExecutionContext context(long min, long max) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_VIDEO_ID, min);
+        context.putLong(MAX_VIDEO_ID, max);
+        return context;
+    }
+}
@@ -0,0 +1,32 @@
+// ========================================
+// BatchWatermark.java (배치 반영 기준일)
+// ========================================
+package org.sparta.streaming.batch.watermark;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 증분 집계 테이블이 어느 날짜까지 반영됐는지 (이름당 한 행, BatchWatermarks로 읽고 씀, docs/batch-rollups.md)
+ */
+@Entity
+@Table(name = "batch_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchWatermark {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "as_of_date")
+    private LocalDate asOfDate;  // 이 날짜까지 반영됨 (null이면 아직 없음)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
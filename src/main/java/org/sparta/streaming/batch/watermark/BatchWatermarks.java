@@ -0,0 +1,57 @@
+// ========================================
+// BatchWatermarks.java (배치 반영 기준일 조회/갱신)
+// ========================================
+package org.sparta.streaming.batch.watermark;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 호출한 트랜잭션 안에서 쓴다.
+ * lock으로 행을 잡은 뒤 집계와 set을 같은 트랜잭션에서 하면 같은 집계를 동시에 두 번 반영하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchWatermarks {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 행 잠금 후 반영 기준일 (처음이면 null)
+     */
+    public LocalDate lock(String name) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO batch_watermarks (name, as_of_date, updated_at) VALUES (?, NULL, NOW())", name);
+        List<Date> dates = jdbcTemplate.queryForList(
+                "SELECT as_of_date FROM batch_watermarks WHERE name = ? FOR UPDATE", Date.class, name);
+        return dates.isEmpty() || dates.get(0) == null ? null : dates.get(0).toLocalDate();
+    }
+
+    public LocalDate get(String name) {
+        List<Date> dates = jdbcTemplate.queryForList(
+                "SELECT as_of_date FROM batch_watermarks WHERE name = ?", Date.class, name);
+        return dates.isEmpty() || dates.get(0) == null ? null : dates.get(0).toLocalDate();
+    }
+
+    public void set(String name, LocalDate asOfDate) {
+        jdbcTemplate.update("UPDATE batch_watermarks SET as_of_date = ?, updated_at = NOW() WHERE name = ?",
+                asOfDate, name);
+    }
+
+    /**
+     * asOfDate가 더 늦을 때만 올린다 (잠금 없이 한 문장, 행이 없으면 만든다)
+     */
+    public void advance(String name, LocalDate asOfDate) {
+        jdbcTemplate.update("""
+                INSERT INTO batch_watermarks (name, as_of_date, updated_at) VALUES (?, ?, NOW()) AS incoming
+                ON DUPLICATE KEY UPDATE
+                    as_of_date = GREATEST(COALESCE(batch_watermarks.as_of_date, incoming.as_of_date), incoming.as_of_date),
+                    updated_at = NOW()
+                """, name, asOfDate);
+    }
+}
@@ -0,0 +1,214 @@
+// ========================================
+// PeriodResponseCache.java (지난 기간 조회 응답 캐시)
+// ========================================
+package org.sparta.streaming.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.redis.RedisStore;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 통계/정산 조회 응답을 JSON 바이트로 캐시한다.
+ *
+ * - 닫힌 기간의 응답만 캐시하고 강한 ETag, Cache-Control을 붙인다.
+ *   SELLER 권한이 필요한 응답이므로 private(공유 프록시/CDN에 저장 금지) + Vary: Authorization으로 내려준다.
+ *   If-None-Match가 같으면 스프링(HttpEntityMethodProcessor)이 본문 없이 304로 응답한다.
+ * - 닫힌 기간: 마지막 날이 오늘보다 이전이고, 그 날짜까지 해당 Job이 완료된 기간
+ *   (ResponseCacheInvalidationListener가 완료된 targetDate를 completionWatermark(job)에 기록)
+ *   자정 직후처럼 배치가 아직 돌지 않은 기간은 캐시하지 않는다.
+ * - 진행 중인 기간은 캐시하지 않고 매번 조회한다.
+ * - 배치가 어떤 날짜를 (다시) 처리하면 그 날짜를 포함하는 기간의 응답을 모두 비우고,
+ *   Redis 채널로 알려 API 노드도 비운다. 메시지를 놓친 노드도 expire 시간 안에는 반영된다.
+ * - 무효화를 다른 노드에 알릴 수 없으면(RedisStore 없음) 캐시하지 않는다.
+ */
+@Slf4j
+public class PeriodResponseCache {
+
+    static final String INVALIDATION_CHANNEL = "response-cache:invalidate";
+
+    private record CachedResponse(byte[] body, String etag, LocalDate start, LocalDate end) {
+
+        boolean covers(LocalDate date) {
+            return !date.isBefore(start) && !date.isAfter(end);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final RedisStore redisStore;
+    private final Function<String, LocalDate> completedThrough;
+    private final Clock clock;
+    private final CacheControl closedPeriodCacheControl;
+    private final Cache<String, CachedResponse> responses;
+    // Job별 완료 기준일 (요청마다 DB를 읽지 않도록 잠깐 보관, 무효화 시 다시 읽음)
+    private final Cache<String, Optional<LocalDate>> watermarks;
+
+    // 조회 중에 무효화가 일어났으면 조회 결과(옛 데이터)를 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * @param redisStore       null이면 캐시하지 않는다 (배치 노드의 무효화를 받을 수 없음)
+     * @param completedThrough Job 이름 → 완료된 마지막 targetDate (없으면 null)
+     * @param clock            배치와 같은 시간대 (컨트롤러의 기본 날짜도 today()로 같은 시계를 쓴다)
+     */
+    public PeriodResponseCache(ObjectMapper objectMapper,
+                               RedisStore redisStore,
+                               Function<String, LocalDate> completedThrough,
+                               Clock clock,
+                               long maxBytes,
+                               long expireSeconds,
+                               long maxAgeSeconds,
+                               long watermarkRefreshSeconds) {
+        this.objectMapper = objectMapper;
+        this.redisStore = redisStore;
+        this.completedThrough = completedThrough;
+        this.clock = clock;
+        this.closedPeriodCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePrivate()
+                .mustRevalidate();
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> response.body().length)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        this.watermarks = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(watermarkRefreshSeconds))
+                .build();
+
+        if (redisStore != null) {
+            redisStore.subscribe(INVALIDATION_CHANNEL, this::onRemoteInvalidation);
+        }
+    }
+
+    /**
+     * Job 완료 기준일 이름 (batch_watermarks.name)
+     */
+    public static String completionWatermark(String job) {
+        return "response-cache:" + job;
+    }
+
+    /**
+     * 닫힌 기간 판단과 같은 시계 기준 오늘 (BatchDates.ZONE)
+     */
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * @param job      기간 데이터를 만드는 Job (이 Job이 end까지 완료돼야 닫힌 기간)
+     * @param endpoint 경로와 기간 외 파라미터 (예: statistics/daily/views?limit=5)
+     * @param start    기간 첫날
+     * @param end      기간 마지막 날
+     * @param loader   캐시에 없을 때 응답 객체 조회
+     */
+    public ResponseEntity<byte[]> respond(String job, String endpoint, LocalDate start, LocalDate end,
+                                          Supplier<?> loader) {
+        if (!isClosed(job, end)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(serialize(loader.get()));
+        }
+
+        String key = endpoint + ":" + start + ":" + end;
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached == null) {
+            long generation = invalidations.get();
+            byte[] body = serialize(loader.get());
+            cached = new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", start, end);
+            responses.put(key, cached);
+            if (invalidations.get() != generation) {
+                responses.invalidate(key);
+            }
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cached.etag())
+                .cacheControl(closedPeriodCacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(cached.body());
+    }
+
+    /**
+     * date를 포함하는 기간의 응답을 모두 비운다 (배치가 date를 처리한 뒤)
+     */
+    public void invalidate(LocalDate date) {
+        invalidateLocal(date);
+        if (redisStore == null) {
+            return;
+        }
+        try {
+            redisStore.publish(INVALIDATION_CHANNEL, date.toString());
+        } catch (RuntimeException e) {
+            log.warn("응답 캐시 무효화 전파 실패: date={}", date, e);
+        }
+    }
+
+    /**
+     * 캐시를 켤 수 있는지 (무효화를 받을 RedisStore가 있을 때만)
+     */
+    public boolean isEnabled() {
+        return redisStore != null;
+    }
+
+    public CacheStats getStats() {
+        return responses.stats();
+    }
+
+    public long getSize() {
+        return responses.estimatedSize();
+    }
+
+    private void onRemoteInvalidation(String message) {
+        try {
+            invalidateLocal(LocalDate.parse(message));
+        } catch (DateTimeParseException e) {
+            log.warn("알 수 없는 응답 캐시 무효화 메시지: {}", message);
+        }
+    }
+
+    private void invalidateLocal(LocalDate date) {
+        invalidations.incrementAndGet();
+        // 무효화는 Job이 끝난 뒤에 오므로 완료 기준일도 다시 읽는다
+        watermarks.invalidateAll();
+        responses.asMap().values().removeIf(response -> response.covers(date));
+    }
+
+    private boolean isClosed(String job, LocalDate end) {
+        if (!isEnabled() || !end.isBefore(today())) {
+            return false;
+        }
+        try {
+            Optional<LocalDate> watermark = watermarks.get(job, key -> Optional.ofNullable(completedThrough.apply(key)));
+            return watermark.isPresent() && !end.isAfter(watermark.get());
+        } catch (RuntimeException e) {
+            log.warn("응답 캐시 완료 기준일 조회 실패: job={}", job, e);
+            return false;
+        }
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// ========================================
+// PeriodResponseCacheConfig.java (지난 기간 조회 응답 캐시 설정)
+// ========================================
+package org.sparta.streaming.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.sparta.streaming.redis.RedisStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * RedisStore 빈이 있어야(streaming.redis.mode 설정) 배치 노드의 무효화가 API 노드까지 전달되므로 캐시한다.
+ * 없으면 매번 조회한다.
+ * 닫힌 기간 판단은 배치와 같은 시간대(BatchDates.ZONE), Job 완료 기준일(batch_watermarks) 기준
+ */
+@Configuration
+public class PeriodResponseCacheConfig {
+
+    @Bean
+    public PeriodResponseCache periodResponseCache(
+            ObjectMapper objectMapper,
+            ObjectProvider<RedisStore> redisStore,
+            BatchWatermarks batchWatermarks,
+            @Value("${streaming.response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${streaming.response-cache.expire-seconds:3600}") long expireSeconds,
+            @Value("${streaming.response-cache.max-age-seconds:60}") long maxAgeSeconds,
+            @Value("${streaming.response-cache.watermark-refresh-seconds:30}") long watermarkRefreshSeconds) {
+        return new PeriodResponseCache(objectMapper, redisStore.getIfAvailable(),
+                job -> batchWatermarks.get(PeriodResponseCache.completionWatermark(job)),
+                Clock.system(BatchDates.ZONE), maxBytes, expireSeconds, maxAgeSeconds, watermarkRefreshSeconds);
+    }
+}
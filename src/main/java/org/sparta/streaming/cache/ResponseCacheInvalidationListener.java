@@ -0,0 +1,44 @@
+// ========================================
+// ResponseCacheInvalidationListener.java (배치 종료 시 응답 캐시 무효화)
+// ========================================
+package org.sparta.streaming.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 통계/정산 Job이 끝나면 targetDate를 포함하는 기간의 응답 캐시를 비운다.
+ * 실패한 실행도 일부 청크는 커밋되었을 수 있으므로 상태와 관계없이 비운다.
+ * 완료된 실행이면 먼저 Job 완료 기준일을 올려 API 노드가 그 날짜까지를 닫힌 기간으로 본다.
+ */
+@Slf4j
+@Component
+@Profile("batch")
+@RequiredArgsConstructor
+public class ResponseCacheInvalidationListener implements JobExecutionListener {
+
+    private final PeriodResponseCache responseCache;
+    private final BatchWatermarks watermarks;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        LocalDate date = BatchDates.targetDateOrYesterday(
+                jobExecution.getJobParameters().getLocalDate(BatchDates.TARGET_DATE));
+        String job = jobExecution.getJobInstance().getJobName();
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            watermarks.advance(PeriodResponseCache.completionWatermark(job), date);
+        }
+        responseCache.invalidate(date);
+        log.info("응답 캐시 무효화: job={}, date={}, status={}",
+                job, date, jobExecution.getStatus());
+    }
+}
@@ -4,10 +4,13 @@
 package org.sparta.streaming.config;
 
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.datasource.init.DataSourceInitializer;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 
@@ -33,4 +36,19 @@ public class BatchConfig {
 
         return dataSourceInitializer;
     }
-}
\ No newline at end of file
+
+    /**
+     * 파티션 worker step 실행용
+     * 파티션 하나가 커서 커넥션 + 트랜잭션 커넥션을 쓰므로 threads * 2가 커넥션 풀보다 작아야 한다
+     */
+    @Bean
+    @Profile("batch")
+    public TaskExecutor batchPartitionExecutor(@Value("${streaming.batch.threads:4}") int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("배치 스레드 수는 1 이상이어야 합니다.");
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-partition-");
+        executor.setConcurrencyLimit(threads);
+        return executor;
+    }
+}
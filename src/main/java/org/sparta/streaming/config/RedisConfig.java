@@ -0,0 +1,51 @@
+// ========================================
+// RedisConfig.java (Redis 연결 설정)
+// ========================================
+package org.sparta.streaming.config;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import org.sparta.streaming.redis.InMemoryRedisStore;
+import org.sparta.streaming.redis.LettuceRedisStore;
+import org.sparta.streaming.redis.RedisStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+
+/**
+ * streaming.redis.mode
+ * - lettuce   : 실제 Redis 사용 (spring.data.redis.* 접속 정보)
+ * - in-memory : 인메모리 대체 구현 (테스트/로컬)
+ * - 미지정     : RedisStore 빈을 만들지 않음
+ */
+@Configuration
+public class RedisConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "streaming.redis.mode", havingValue = "lettuce")
+    public RedisClient redisClient(@Value("${spring.data.redis.host:localhost}") String host,
+                                   @Value("${spring.data.redis.port:6379}") int port,
+                                   @Value("${spring.data.redis.password:}") String password) {
+        RedisURI.Builder uri = RedisURI.Builder.redis(host, port);
+        if (StringUtils.hasText(password)) {
+            uri.withPassword(password.toCharArray());
+        }
+        return RedisClient.create(uri.build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "streaming.redis.mode", havingValue = "lettuce")
+    public RedisStore lettuceRedisStore(RedisClient redisClient) {
+        return new LettuceRedisStore(redisClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "streaming.redis.mode", havingValue = "in-memory")
+    public RedisStore inMemoryRedisStore() {
+        return new InMemoryRedisStore(Clock.systemUTC());
+    }
+}
@@ -0,0 +1,81 @@
+// ========================================
+// VirtualThreadConfig.java (가상 스레드 실행 모드)
+// ========================================
+package org.sparta.streaming.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import java.util.concurrent.Executors;
+
+/**
+ * streaming.virtual-threads.enabled=true (streaming 프로필)
+ * - Tomcat 요청 처리: 요청마다 가상 스레드 (JDBC 대기 중에는 carrier 스레드를 놓아줌)
+ * - applicationTaskExecutor(@Async, MVC 비동기), @Scheduled: 가상 스레드
+ * - 백그라운드 작업 스레드: WorkerThreads
+ * - DataSource: 풀 크기만큼만 동시에 커넥션을 요청하도록 BoundedDataSource로 감쌈
+ *
+ * pinning 방지
+ * - MySQL 드라이버는 synchronized 대신 ReentrantLock을 쓰는 mysql-connector-j 9.x 사용
+ * - HikariCP 5.1+도 ReentrantLock 기반
+ * - 로더가 DB를 조회하는 캐시는 ConcurrentHashMap.compute(synchronized) 밖에서 조회 (AdBreakIndexCache)
+ * - 점검: JAVA_TOOL_OPTIONS=-Djdk.tracePinnedThreads=short 로 고정된 스택 출력
+ */
+@Slf4j
+@Configuration
+@Profile("streaming")
+@ConditionalOnProperty(name = "streaming.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("가상 스레드 모드: Tomcat 요청을 가상 스레드로 처리");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("task-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean
+    public TaskScheduler taskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setVirtualThreads(true);
+        return scheduler;
+    }
+
+    /**
+     * Hikari 풀 크기 가드
+     * BeanPostProcessor라 static으로 등록 (설정 클래스보다 먼저 생성)
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int poolSize = hikari.getMaximumPoolSize();
+                long timeoutMillis = hikari.getConnectionTimeout();
+                log.info("가상 스레드 모드: 커넥션 동시 요청을 풀 크기({})로 제한, 대기 {}ms", poolSize, timeoutMillis);
+                return new BoundedDataSource(hikari, poolSize, timeoutMillis);
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+// ========================================
+// WorkerThreads.java (백그라운드 작업 스레드 생성)
+// ========================================
+package org.sparta.streaming.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 위치 flush, 광고 시청 적재, 저널 반영 등 백그라운드 작업 스레드
+ * streaming 프로필에서 streaming.virtual-threads.enabled=true면 가상 스레드, 아니면 데몬 플랫폼 스레드
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(@Value("${streaming.virtual-threads.enabled:false}") boolean enabled,
+                         Environment environment) {
+        this.virtual = enabled && environment.acceptsProfiles(Profiles.of("streaming"));
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory factory(String name) {
+        if (virtual) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public Thread start(String name, Runnable task) {
+        Thread thread = factory(name).newThread(task);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,85 @@
+// ========================================
+// AdImpressionRollupTasklet.java (일별 광고 노출 집계)
+// ========================================
+package org.sparta.streaming.domain.ad.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 적재일(created_at) 구간의 광고 시청 기록을 (광고 지점, 시청일, 적재일)별로 세어 daily_ad_impression_rollup에 덮어쓴다.
+ * 원본은 created_at 반열림 구간으로만 읽어 파티션 하나(또는 밀린 날짜만큼)만 본다.
+ *
+ * - 반영 기준일(watermark) 다음 날부터 targetDate까지 한 문장으로 집계 (밀린 날짜 자동 포함)
+ * - targetDate가 이미 반영된 날이면 그 적재일만 다시 집계 (재실행)
+ * - 처음이면 전체 이력을 집계
+ * 늦게 들어온 노출(시청은 어제, 기록은 오늘)은 오늘 적재일 행으로 들어가므로 예전 적재일 집계는 다시 읽지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("batch")
+@RequiredArgsConstructor
+public class AdImpressionRollupTasklet implements Tasklet {
+
+    public static final String WATERMARK = "daily_ad_impression_rollup";
+
+    private static final String ROLLUP_SQL = """
+            INSERT INTO daily_ad_impression_rollup
+                (video_ads_id, video_id, watched_date, ingested_date, impression_count, updated_at)
+            SELECT r.video_ads_id, r.video_id, r.watched_date, r.ingested_date, r.impression_count, NOW()
+            FROM (
+                SELECT awh.video_ads_id,
+                       va.video_id,
+                       DATE(awh.watched_at) AS watched_date,
+                       DATE(awh.created_at) AS ingested_date,
+                       COUNT(*) AS impression_count
+                FROM ad_watch_history awh
+                INNER JOIN video_ads va ON va.video_ads_id = awh.video_ads_id
+                WHERE awh.view_counted = true
+                  AND awh.created_at >= ?
+                  AND awh.created_at < ?
+                GROUP BY awh.video_ads_id, va.video_id, DATE(awh.watched_at), DATE(awh.created_at)
+            ) r
+            ON DUPLICATE KEY UPDATE
+                impression_count = r.impression_count,
+                updated_at = NOW()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchWatermarks watermarks;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDate targetDate = BatchDates.targetDateOrYesterday(
+                (LocalDate) chunkContext.getStepContext().getJobParameters().get(BatchDates.TARGET_DATE));
+
+        LocalDate watermark = watermarks.lock(WATERMARK);
+        LocalDate from = fromDate(watermark, targetDate);
+        int affected = jdbcTemplate.update(ROLLUP_SQL, BatchDates.startOf(from), BatchDates.endOf(targetDate));
+        contribution.incrementWriteCount(affected);
+        log.info("광고 노출 집계: 적재일 {} ~ {}, affected={}", from, targetDate, affected);
+
+        if (watermark == null || targetDate.isAfter(watermark)) {
+            watermarks.set(WATERMARK, targetDate);
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    static LocalDate fromDate(LocalDate watermark, LocalDate targetDate) {
+        if (watermark == null) {
+            return LocalDate.EPOCH;
+        }
+        return targetDate.isAfter(watermark) ? watermark.plusDays(1) : targetDate;
+    }
+}
@@ -0,0 +1,42 @@
+// ========================================
+// DailyAdRollupBatchConfig.java
+// ========================================
+package org.sparta.streaming.domain.ad.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Profile("batch")  // batch 프로필에서만 활성화
+@RequiredArgsConstructor
+public class DailyAdRollupBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final AdImpressionRollupTasklet adImpressionRollupTasklet;
+
+    /**
+     * 일별 광고 노출 집계 Job (정산 전에 실행)
+     */
+    @Bean
+    public Job dailyAdRollupJob() {
+        return new JobBuilder("dailyAdRollupJob", jobRepository)
+                .start(adImpressionRollupStep())
+                .build();
+    }
+
+    @Bean
+    public Step adImpressionRollupStep() {
+        return new StepBuilder("adImpressionRollupStep", jobRepository)
+                .tasklet(adImpressionRollupTasklet, transactionManager)
+                .build();
+    }
+}
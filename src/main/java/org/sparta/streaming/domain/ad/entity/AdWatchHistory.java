@@ -13,10 +13,16 @@ import org.sparta.streaming.domain.user.entity.User;
 
 import java.time.LocalDateTime;
 
+/**
+ * created_at 월 단위 RANGE 파티션 테이블 (docs/partitioning.md)
+ * 파티션 테이블은 외래 키를 가질 수 없어 FK 제약을 만들지 않는다.
+ */
 @Entity
 @Table(name = "ad_watch_history",
         indexes = {
-                @Index(name = "idx_adwatch_video_ads_user", columnList = "video_ads_id, user_id")
+                @Index(name = "idx_adwatch_video_ads_user", columnList = "video_ads_id, user_id"),
+                @Index(name = "idx_adwatch_created_at", columnList = "created_at"),
+                @Index(name = "idx_adwatch_journal_event", columnList = "journal_id, journal_sequence")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,11 +34,13 @@ public class AdWatchHistory {
     private Long recordId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "video_ads_id", nullable = false)
+    @JoinColumn(name = "video_ads_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private VideoAds videoAds;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(name = "watched_at", nullable = false)
@@ -48,6 +56,13 @@ public class AdWatchHistory {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 저널로 반영된 행의 이벤트 id (저널 재반영 시 중복 확인, 그 외에는 null)
+    @Column(name = "journal_id", length = 100)
+    private String journalId;
+
+    @Column(name = "journal_sequence")
+    private Long journalSequence;
+
     @Builder
     private AdWatchHistory(VideoAds videoAds, User user, Boolean viewCounted, String ipAddress) {
         this.videoAds = videoAds;
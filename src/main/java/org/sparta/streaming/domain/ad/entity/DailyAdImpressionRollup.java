@@ -0,0 +1,54 @@
+// ========================================
+// DailyAdImpressionRollup.java (일별 광고 노출 집계)
+// ========================================
+package org.sparta.streaming.domain.ad.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ad_watch_history(view_counted = true)를 (광고 지점, 시청일, 적재일)별 건수로 모은 테이블
+ * - watched_date : 실제로 본 날 (watched_at, 리포트 기준)
+ * - ingested_date: 기록된 날 (created_at, 정산 기준)
+ * 늦게 들어온 노출은 적재일 집계 때 해당 시청일 행만 갱신된다. (AdImpressionRollupTasklet, 스키마는 docs/batch-rollups.md)
+ */
+@Entity
+@Table(name = "daily_ad_impression_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ad_rollup",
+                columnNames = {"video_ads_id", "ingested_date", "watched_date"}),
+        indexes = {
+                @Index(name = "idx_ad_rollup_ingested", columnList = "ingested_date, video_id"),
+                @Index(name = "idx_ad_rollup_video_watched", columnList = "video_id, watched_date")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyAdImpressionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "video_ads_id", nullable = false)
+    private Integer videoAdsId;
+
+    @Column(name = "video_id", nullable = false)
+    private Integer videoId;
+
+    @Column(name = "watched_date", nullable = false)
+    private LocalDate watchedDate;
+
+    @Column(name = "ingested_date", nullable = false)
+    private LocalDate ingestedDate;
+
+    @Column(name = "impression_count", nullable = false)
+    private Long impressionCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,5 @@
 // ========================================
-// VideoAds.java (동영상-광고 매핑) - 자동 생성됨
+// VideoAds.java (동영상-광고 매핑) - 업로드 시 생성됨
 // ========================================
 package org.sparta.streaming.domain.ad.entity;
 
@@ -9,12 +9,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.sparta.streaming.domain.ad.index.VideoAdsIndexListener;
 import org.sparta.streaming.domain.video.entity.Video;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "video_ads")
+@Table(name = "video_ads",
+        uniqueConstraints = @UniqueConstraint(name = "uk_video_ads_position", columnNames = {"video_id", "position_seconds"}))
+@EntityListeners(VideoAdsIndexListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VideoAds {
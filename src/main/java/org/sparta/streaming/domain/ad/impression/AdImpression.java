@@ -0,0 +1,13 @@
+// ========================================
+// AdImpression.java (광고 시청 1건)
+// ========================================
+package org.sparta.streaming.domain.ad.impression;
+
+import java.time.LocalDateTime;
+
+/**
+ * ad_watch_history 한 행에 해당하는 값 (엔티티 없이 JDBC로 기록)
+ */
+public record AdImpression(int videoAdsId, int userId, String ipAddress, boolean viewCounted,
+                           LocalDateTime watchedAt) {
+}
@@ -0,0 +1,335 @@
+// ========================================
+// AdImpressionPipeline.java (광고 시청 기록 비동기 적재)
+// ========================================
+package org.sparta.streaming.domain.ad.impression;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.config.WorkerThreads;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재생 중단 시 통과한 광고들을 ad_watch_history에 기록한다.
+ * - 동기 (기본) : 호출한 트랜잭션 안에서 multi-row INSERT 한 번
+ * - 비동기      : 커밋 후 큐에 넣고, 소비 스레드가 batch-size 또는 linger 시간만큼 모아서 INSERT
+ * 큐가 가득 차면 offer-timeout 동안 기다리고, 그래도 자리가 없으면 호출한 스레드가 직접 기록한다.
+ *
+ * 비동기 모드의 실패 처리
+ * - 실행 중에는 버리지 않는다. 소비 스레드는 기록될 때까지 backoff하며 재시도하고, 그동안 큐가 차면
+ *   호출한 스레드가 직접 기록한다.
+ * - 직접 기록도 실패하면 재생 중단은 이미 커밋되었으므로 예외를 던지지 않는다.
+ *   그 행들은 spill 목록으로 넘겨 소비 스레드가 재시도하게 하고 spilled로 센다.
+ * - 큐는 메모리에만 있으므로 프로세스가 비정상 종료되면 큐에 있던 기록(최대 queue-capacity건)을 잃고,
+ *   정상 종료 때 DB가 계속 실패하면 남은 기록을 버리고 dropped로 센다.
+ *   유실이 허용되지 않으면 동기 모드나 저널(streaming.journal.enabled=true, 광고도 저널에 먼저 기록)을 쓴다.
+ */
+@Slf4j
+@Component
+public class AdImpressionPipeline {
+
+    // 종료 중에는 이 횟수만 재시도
+    private static final int MAX_SHUTDOWN_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final AdImpressionWriter writer;
+    private final WorkerThreads workerThreads;
+    private final boolean async;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<AdImpression> queue;
+    // 큐가 가득 찬 상태에서 직접 기록도 실패한 묶음 (소비 스레드가 먼저 재시도)
+    private final ConcurrentLinkedQueue<List<AdImpression>> spill = new ConcurrentLinkedQueue<>();
+
+    // 메트릭
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong callerWrites = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong droppedRows = new AtomicLong();
+    private final AtomicLong spilledRows = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public AdImpressionPipeline(AdImpressionWriter writer,
+                                WorkerThreads workerThreads,
+                                @Value("${streaming.ad-impression.async:false}") boolean async,
+                                @Value("${streaming.ad-impression.queue-capacity:10000}") int queueCapacity,
+                                @Value("${streaming.ad-impression.batch-size:500}") int batchSize,
+                                @Value("${streaming.ad-impression.linger-ms:50}") long lingerMillis,
+                                @Value("${streaming.ad-impression.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        this.writer = writer;
+        this.workerThreads = workerThreads;
+        this.async = async;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!async) {
+            return;
+        }
+        running = true;
+        consumer = workerThreads.start("ad-impression-writer", this::consumeLoop);
+        log.info("광고 시청 기록 비동기 적재 활성화: batchSize={}, linger={}ms, capacity={}",
+                batchSize, lingerMillis, queue.remainingCapacity());
+    }
+
+    /**
+     * 종료 시 큐에 남은 기록을 모두 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (consumer == null) {
+            return;
+        }
+        // 소비 스레드는 늦어도 linger 시간 안에 현재 batch를 기록하고 종료
+        running = false;
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<AdImpression> remaining = new ArrayList<>(queue.size());
+        drainSpill(remaining);
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            writeUntilWritten(remaining);
+        }
+        log.info("광고 시청 기록 큐 종료 flush: {}건", remaining.size());
+    }
+
+    /**
+     * 광고 시청 기록 제출
+     * 비동기 모드에서는 트랜잭션 커밋 후 큐에 넣는다. (롤백된 재생 중단의 광고는 기록하지 않음)
+     */
+    public void submit(List<AdImpression> impressions) {
+        if (impressions.isEmpty()) {
+            return;
+        }
+        if (!async) {
+            long started = System.nanoTime();
+            writer.write(impressions);
+            recordFlush(impressions.size(), System.nanoTime() - started);
+            return;
+        }
+        TransactionHooks.afterCommit(() -> enqueue(impressions));
+    }
+
+    private void enqueue(List<AdImpression> impressions) {
+        for (int i = 0; i < impressions.size(); i++) {
+            if (!offer(impressions.get(i))) {
+                // backpressure: 큐가 비지 않으면 호출한 스레드가 나머지를 직접 기록 (실패하면 spill)
+                callerWrites.incrementAndGet();
+                writeInCaller(impressions.subList(i, impressions.size()));
+                return;
+            }
+        }
+    }
+
+    private boolean offer(AdImpression impression) {
+        try {
+            return queue.offer(impression, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void consumeLoop() {
+        List<AdImpression> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                retrySpilled();
+                AdImpression first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 건 이후 linger 시간 동안 batch-size까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+                    AdImpression next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                writeUntilWritten(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                writeUntilWritten(batch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 커밋 후에 호출되므로 실패해도 예외를 던지지 않고 spill로 넘긴다
+     */
+    private void writeInCaller(List<AdImpression> impressions) {
+        long started = System.nanoTime();
+        try {
+            writer.write(impressions);
+        } catch (RuntimeException e) {
+            failedWrites.incrementAndGet();
+            spill.add(List.copyOf(impressions));
+            spilledRows.addAndGet(impressions.size());
+            log.warn("광고 시청 기록 직접 기록 실패, 소비 스레드 재시도로 넘김: {}건", impressions.size(), e);
+            return;
+        }
+        recordFlush(impressions.size(), System.nanoTime() - started);
+    }
+
+    private void retrySpilled() {
+        List<AdImpression> spilled;
+        while ((spilled = spill.poll()) != null) {
+            writeUntilWritten(spilled);
+        }
+    }
+
+    private void drainSpill(List<AdImpression> target) {
+        List<AdImpression> spilled;
+        while ((spilled = spill.poll()) != null) {
+            target.addAll(spilled);
+        }
+    }
+
+    /**
+     * 기록될 때까지 재시도 (실행 중이면 제한 없이, 종료 중이면 MAX_SHUTDOWN_ATTEMPTS번)
+     * 소비 스레드가 여기서 멈춰 있는 동안 큐가 차면 호출한 스레드가 직접 기록한다.
+     */
+    private void writeUntilWritten(List<AdImpression> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long backoffMillis = RETRY_BACKOFF_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            long started = System.nanoTime();
+            try {
+                writer.write(batch);
+                recordFlush(batch.size(), System.nanoTime() - started);
+                return;
+            } catch (RuntimeException e) {
+                failedWrites.incrementAndGet();
+                log.warn("광고 시청 기록 적재 실패 ({}번째): {}건", attempt, batch.size(), e);
+            }
+            if ((!running && attempt >= MAX_SHUTDOWN_ATTEMPTS) || !sleepQuietly(backoffMillis)) {
+                break;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+        droppedRows.addAndGet(batch.size());
+        log.error("종료 중 광고 시청 기록 {}건을 기록하지 못했습니다.", batch.size());
+    }
+
+    private void recordFlush(int rows, long elapsedNanos) {
+        flushCount.incrementAndGet();
+        flushedRows.addAndGet(rows);
+        totalFlushNanos.addAndGet(elapsedNanos);
+        lastFlushNanos.set(elapsedNanos);
+        maxFlushNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    private static boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 직접 기록에 실패해 소비 스레드의 재시도를 기다리는 행 수
+     */
+    public int getSpillDepth() {
+        return spill.stream().mapToInt(List::size).sum();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFlushedRows() {
+        return flushedRows.get();
+    }
+
+    public long getLastFlushNanos() {
+        return lastFlushNanos.get();
+    }
+
+    public long getMaxFlushNanos() {
+        return maxFlushNanos.get();
+    }
+
+    public long getTotalFlushNanos() {
+        return totalFlushNanos.get();
+    }
+
+    /**
+     * 큐가 가득 차서 호출한 스레드가 직접 기록한 횟수
+     */
+    public long getCallerWrites() {
+        return callerWrites.get();
+    }
+
+    /**
+     * 적재 실패 횟수 (재시도 포함)
+     */
+    public long getFailedWrites() {
+        return failedWrites.get();
+    }
+
+    /**
+     * 큐가 가득 찬 상태에서 직접 기록도 실패해 spill로 넘긴 행 수 (누적)
+     */
+    public long getSpilledRows() {
+        return spilledRows.get();
+    }
+
+    /**
+     * 종료 중 재시도 후에도 기록하지 못한 행 수
+     */
+    public long getDroppedRows() {
+        return droppedRows.get();
+    }
+}
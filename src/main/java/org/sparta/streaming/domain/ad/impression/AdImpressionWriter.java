@@ -0,0 +1,109 @@
+// ========================================
+// AdImpressionWriter.java (광고 시청 기록 multi-row INSERT)
+// ========================================
+package org.sparta.streaming.domain.ad.impression;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ad_watch_history는 IDENTITY PK라 Hibernate가 INSERT를 묶지 못하므로
+ * INSERT ... VALUES (...), (...), ... 한 문장으로 여러 행을 기록한다.
+ * JPA를 거치지 않으므로 created_at도 직접 넣는다.
+ */
+@Component
+public class AdImpressionWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO ad_watch_history (video_ads_id, user_id, watched_at, view_counted, ip_address, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 6;
+
+    // 저널 반영용: 이벤트 id(journal_id, journal_sequence)를 함께 기록
+    private static final String JOURNALED_INSERT_PREFIX =
+            "INSERT INTO ad_watch_history (video_ads_id, user_id, watched_at, view_counted, ip_address, created_at, "
+                    + "journal_id, journal_sequence) VALUES ";
+    private static final String JOURNALED_ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int JOURNALED_COLUMN_COUNT = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxRowsPerStatement;
+
+    public AdImpressionWriter(JdbcTemplate jdbcTemplate,
+                              @Value("${streaming.ad-impression.batch-size:500}") int maxRowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxRowsPerStatement = maxRowsPerStatement;
+    }
+
+    /**
+     * @return 기록한 행 수
+     */
+    public int write(List<AdImpression> impressions) {
+        int written = 0;
+        for (int from = 0; from < impressions.size(); from += maxRowsPerStatement) {
+            List<AdImpression> chunk = impressions.subList(from, Math.min(from + maxRowsPerStatement, impressions.size()));
+            written += jdbcTemplate.update(insertSql(INSERT_PREFIX, ROW_PLACEHOLDER, chunk.size()), toArgs(chunk));
+        }
+        return written;
+    }
+
+    /**
+     * 저널 이벤트 id와 함께 기록 (sequences는 impressions와 같은 순서)
+     * @return 기록한 행 수
+     */
+    public int writeJournaled(String journalId, List<AdImpression> impressions, List<Long> sequences) {
+        int written = 0;
+        for (int from = 0; from < impressions.size(); from += maxRowsPerStatement) {
+            int to = Math.min(from + maxRowsPerStatement, impressions.size());
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+            Object[] args = new Object[(to - from) * JOURNALED_COLUMN_COUNT];
+            int i = 0;
+            for (int row = from; row < to; row++) {
+                AdImpression impression = impressions.get(row);
+                args[i++] = impression.videoAdsId();
+                args[i++] = impression.userId();
+                args[i++] = Timestamp.valueOf(impression.watchedAt());
+                args[i++] = impression.viewCounted();
+                args[i++] = impression.ipAddress();
+                args[i++] = createdAt;
+                args[i++] = journalId;
+                args[i++] = sequences.get(row);
+            }
+            written += jdbcTemplate.update(
+                    insertSql(JOURNALED_INSERT_PREFIX, JOURNALED_ROW_PLACEHOLDER, to - from), args);
+        }
+        return written;
+    }
+
+    private static String insertSql(String prefix, String placeholder, int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (placeholder.length() + 2));
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholder);
+        }
+        return sql.toString();
+    }
+
+    private static Object[] toArgs(List<AdImpression> chunk) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        Object[] args = new Object[chunk.size() * COLUMN_COUNT];
+        int i = 0;
+        for (AdImpression impression : chunk) {
+            args[i++] = impression.videoAdsId();
+            args[i++] = impression.userId();
+            args[i++] = Timestamp.valueOf(impression.watchedAt());
+            args[i++] = impression.viewCounted();
+            args[i++] = impression.ipAddress();
+            args[i++] = createdAt;
+        }
+        return args;
+    }
+}
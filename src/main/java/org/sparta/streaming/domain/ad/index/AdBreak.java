@@ -0,0 +1,10 @@
+// ========================================
+// AdBreak.java (광고 삽입 지점 조회용 프로젝션)
+// ========================================
+package org.sparta.streaming.domain.ad.index;
+
+/**
+ * video_ads 한 행에서 인덱스에 필요한 값만 (엔티티 로딩 없음)
+ */
+public record AdBreak(Integer videoAdsId, Integer positionSeconds) {
+}
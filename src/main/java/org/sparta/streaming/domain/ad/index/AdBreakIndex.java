@@ -0,0 +1,90 @@
+// ========================================
+// AdBreakIndex.java (동영상별 광고 삽입 지점 인덱스)
+// ========================================
+package org.sparta.streaming.domain.ad.index;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 동영상의 광고 위치를 정렬된 int[]로 보관 (불변)
+ * positions[i] 위치의 광고가 videoAdsIds[i]
+ * (이전 위치, 현재 위치] 구간에 걸친 광고는 이진 탐색 두 번으로 찾는다.
+ */
+public final class AdBreakIndex {
+
+    public static final AdBreakIndex EMPTY = new AdBreakIndex(new int[0], new int[0]);
+
+    private final int[] positions;
+    private final int[] videoAdsIds;
+
+    private AdBreakIndex(int[] positions, int[] videoAdsIds) {
+        this.positions = positions;
+        this.videoAdsIds = videoAdsIds;
+    }
+
+    /**
+     * @param breaks 위치 오름차순으로 정렬된 광고 목록
+     */
+    public static AdBreakIndex of(List<AdBreak> breaks) {
+        if (breaks.isEmpty()) {
+            return EMPTY;
+        }
+        int[] positions = new int[breaks.size()];
+        int[] videoAdsIds = new int[breaks.size()];
+        for (int i = 0; i < breaks.size(); i++) {
+            AdBreak adBreak = breaks.get(i);
+            if (i > 0 && adBreak.positionSeconds() < positions[i - 1]) {
+                throw new IllegalArgumentException("광고 위치가 정렬되어 있지 않습니다.");
+            }
+            positions[i] = adBreak.positionSeconds();
+            videoAdsIds[i] = adBreak.videoAdsId();
+        }
+        return new AdBreakIndex(positions, videoAdsIds);
+    }
+
+    /**
+     * previousPosition < 위치 <= currentPosition 인 광고의 videoAdsId (위치순)
+     * 되감기(current <= previous)면 빈 배열
+     */
+    public int[] passedBetween(int previousPosition, int currentPosition) {
+        if (currentPosition <= previousPosition) {
+            return new int[0];
+        }
+        int from = upperBound(previousPosition);
+        int to = upperBound(currentPosition);
+        return Arrays.copyOfRange(videoAdsIds, from, to);
+    }
+
+    /**
+     * 광고 위치 목록 (클라이언트 광고 스케줄용)
+     */
+    public int[] positions() {
+        return positions.clone();
+    }
+
+    public int size() {
+        return positions.length;
+    }
+
+    public boolean isEmpty() {
+        return positions.length == 0;
+    }
+
+    /**
+     * position보다 큰 첫 원소의 인덱스
+     */
+    private int upperBound(int position) {
+        int low = 0;
+        int high = positions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] <= position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
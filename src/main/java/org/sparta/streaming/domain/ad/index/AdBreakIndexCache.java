@@ -0,0 +1,65 @@
+// ========================================
+// AdBreakIndexCache.java (광고 삽입 지점 인덱스 캐시)
+// ========================================
+package org.sparta.streaming.domain.ad.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sparta.streaming.domain.ad.repository.VideoAdsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * videoId → AdBreakIndex
+ * video_ads가 바뀌면 VideoAdsIndexListener가 커밋 후 해당 동영상 항목을 비운다.
+ * JPA를 거치지 않은 변경(직접 SQL 등)은 expire-after-write 시간 안에 반영된다.
+ *
+ * 로딩 캐시(compute 안에서 조회)를 쓰지 않는 이유: ConcurrentHashMap.compute는 synchronized라
+ * 그 안에서 DB를 조회하면 가상 스레드가 carrier 스레드에 고정된다. 동시 miss 시 중복 조회는 허용
+ */
+@Component
+public class AdBreakIndexCache {
+
+    private final VideoAdsRepository videoAdsRepository;
+    private final Cache<Integer, AdBreakIndex> indexes;
+    // 조회 중에 무효화가 일어났으면 조회 결과(옛 데이터)를 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AdBreakIndexCache(VideoAdsRepository videoAdsRepository,
+                             @Value("${streaming.ad-index.max-entries:50000}") long maxEntries,
+                             @Value("${streaming.ad-index.expire-after-write-seconds:3600}") long expireAfterWriteSeconds) {
+        this.videoAdsRepository = videoAdsRepository;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    public AdBreakIndex get(Integer videoId) {
+        AdBreakIndex index = indexes.getIfPresent(videoId);
+        if (index == null) {
+            long generation = invalidations.get();
+            index = load(videoId);
+            indexes.put(videoId, index);
+            if (invalidations.get() != generation) {
+                indexes.invalidate(videoId);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 캐시를 거치지 않고 DB에서 읽기 (커밋 전 데이터일 수 있어 캐시에 넣지 않음)
+     */
+    public AdBreakIndex load(Integer videoId) {
+        return AdBreakIndex.of(videoAdsRepository.findAdBreaksByVideoId(videoId));
+    }
+
+    public void invalidate(Integer videoId) {
+        invalidations.incrementAndGet();
+        indexes.invalidate(videoId);
+    }
+}
@@ -0,0 +1,33 @@
+// ========================================
+// VideoAdsIndexListener.java (video_ads 변경 시 인덱스 무효화)
+// ========================================
+package org.sparta.streaming.domain.ad.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.sparta.streaming.domain.ad.entity.VideoAds;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * VideoAds 엔티티 리스너 (Hibernate가 스프링 빈으로 생성)
+ * 캐시 → 리포지토리 → EntityManagerFactory 순환을 피하려고 캐시는 ObjectProvider로 지연 조회
+ * 커밋 전에 비우면 다른 요청이 옛 데이터로 다시 채울 수 있으므로 커밋 후에 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VideoAdsIndexListener {
+
+    private final ObjectProvider<AdBreakIndexCache> indexCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(VideoAds videoAds) {
+        Integer videoId = videoAds.getVideo().getVideoId();
+        TransactionHooks.afterCommit(() -> indexCache.ifAvailable(cache -> cache.invalidate(videoId)));
+    }
+}
@@ -1,7 +1,10 @@
 package org.sparta.streaming.domain.ad.repository;
 
 import org.sparta.streaming.domain.ad.entity.VideoAds;
+import org.sparta.streaming.domain.ad.index.AdBreak;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,8 +15,12 @@ public interface VideoAdsRepository extends JpaRepository<VideoAds, Integer> {
     // 특정 동영상의 광고 목록 (위치순)
     List<VideoAds> findByVideoVideoIdOrderByPositionSecondsAsc(Integer videoId);
 
-    // 특정 동영상의 광고 존재 여부
-    boolean existsByVideoVideoId(Integer videoId);
+    // 특정 동영상의 광고 위치만 조회 (광고 인덱스용, 엔티티 로딩 없음)
+    @Query("SELECT new org.sparta.streaming.domain.ad.index.AdBreak(va.videoAdsId, va.positionSeconds) " +
+            "FROM VideoAds va " +
+            "WHERE va.video.videoId = :videoId " +
+            "ORDER BY va.positionSeconds ASC, va.videoAdsId ASC")
+    List<AdBreak> findAdBreaksByVideoId(@Param("videoId") Integer videoId);
 
     // 특정 위치 이하의 광고들 조회
     List<VideoAds> findByVideoVideoIdAndPositionSecondsLessThanEqual(
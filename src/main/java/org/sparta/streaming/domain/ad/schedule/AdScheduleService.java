@@ -0,0 +1,151 @@
+// ========================================
+// AdScheduleService.java (동영상 광고 삽입 지점 생성)
+// ========================================
+package org.sparta.streaming.domain.ad.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.domain.ad.entity.Ad;
+import org.sparta.streaming.domain.ad.index.AdBreakIndexCache;
+import org.sparta.streaming.domain.ad.repository.AdRepository;
+import org.sparta.streaming.domain.video.entity.Video;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 업로드 시점에 interval-seconds마다 광고 삽입 지점을 video_ads에 한 문장(multi-row INSERT IGNORE)으로 만든다.
+ * (video_id, position_seconds) 유니크 제약이 있으므로 동시에 여러 번 호출돼도 중복 행이 생기지 않는다. (docs/ad-schedule.md)
+ * 재생 시에는 존재 여부를 묻지 않고, 인덱스가 비어 있는 예전 동영상만 한 번 채운다. (backfillIfMissing)
+ */
+@Slf4j
+@Service
+public class AdScheduleService {
+
+    private static final String INSERT_PREFIX =
+            "INSERT IGNORE INTO video_ads (video_id, ad_id, position_seconds, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 4;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AdRepository adRepository;
+    private final AdBreakIndexCache adBreakIndexCache;
+    private final int intervalSeconds;
+    // 예전 동영상 채우기를 시도한 videoId (동시 요청 중 하나만 INSERT, 노드당 expire 시간마다 최대 한 번)
+    private final Cache<Integer, Boolean> backfillAttempts;
+
+    public AdScheduleService(JdbcTemplate jdbcTemplate,
+                             AdRepository adRepository,
+                             AdBreakIndexCache adBreakIndexCache,
+                             @Value("${streaming.ad-schedule.interval-seconds:300}") int intervalSeconds,
+                             @Value("${streaming.ad-index.max-entries:50000}") long maxEntries,
+                             @Value("${streaming.ad-index.expire-after-write-seconds:3600}") long expireAfterWriteSeconds) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("광고 간격은 1초 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.adRepository = adRepository;
+        this.adBreakIndexCache = adBreakIndexCache;
+        this.intervalSeconds = intervalSeconds;
+        this.backfillAttempts = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    /**
+     * 광고 삽입 위치 (interval마다, 영상 끝 지점 제외)
+     * 5분 초과 → 5분에 1개, 10분 초과 → 5분, 10분에 2개
+     */
+    public static int[] positions(int videoLengthSeconds, int intervalSeconds) {
+        if (videoLengthSeconds <= intervalSeconds) {
+            return new int[0];
+        }
+        int[] positions = new int[(videoLengthSeconds - 1) / intervalSeconds];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = (i + 1) * intervalSeconds;
+        }
+        return positions;
+    }
+
+    /**
+     * 광고 삽입 지점 생성 (호출한 트랜잭션 안에서, 커밋 후 인덱스 무효화)
+     * @return 새로 만든 행 수
+     */
+    public int createSchedule(Video video) {
+        return createSchedule(video.getVideoId(), video.getVideoLengthSeconds());
+    }
+
+    private int createSchedule(Integer videoId, int videoLengthSeconds) {
+        int[] positions = positions(videoLengthSeconds, intervalSeconds);
+        if (positions.length == 0) {
+            return 0;
+        }
+
+        // 광고 하나 가져오기 (실제로는 여러 광고 중 랜덤 선택 등)
+        Optional<Ad> adOpt = adRepository.findFirstByOrderByAdIdAsc();
+        if (adOpt.isEmpty()) {
+            return 0;  // 등록된 광고가 없음
+        }
+
+        int inserted = jdbcTemplate.update(insertSql(positions.length),
+                toArgs(videoId, adOpt.get().getAdId(), positions));
+        TransactionHooks.afterCommit(() -> adBreakIndexCache.invalidate(videoId));
+        return inserted;
+    }
+
+    /**
+     * 광고 지점이 있어야 하는데 인덱스가 비어 있는 동영상(이 기능 이전에 업로드된 동영상) 채우기
+     * @return 이번 호출에서 광고 지점을 새로 만들었으면 true (인덱스 캐시는 커밋 후에 비워짐)
+     */
+    public boolean backfillIfMissing(Integer videoId, int videoLengthSeconds, boolean indexEmpty) {
+        if (!indexEmpty || videoLengthSeconds <= intervalSeconds) {
+            return false;
+        }
+        if (backfillAttempts.asMap().putIfAbsent(videoId, Boolean.TRUE) != null) {
+            return false;
+        }
+        try {
+            int inserted = createSchedule(videoId, videoLengthSeconds);
+            // 재생 트랜잭션이 롤백되면 INSERT도 사라지므로 다음 재생에서 다시 시도
+            TransactionHooks.afterRollback(() -> backfillAttempts.invalidate(videoId));
+            log.info("광고 지점 채움: videoId={}, {}건", videoId, inserted);
+            return inserted > 0;
+        } catch (RuntimeException e) {
+            backfillAttempts.invalidate(videoId);
+            throw e;
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private static Object[] toArgs(Integer videoId, Integer adId, int[] positions) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        Object[] args = new Object[positions.length * COLUMN_COUNT];
+        int i = 0;
+        for (int position : positions) {
+            args[i++] = videoId;
+            args[i++] = adId;
+            args[i++] = position;
+            args[i++] = createdAt;
+        }
+        return args;
+    }
+}
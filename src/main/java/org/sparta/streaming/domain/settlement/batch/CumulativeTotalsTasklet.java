@@ -0,0 +1,223 @@
+// ========================================
+// CumulativeTotalsTasklet.java (동영상별 누적 합계 갱신)
+// ========================================
+package org.sparta.streaming.domain.settlement.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.sparta.streaming.domain.ad.batch.AdImpressionRollupTasklet;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 정산 전에 video_cumulative_totals를 targetDate까지 반영한다. (정산 Step과 같은 트랜잭션 규칙: 실패하면 전부 롤백)
+ *
+ * - INCREMENTAL: targetDate 하루치(일간 통계 조회수 + 광고 시청 수)만 더한다.
+ *   반영 기준일(watermark)이 며칠 밀려 있으면 빠진 날짜부터 하루씩 채우고,
+ *   이미 targetDate까지 반영돼 있으면(재실행) targetDate 분을 빼고 다시 더한다.
+ *   그보다 이전 날짜는 하루치 증가분이 남아 있지 않아 REBUILD가 필요하다.
+ * - REBUILD: 전체 이력(일간 통계 + 광고 노출 집계)으로 targetDate까지 다시 만든다. (처음 한 번, 과거 통계를 다시 돌린 뒤)
+ * - VERIFY : 반영 기준일까지의 누적을 전체 이력과 비교만 하고 정산은 하지 않는다. 어긋나면 Step 실패.
+ */
+@Slf4j
+@Component
+@Profile("batch")
+@RequiredArgsConstructor
+public class CumulativeTotalsTasklet implements Tasklet {
+
+    public static final String MODE = "cumulativeMode";
+    public static final String WATERMARK = "video_cumulative_totals";
+    public static final ExitStatus VERIFIED = new ExitStatus("VERIFIED");
+
+    public enum Mode { INCREMENTAL, VERIFY, REBUILD }
+
+    // targetDate 하루 활동 (통계가 없어도 광고 시청만 있는 동영상 포함, 광고는 적재일 기준 집계에서)
+    private static final String DAY_ACTIVITY_SQL = """
+            SELECT video_id, SUM(views) AS views, SUM(ad_views) AS ad_views
+            FROM (
+                SELECT video_id, view_count AS views, 0 AS ad_views
+                FROM daily_video_statistics
+                WHERE stat_date = ?
+                UNION ALL
+                SELECT video_id, 0, SUM(impression_count)
+                FROM daily_ad_impression_rollup
+                WHERE ingested_date = ?
+                GROUP BY video_id
+            ) activity
+            GROUP BY video_id
+            """;
+
+    // 대입은 왼쪽부터 적용되므로 누적을 먼저, 하루치와 기준일을 나중에
+    private static final String ADVANCE_SQL = """
+            INSERT INTO video_cumulative_totals
+                (video_id, total_views, total_ad_views, day_views, day_ad_views, as_of_date, updated_at)
+            SELECT d.video_id, d.views, d.ad_views, d.views, d.ad_views, ?, NOW()
+            FROM (%s) d
+            ON DUPLICATE KEY UPDATE
+                total_views = total_views + d.views,
+                total_ad_views = total_ad_views + d.ad_views,
+                day_views = d.views,
+                day_ad_views = d.ad_views,
+                as_of_date = ?,
+                updated_at = NOW()
+            """.formatted(DAY_ACTIVITY_SQL);
+
+    // 재실행: 그날 더한 만큼 빼서 전날 기준으로 되돌린다
+    private static final String ROLLBACK_DAY_SQL = """
+            UPDATE video_cumulative_totals
+            SET total_views = total_views - day_views,
+                total_ad_views = total_ad_views - day_ad_views,
+                day_views = 0,
+                day_ad_views = 0,
+                as_of_date = ?,
+                updated_at = NOW()
+            WHERE as_of_date = ?
+            """;
+
+    // asOfDate까지 전체 합계 (REBUILD, VERIFY / 광고는 원본 대신 적재일 집계 합)
+    private static final String HISTORY_TOTALS_SQL = """
+            SELECT video_id,
+                   SUM(views) AS views, SUM(ad_views) AS ad_views,
+                   SUM(day_views) AS day_views, SUM(day_ad_views) AS day_ad_views
+            FROM (
+                SELECT video_id, view_count AS views, 0 AS ad_views,
+                       CASE WHEN stat_date = ? THEN view_count ELSE 0 END AS day_views, 0 AS day_ad_views
+                FROM daily_video_statistics
+                WHERE stat_date <= ?
+                UNION ALL
+                SELECT video_id, 0, SUM(impression_count),
+                       0, SUM(CASE WHEN ingested_date = ? THEN impression_count ELSE 0 END)
+                FROM daily_ad_impression_rollup
+                WHERE ingested_date <= ?
+                GROUP BY video_id
+            ) history
+            GROUP BY video_id
+            """;
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO video_cumulative_totals
+                (video_id, total_views, total_ad_views, day_views, day_ad_views, as_of_date, updated_at)
+            SELECT h.video_id, h.views, h.ad_views, h.day_views, h.day_ad_views, ?, NOW()
+            FROM (%s) h
+            """.formatted(HISTORY_TOTALS_SQL);
+
+    private static final String VERIFY_SQL = """
+            SELECT COUNT(*)
+            FROM (%s) h
+            LEFT JOIN video_cumulative_totals t ON t.video_id = h.video_id
+            WHERE t.video_id IS NULL
+               OR t.total_views <> h.views
+               OR t.total_ad_views <> h.ad_views
+            """.formatted(HISTORY_TOTALS_SQL);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchWatermarks watermarks;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Map<String, Object> parameters = chunkContext.getStepContext().getJobParameters();
+        LocalDate targetDate = BatchDates.targetDateOrYesterday((LocalDate) parameters.get(BatchDates.TARGET_DATE));
+        Mode mode = mode(parameters.get(MODE));
+
+        LocalDate watermark = watermarks.lock(WATERMARK);
+        switch (mode) {
+            case VERIFY -> {
+                verify(watermark);
+                contribution.setExitStatus(VERIFIED);
+                return RepeatStatus.FINISHED;
+            }
+            case REBUILD -> {
+                requireAdRollup(targetDate);
+                rebuild(targetDate);
+            }
+            case INCREMENTAL -> {
+                requireAdRollup(targetDate);
+                if (watermark == null) {
+                    rebuild(targetDate);
+                } else {
+                    advance(watermark, targetDate);
+                }
+            }
+        }
+        watermarks.set(WATERMARK, targetDate);
+        return RepeatStatus.FINISHED;
+    }
+
+    // 광고 시청 수는 daily_ad_impression_rollup에서 읽으므로 그 집계가 먼저 끝나 있어야 한다
+    private void requireAdRollup(LocalDate targetDate) {
+        LocalDate rolledUp = watermarks.get(AdImpressionRollupTasklet.WATERMARK);
+        if (rolledUp == null || rolledUp.isBefore(targetDate)) {
+            throw new IllegalStateException("광고 노출 집계가 " + targetDate + "까지 되어 있지 않습니다. (현재: "
+                    + rolledUp + ") dailyAdRollupJob을 먼저 실행하세요.");
+        }
+    }
+
+    private void advance(LocalDate watermark, LocalDate targetDate) {
+        if (watermark.isAfter(targetDate)) {
+            throw new IllegalStateException("누적 합계가 " + watermark + "까지 반영되어 있어 " + targetDate
+                    + " 정산을 다시 계산할 수 없습니다. cumulativeMode=REBUILD로 다시 만드세요.");
+        }
+        if (watermark.isEqual(targetDate)) {
+            int rolledBack = jdbcTemplate.update(ROLLBACK_DAY_SQL, targetDate.minusDays(1), targetDate);
+            log.info("누적 합계 재실행: {} 반영분 되돌림 {}건", targetDate, rolledBack);
+            watermark = targetDate.minusDays(1);
+        }
+        for (LocalDate day = watermark.plusDays(1); !day.isAfter(targetDate); day = day.plusDays(1)) {
+            int affected = jdbcTemplate.update(ADVANCE_SQL, day, day, day, day);
+            log.info("누적 합계 반영: date={}, affected={}", day, affected);
+        }
+    }
+
+    private void rebuild(LocalDate targetDate) {
+        int deleted = jdbcTemplate.update("DELETE FROM video_cumulative_totals");
+        int inserted = jdbcTemplate.update(REBUILD_SQL, historyArgs(targetDate, targetDate));
+        log.info("누적 합계 재생성: date={}, 삭제 {}건, 생성 {}건", targetDate, deleted, inserted);
+    }
+
+    private void verify(LocalDate watermark) {
+        if (watermark == null) {
+            log.info("누적 합계 검증: 아직 반영된 날짜 없음");
+            return;
+        }
+        Long mismatches = jdbcTemplate.queryForObject(VERIFY_SQL, Long.class, historyArgs(null, watermark));
+        if (mismatches != null && mismatches > 0) {
+            throw new IllegalStateException("누적 합계가 " + watermark + "까지의 이력과 " + mismatches
+                    + "건 다릅니다. cumulativeMode=REBUILD로 다시 만드세요.");
+        }
+        log.info("누적 합계 검증 완료: {}까지 일치", watermark);
+    }
+
+    // INSERT 컬럼 앞의 as_of_date(REBUILD만) + HISTORY_TOTALS_SQL 파라미터
+    private static Object[] historyArgs(LocalDate asOfDate, LocalDate through) {
+        Object[] history = {through, through, through, through};
+        if (asOfDate == null) {
+            return history;
+        }
+        Object[] args = new Object[history.length + 1];
+        args[0] = asOfDate;
+        System.arraycopy(history, 0, args, 1, history.length);
+        return args;
+    }
+
+    private static Mode mode(Object value) {
+        if (value == null) {
+            return Mode.INCREMENTAL;
+        }
+        try {
+            return Mode.valueOf(value.toString().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 누적 합계 모드입니다: " + value);
+        }
+    }
+}
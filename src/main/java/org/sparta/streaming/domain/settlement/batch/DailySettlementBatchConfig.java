@@ -3,33 +3,42 @@
 // ========================================
 package org.sparta.streaming.domain.settlement.batch;
 
-import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.sparta.streaming.domain.settlement.entity.DailyVideoSettlement;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.MultiRowInsertItemWriter;
+import org.sparta.streaming.batch.VideoIdRangePartitioner;
+import org.sparta.streaming.cache.ResponseCacheInvalidationListener;
 import org.sparta.streaming.domain.settlement.util.SettlementCalculator;
-import org.sparta.streaming.domain.user.entity.User;
-import org.sparta.streaming.domain.user.repository.UserRepository;
-import org.sparta.streaming.domain.video.entity.Video;
-import org.sparta.streaming.domain.video.repository.VideoRepository;
+import org.sparta.streaming.metrics.ChunkTimingListener;
+import org.sparta.streaming.metrics.PartitionThroughputListener;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
-import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Configuration
@@ -37,95 +46,141 @@ import java.time.LocalDate;
 @Profile("batch")  // batch 프로필에서만 활성화
 public class DailySettlementBatchConfig {
 
+    public static final String JOB_NAME = "dailySettlementJob";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
-    private final VideoRepository videoRepository;
-    private final UserRepository userRepository;
-    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChunkTimingListener chunkTimingListener;
     private final SettlementCalculator calculator;
+    private final PartitionThroughputListener partitionThroughputListener;
+    private final VideoIdRangePartitioner videoIdRangePartitioner;
+    private final TaskExecutor batchPartitionExecutor;
+    private final CumulativeTotalsTasklet cumulativeTotalsTasklet;
+    private final ResponseCacheInvalidationListener responseCacheInvalidationListener;
+
+    @Value("${streaming.batch.grid-size:4}")
+    private int gridSize;
+
+    @Value("${streaming.batch.rows-per-statement:500}")
+    private int rowsPerStatement;
 
     /**
      * 일간 정산 생성 Job
+     * 누적 합계 반영 → 정산 (cumulativeMode=VERIFY면 검증만 하고 끝)
      */
     @Bean
     public Job dailySettlementJob() {
-        return new JobBuilder("dailySettlementJob", jobRepository)
-                .start(dailySettlementStep())
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(cumulativeTotalsStep())
+                    .on(CumulativeTotalsTasklet.VERIFIED.getExitCode()).end()
+                .from(cumulativeTotalsStep())
+                    .on(ExitStatus.FAILED.getExitCode()).fail()
+                .from(cumulativeTotalsStep())
+                    .on("*").to(dailySettlementStep())
+                .end()
+                .listener(responseCacheInvalidationListener)
+                .build();
+    }
+
+    /**
+     * 동영상별 누적 조회수/광고 조회수를 targetDate까지 반영
+     */
+    @Bean
+    public Step cumulativeTotalsStep() {
+        return new StepBuilder("cumulativeTotalsStep", jobRepository)
+                .tasklet(cumulativeTotalsTasklet, transactionManager)
                 .build();
     }
 
     /**
-     * 일간 정산 Step
+     * 일간 정산 Step (video_id 구간별로 나눠 worker step을 병렬 실행)
      */
     @Bean
     public Step dailySettlementStep() {
         return new StepBuilder("dailySettlementStep", jobRepository)
-                .<SettlementSourceDto, DailyVideoSettlement>chunk(1000, transactionManager)
-                .reader(settlementReader())
-                .processor(settlementProcessor())
+                .partitioner("dailySettlementWorkerStep", videoIdRangePartitioner)
+                .step(dailySettlementWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(batchPartitionExecutor)
+                .build();
+    }
+
+    /**
+     * video_id 구간 하나를 처리하는 Step
+     */
+    @Bean
+    public Step dailySettlementWorkerStep() {
+        return new StepBuilder("dailySettlementWorkerStep", jobRepository)
+                .<SettlementSourceDto, SettlementSourceDto>chunk(1000, transactionManager)
+                .reader(settlementReader(null, null, null))
                 .writer(settlementWriter())
+                .listener(chunkTimingListener)
+                .listener(partitionThroughputListener)
                 .build();
     }
 
     /**
      * 정산 데이터 읽기
+     * 이전 누적은 video_cumulative_totals 한 행에서 (total - day), 오늘 값은 day
+     * 파티션마다 [minVideoId, maxVideoId] 구간만 video_id 순으로 읽는다. (재시작 시 읽은 위치부터 이어감)
      */
     @Bean
-    public JdbcCursorItemReader<SettlementSourceDto> settlementReader() {
-        // CTE와 LEFT JOIN을 사용한 개선된 쿼리
+    @StepScope
+    public JdbcCursorItemReader<SettlementSourceDto> settlementReader(
+            @Value("#{jobParameters['targetDate']}") LocalDate targetDate,
+            @Value("#{stepExecutionContext['minVideoId']}") Long minVideoId,
+            @Value("#{stepExecutionContext['maxVideoId']}") Long maxVideoId) {
+        LocalDate settlementDate = BatchDates.targetDateOrYesterday(targetDate);
+        // 정산 대상: targetDate 통계가 있는 동영상 (cumulativeTotalsStep이 모두 as_of_date = targetDate로 맞춰 둠)
         String sql = """
-            WITH settlement_target AS (
-                SELECT DISTINCT video_id
-                FROM daily_video_statistics
-                WHERE stat_date = CURDATE() - INTERVAL 1 DAY
-            ),
-            video_stats AS (
-                SELECT 
-                    video_id,
-                    COALESCE(SUM(CASE WHEN stat_date < CURDATE() - INTERVAL 1 DAY THEN view_count ELSE 0 END), 0) as previous_total_views,
-                    COALESCE(SUM(CASE WHEN stat_date = CURDATE() - INTERVAL 1 DAY THEN view_count ELSE 0 END), 0) as today_views
-                FROM daily_video_statistics
-                WHERE video_id IN (SELECT video_id FROM settlement_target)
-                GROUP BY video_id
-            ),
-            ad_stats AS (
-                SELECT 
-                    va.video_id,
-                    COUNT(CASE WHEN DATE(awh.created_at) < CURDATE() - INTERVAL 1 DAY THEN 1 END) as previous_total_ad_views,
-                    COUNT(CASE WHEN DATE(awh.created_at) = CURDATE() - INTERVAL 1 DAY THEN 1 END) as today_ad_views
-                FROM video_ads va
-                INNER JOIN ad_watch_history awh ON va.video_ads_id = awh.video_ads_id
-                WHERE va.video_id IN (SELECT video_id FROM settlement_target)
-                  AND awh.view_counted = true
-                  AND DATE(awh.created_at) <= CURDATE() - INTERVAL 1 DAY
-                GROUP BY va.video_id
-            )
             SELECT 
                 v.video_id,
                 v.user_id,
-                CURDATE() - INTERVAL 1 DAY as settlement_date,
-                COALESCE(vs.previous_total_views, 0) as previous_total_views,
-                COALESCE(vs.today_views, 0) as today_views,
-                COALESCE(ad.previous_total_ad_views, 0) as previous_total_ad_views,
-                COALESCE(ad.today_ad_views, 0) as today_ad_views
-            FROM videos v
-            INNER JOIN settlement_target st ON v.video_id = st.video_id
-            LEFT JOIN video_stats vs ON v.video_id = vs.video_id
-            LEFT JOIN ad_stats ad ON v.video_id = ad.video_id
+                ct.total_views - ct.day_views as previous_total_views,
+                ct.day_views as today_views,
+                ct.total_ad_views - ct.day_ad_views as previous_total_ad_views,
+                ct.day_ad_views as today_ad_views
+            FROM daily_video_statistics s
+            INNER JOIN videos v ON v.video_id = s.video_id
+            INNER JOIN video_cumulative_totals ct
+                ON ct.video_id = s.video_id AND ct.as_of_date = s.stat_date
+            WHERE s.stat_date = ?
+              AND s.video_id BETWEEN ? AND ?
+            ORDER BY v.video_id
             """;
 
-        RowMapper<SettlementSourceDto> rowMapper = (rs, rowNum) -> {
+        return new JdbcCursorItemReaderBuilder<SettlementSourceDto>()
+                .name("settlementReader")
+                .dataSource(dataSource)
+                .sql(sql)
+                .preparedStatementSetter(ps -> {
+                    ps.setObject(1, settlementDate);
+                    ps.setLong(2, minVideoId);
+                    ps.setLong(3, maxVideoId);
+                })
+                .rowMapper(settlementRowMapper(settlementDate))
+                .build();
+    }
+
+    /**
+     * 정산 소스 행 매핑 (벤치마크에서도 사용)
+     */
+    public static RowMapper<SettlementSourceDto> settlementRowMapper(LocalDate settlementDate) {
+        return (rs, rowNum) -> {
             int videoId = rs.getInt("video_id");
             int userId = rs.getInt("user_id");
-            LocalDate settlementDate = rs.getDate("settlement_date").toLocalDate();
             int previousTotalViews = rs.getInt("previous_total_views");
             int todayViews = rs.getInt("today_views");
             int previousTotalAdViews = rs.getInt("previous_total_ad_views");
             int todayAdViews = rs.getInt("today_ad_views");
 
-            log.debug("Read settlement source: videoId={}, previousAdViews={}, todayAdViews={}",
-                    videoId, previousTotalAdViews, todayAdViews);
+            // 가변 인자 배열, 박싱은 debug일 때만
+            if (log.isDebugEnabled()) {
+                log.debug("Read settlement source: videoId={}, previousAdViews={}, todayAdViews={}",
+                        videoId, previousTotalAdViews, todayAdViews);
+            }
 
             return new SettlementSourceDto(
                     videoId, userId, settlementDate,
@@ -133,71 +188,81 @@ public class DailySettlementBatchConfig {
                     previousTotalAdViews, todayAdViews
             );
         };
-
-        return new JdbcCursorItemReaderBuilder<SettlementSourceDto>()
-                .name("settlementReader")
-                .dataSource(dataSource)
-                .sql(sql)
-                .rowMapper(rowMapper)
-                .build();
     }
 
     /**
-     * 정산 금액 계산 및 Entity 생성
+     * 청크 단위로 정산 금액을 한 번에 계산한 뒤 저장
+     * (리더가 video_id, user_id를 같이 읽으므로 동영상/사용자 조회 없음)
      */
     @Bean
-    public ItemProcessor<SettlementSourceDto, DailyVideoSettlement> settlementProcessor() {
-        return source -> {
-            Video video = videoRepository.findById(source.videoId())
-                    .orElseThrow(() -> new IllegalArgumentException("Video not found: " + source.videoId()));
-
-            User user = userRepository.findById(source.userId())
-                    .orElseThrow(() -> new IllegalArgumentException("User not found: " + source.userId()));
-
-            // 영상 정산 금액 계산 (누진세)
-            BigDecimal videoAmount = calculator.calculateVideoAmount(
-                    source.previousTotalViews(),
-                    source.todayViews()
-            );
+    public ItemWriter<SettlementSourceDto> settlementWriter() {
+        MultiRowInsertItemWriter<SettlementRow> rowWriter = settlementRowWriter();
+        return chunk -> {
+            List<? extends SettlementSourceDto> sources = chunk.getItems();
+            int count = sources.size();
+            int[] previousViews = new int[count];
+            int[] todayViews = new int[count];
+            int[] previousAdViews = new int[count];
+            int[] todayAdViews = new int[count];
+            for (int i = 0; i < count; i++) {
+                SettlementSourceDto source = sources.get(i);
+                previousViews[i] = source.previousTotalViews();
+                todayViews[i] = source.todayViews();
+                previousAdViews[i] = source.previousTotalAdViews();
+                todayAdViews[i] = source.todayAdViews();
+            }
 
-            // 광고 정산 금액 계산 (누진세)
-            BigDecimal adAmount = calculator.calculateAdAmount(
-                    source.previousTotalAdViews(),
-                    source.todayAdViews()
-            );
+            // 영상/광고 정산 금액 계산 (누진세)
+            long[] videoAmounts = new long[count];
+            long[] adAmounts = new long[count];
+            calculator.calculateVideoAmounts(previousViews, todayViews, videoAmounts, count);
+            calculator.calculateAdAmounts(previousAdViews, todayAdViews, adAmounts, count);
 
-            int totalViews = source.previousTotalViews() + source.todayViews();
-            int totalAdViews = source.previousTotalAdViews() + source.todayAdViews();
-
-            log.info("정산 처리: videoId={}, date={}, prevAdViews={}, todayAdViews={}, totalAdViews={}, videoAmount={}, adAmount={}, total={}",
-                    source.videoId(), source.settlementDate(),
-                    source.previousTotalAdViews(), source.todayAdViews(), totalAdViews,
-                    videoAmount, adAmount, videoAmount.add(adAmount));
-
-            return DailyVideoSettlement.create(
-                    video,
-                    user,
-                    source.settlementDate(),
-                    totalViews,
-                    source.previousTotalViews(),
-                    source.todayViews(),
-                    totalAdViews,
-                    source.previousTotalAdViews(),
-                    source.todayAdViews(),
-                    videoAmount,
-                    adAmount
-            );
+            List<SettlementRow> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                rows.add(new SettlementRow(sources.get(i),
+                        previousViews[i] + todayViews[i],
+                        previousAdViews[i] + todayAdViews[i],
+                        BigDecimal.valueOf(videoAmounts[i]),
+                        BigDecimal.valueOf(adAmounts[i]),
+                        BigDecimal.valueOf(videoAmounts[i] + adAmounts[i])));
+            }
+            rowWriter.write(new Chunk<>(rows));
         };
     }
 
     /**
-     * DB에 저장
+     * DB에 저장 (multi-row INSERT)
+     * (video_id, settlement_date)가 이미 있으면 덮어써서 같은 날짜를 다시 돌려도 된다
      */
     @Bean
-    public JpaItemWriter<DailyVideoSettlement> settlementWriter() {
-        JpaItemWriter<DailyVideoSettlement> writer = new JpaItemWriter<>();
-        writer.setEntityManagerFactory(entityManagerFactory);
-        return writer;
+    public MultiRowInsertItemWriter<SettlementRow> settlementRowWriter() {
+        return new MultiRowInsertItemWriter<>(jdbcTemplate, "daily_video_settlement",
+                List.of("video_id", "user_id", "settlement_date",
+                        "total_views", "previous_total_views", "today_views",
+                        "total_ad_views", "previous_total_ad_views", "today_ad_views",
+                        "video_amount", "ad_amount", "total_amount", "created_at"),
+                List.of("user_id",
+                        "total_views", "previous_total_views", "today_views",
+                        "total_ad_views", "previous_total_ad_views", "today_ad_views",
+                        "video_amount", "ad_amount", "total_amount", "created_at"),
+                rowsPerStatement,
+                (row, args, i) -> {
+                    SettlementSourceDto source = row.source();
+                    args[i] = source.videoId();
+                    args[i + 1] = source.userId();
+                    args[i + 2] = source.settlementDate();
+                    args[i + 3] = row.totalViews();
+                    args[i + 4] = source.previousTotalViews();
+                    args[i + 5] = source.todayViews();
+                    args[i + 6] = row.totalAdViews();
+                    args[i + 7] = source.previousTotalAdViews();
+                    args[i + 8] = source.todayAdViews();
+                    args[i + 9] = row.videoAmount();
+                    args[i + 10] = row.adAmount();
+                    args[i + 11] = row.totalAmount();
+                    args[i + 12] = Timestamp.valueOf(LocalDateTime.now());
+                });
     }
 
     /**
@@ -212,4 +277,16 @@ public class DailySettlementBatchConfig {
             Integer previousTotalAdViews,
             Integer todayAdViews
     ) {}
-}
\ No newline at end of file
+
+    /**
+     * daily_video_settlement 한 행 (DailyVideoSettlement.create와 같은 값)
+     */
+    public record SettlementRow(
+            SettlementSourceDto source,
+            Integer totalViews,
+            Integer totalAdViews,
+            BigDecimal videoAmount,
+            BigDecimal adAmount,
+            BigDecimal totalAmount
+    ) {}
+}
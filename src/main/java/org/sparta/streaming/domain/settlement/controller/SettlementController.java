@@ -4,16 +4,21 @@
 package org.sparta.streaming.domain.settlement.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.sparta.streaming.domain.settlement.dto.SettlementResponse;
-import org.sparta.streaming.domain.settlement.dto.VideoSettlementResponse;
+import org.sparta.streaming.cache.PeriodResponseCache;
+import org.sparta.streaming.domain.settlement.batch.DailySettlementBatchConfig;
 import org.sparta.streaming.domain.settlement.service.SettlementService;
 import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 
+/**
+ * 지난 기간 응답은 PeriodResponseCache에서 JSON 바이트로 바로 내려준다. (ETag, 304)
+ */
 @RestController
 @RequestMapping("/api/settlement")
 @RequiredArgsConstructor
@@ -21,18 +26,19 @@ import java.time.LocalDate;
 public class SettlementController {
 
     private final SettlementService settlementService;
+    private final PeriodResponseCache responseCache;
 
     /**
      * 일간 정산 조회
      * GET /api/settlement/daily?date=2024-12-01
      */
     @GetMapping("/daily")
-    public ResponseEntity<SettlementResponse> getDailySettlement(
+    public ResponseEntity<byte[]> getDailySettlement(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        LocalDate targetDate = date != null ? date : LocalDate.now().minusDays(1);
-        SettlementResponse result = settlementService.getDailySettlement(targetDate);
-        return ResponseEntity.ok(result);
+        LocalDate targetDate = date != null ? date : responseCache.today().minusDays(1);
+        return responseCache.respond(DailySettlementBatchConfig.JOB_NAME, "settlement/daily", targetDate, targetDate,
+                () -> settlementService.getDailySettlement(targetDate));
     }
 
     /**
@@ -40,12 +46,14 @@ public class SettlementController {
      * GET /api/settlement/weekly?date=2024-12-01
      */
     @GetMapping("/weekly")
-    public ResponseEntity<SettlementResponse> getWeeklySettlement(
+    public ResponseEntity<byte[]> getWeeklySettlement(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        SettlementResponse result = settlementService.getWeeklySettlement(targetDate);
-        return ResponseEntity.ok(result);
+        LocalDate targetDate = date != null ? date : responseCache.today();
+        LocalDate monday = targetDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate sunday = targetDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        return responseCache.respond(DailySettlementBatchConfig.JOB_NAME, "settlement/weekly", monday, sunday,
+                () -> settlementService.getWeeklySettlement(monday));
     }
 
     /**
@@ -53,12 +61,14 @@ public class SettlementController {
      * GET /api/settlement/monthly?date=2024-12-01
      */
     @GetMapping("/monthly")
-    public ResponseEntity<SettlementResponse> getMonthlySettlement(
+    public ResponseEntity<byte[]> getMonthlySettlement(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        SettlementResponse result = settlementService.getMonthlySettlement(targetDate);
-        return ResponseEntity.ok(result);
+        LocalDate targetDate = date != null ? date : responseCache.today();
+        LocalDate firstDay = targetDate.withDayOfMonth(1);
+        LocalDate lastDay = targetDate.with(TemporalAdjusters.lastDayOfMonth());
+        return responseCache.respond(DailySettlementBatchConfig.JOB_NAME, "settlement/monthly", firstDay, lastDay,
+                () -> settlementService.getMonthlySettlement(firstDay));
     }
 
     /**
@@ -66,12 +76,13 @@ public class SettlementController {
      * GET /api/settlement/video/1?startDate=2024-12-01&endDate=2024-12-31
      */
     @GetMapping("/video/{videoId}")
-    public ResponseEntity<VideoSettlementResponse> getVideoSettlement(
+    public ResponseEntity<byte[]> getVideoSettlement(
             @PathVariable Integer videoId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
-        VideoSettlementResponse result = settlementService.getVideoSettlement(videoId, startDate, endDate);
-        return ResponseEntity.ok(result);
+        return responseCache.respond(DailySettlementBatchConfig.JOB_NAME, "settlement/video/" + videoId,
+                startDate, endDate,
+                () -> settlementService.getVideoSettlement(videoId, startDate, endDate));
     }
 }
\ No newline at end of file
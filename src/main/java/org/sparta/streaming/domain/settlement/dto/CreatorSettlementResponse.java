@@ -0,0 +1,14 @@
+// ========================================
+// CreatorSettlementResponse.java (DTO)
+// ========================================
+package org.sparta.streaming.domain.settlement.dto;
+
+import java.math.BigDecimal;
+
+public record CreatorSettlementResponse(
+        Integer userId,
+        String username,
+        BigDecimal videoAmount,
+        BigDecimal adAmount,
+        BigDecimal totalAmount
+) {}
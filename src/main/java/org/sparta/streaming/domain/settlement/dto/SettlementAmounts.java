@@ -0,0 +1,15 @@
+// ========================================
+// SettlementAmounts.java (DTO)
+// ========================================
+package org.sparta.streaming.domain.settlement.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 기간 정산 합계 (해당 기간에 정산이 없으면 모두 null)
+ */
+public record SettlementAmounts(
+        BigDecimal videoAmount,
+        BigDecimal adAmount,
+        BigDecimal totalAmount
+) {}
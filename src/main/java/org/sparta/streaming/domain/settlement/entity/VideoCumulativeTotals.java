@@ -0,0 +1,47 @@
+// ========================================
+// VideoCumulativeTotals.java (동영상별 누적 조회수/광고 조회수)
+// ========================================
+package org.sparta.streaming.domain.settlement.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * as_of_date까지의 누적 합계와 as_of_date 하루치 증가분
+ * 정산 배치가 매일 하루치만 더하고(CumulativeTotalsTasklet), 정산은 이전 누적을 이 한 행에서 읽는다.
+ * (total - day = as_of_date 전날까지의 누적, 스키마는 docs/batch-rollups.md)
+ */
+@Entity
+@Table(name = "video_cumulative_totals",
+        indexes = @Index(name = "idx_cumulative_as_of_date", columnList = "as_of_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VideoCumulativeTotals {
+
+    @Id
+    @Column(name = "video_id")
+    private Integer videoId;
+
+    @Column(name = "total_views", nullable = false)
+    private Long totalViews;
+
+    @Column(name = "total_ad_views", nullable = false)
+    private Long totalAdViews;
+
+    @Column(name = "day_views", nullable = false)
+    private Long dayViews;  // as_of_date 하루 조회수
+
+    @Column(name = "day_ad_views", nullable = false)
+    private Long dayAdViews;  // as_of_date 하루 광고 조회수
+
+    @Column(name = "as_of_date", nullable = false)
+    private LocalDate asOfDate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
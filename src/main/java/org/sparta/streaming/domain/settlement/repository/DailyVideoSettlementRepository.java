@@ -3,21 +3,29 @@
 // ========================================
 package org.sparta.streaming.domain.settlement.repository;
 
+import org.sparta.streaming.domain.settlement.dto.CreatorSettlementResponse;
+import org.sparta.streaming.domain.settlement.dto.SettlementAmounts;
+import org.sparta.streaming.domain.settlement.dto.VideoSettlementResponse;
 import org.sparta.streaming.domain.settlement.entity.DailyVideoSettlement;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface DailyVideoSettlementRepository extends JpaRepository<DailyVideoSettlement, Long> {
 
     /**
-     * 특정 날짜의 영상별 정산 조회
+     * 특정 날짜의 영상별 정산 조회 (video_id는 FK 컬럼을 그대로 읽음)
      */
-    List<DailyVideoSettlement> findBySettlementDate(LocalDate settlementDate);
+    @Query("""
+        SELECT new org.sparta.streaming.domain.settlement.dto.VideoSettlementResponse(
+            s.video.videoId, s.videoAmount, s.adAmount, s.totalAmount)
+        FROM DailyVideoSettlement s
+        WHERE s.settlementDate = :settlementDate
+        """)
+    List<VideoSettlementResponse> findVideoSettlementsByDate(@Param("settlementDate") LocalDate settlementDate);
 
     /**
      * 특정 크리에이터의 특정 날짜 정산 조회
@@ -33,16 +41,14 @@ public interface DailyVideoSettlementRepository extends JpaRepository<DailyVideo
      * 기간별 영상별 정산 합계
      */
     @Query("""
-        SELECT s.video.videoId, s.video.title, 
-               SUM(s.videoAmount) as videoAmount,
-               SUM(s.adAmount) as adAmount,
-               SUM(s.totalAmount) as totalAmount
+        SELECT new org.sparta.streaming.domain.settlement.dto.VideoSettlementResponse(
+            s.video.videoId, SUM(s.videoAmount), SUM(s.adAmount), SUM(s.totalAmount))
         FROM DailyVideoSettlement s
         WHERE s.settlementDate BETWEEN :startDate AND :endDate
-        GROUP BY s.video.videoId, s.video.title
-        ORDER BY totalAmount DESC
+        GROUP BY s.video.videoId
+        ORDER BY SUM(s.totalAmount) DESC
         """)
-    List<Object[]> findSettlementByPeriod(
+    List<VideoSettlementResponse> findSettlementByPeriod(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
@@ -50,16 +56,15 @@ public interface DailyVideoSettlementRepository extends JpaRepository<DailyVideo
      * 기간별 크리에이터별 정산 합계
      */
     @Query("""
-        SELECT s.user.userId, s.user.username,
-               SUM(s.videoAmount) as videoAmount,
-               SUM(s.adAmount) as adAmount,
-               SUM(s.totalAmount) as totalAmount
+        SELECT new org.sparta.streaming.domain.settlement.dto.CreatorSettlementResponse(
+            u.userId, u.username, SUM(s.videoAmount), SUM(s.adAmount), SUM(s.totalAmount))
         FROM DailyVideoSettlement s
+        JOIN s.user u
         WHERE s.settlementDate BETWEEN :startDate AND :endDate
-        GROUP BY s.user.userId, s.user.username
-        ORDER BY totalAmount DESC
+        GROUP BY u.userId, u.username
+        ORDER BY SUM(s.totalAmount) DESC
         """)
-    List<Object[]> findSettlementByCreatorAndPeriod(
+    List<CreatorSettlementResponse> findSettlementByCreatorAndPeriod(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
@@ -67,13 +72,14 @@ public interface DailyVideoSettlementRepository extends JpaRepository<DailyVideo
      * 특정 영상의 기간별 정산 합계
      */
     @Query("""
-        SELECT SUM(s.videoAmount), SUM(s.adAmount), SUM(s.totalAmount)
+        SELECT new org.sparta.streaming.domain.settlement.dto.SettlementAmounts(
+            SUM(s.videoAmount), SUM(s.adAmount), SUM(s.totalAmount))
         FROM DailyVideoSettlement s
         WHERE s.video.videoId = :videoId
           AND s.settlementDate BETWEEN :startDate AND :endDate
         """)
-    Object[] findTotalSettlementByVideoAndPeriod(
+    SettlementAmounts findTotalSettlementByVideoAndPeriod(
             @Param("videoId") Integer videoId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+}
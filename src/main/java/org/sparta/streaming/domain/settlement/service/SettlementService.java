@@ -4,9 +4,9 @@
 package org.sparta.streaming.domain.settlement.service;
 
 import lombok.RequiredArgsConstructor;
+import org.sparta.streaming.domain.settlement.dto.SettlementAmounts;
 import org.sparta.streaming.domain.settlement.dto.SettlementResponse;
 import org.sparta.streaming.domain.settlement.dto.VideoSettlementResponse;
-import org.sparta.streaming.domain.settlement.entity.DailyVideoSettlement;
 import org.sparta.streaming.domain.settlement.repository.DailyVideoSettlementRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,8 +16,10 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 조회는 모두 영상 id와 금액만 DTO로 바로 받는다. (엔티티 로딩 없이 API 호출당 SQL 1번)
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -29,7 +31,7 @@ public class SettlementService {
      * 일간 정산 조회
      */
     public SettlementResponse getDailySettlement(LocalDate date) {
-        List<DailyVideoSettlement> settlements = settlementRepository.findBySettlementDate(date);
+        List<VideoSettlementResponse> settlements = settlementRepository.findVideoSettlementsByDate(date);
 
         return createSettlementResponse(settlements);
     }
@@ -41,9 +43,9 @@ public class SettlementService {
         LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
         LocalDate sunday = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
 
-        List<Object[]> results = settlementRepository.findSettlementByPeriod(monday, sunday);
+        List<VideoSettlementResponse> settlements = settlementRepository.findSettlementByPeriod(monday, sunday);
 
-        return createSettlementResponseFromAggregate(results);
+        return createSettlementResponse(settlements);
     }
 
     /**
@@ -53,84 +55,36 @@ public class SettlementService {
         LocalDate firstDay = date.withDayOfMonth(1);
         LocalDate lastDay = date.with(TemporalAdjusters.lastDayOfMonth());
 
-        List<Object[]> results = settlementRepository.findSettlementByPeriod(firstDay, lastDay);
+        List<VideoSettlementResponse> settlements = settlementRepository.findSettlementByPeriod(firstDay, lastDay);
 
-        return createSettlementResponseFromAggregate(results);
+        return createSettlementResponse(settlements);
     }
 
     /**
      * 특정 영상의 기간별 정산 조회
      */
     public VideoSettlementResponse getVideoSettlement(Integer videoId, LocalDate startDate, LocalDate endDate) {
-        Object[] result = settlementRepository.findTotalSettlementByVideoAndPeriod(videoId, startDate, endDate);
+        SettlementAmounts amounts = settlementRepository.findTotalSettlementByVideoAndPeriod(videoId, startDate, endDate);
 
-        if (result == null || result[0] == null) {
+        if (amounts == null || amounts.totalAmount() == null) {
             return new VideoSettlementResponse(videoId, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
         }
 
-        BigDecimal videoAmount = (BigDecimal) result[0];
-        BigDecimal adAmount = (BigDecimal) result[1];
-        BigDecimal totalAmount = (BigDecimal) result[2];
-
-        return new VideoSettlementResponse(videoId, videoAmount, adAmount, totalAmount);
-    }
-
-    /**
-     * 정산 응답 생성 (일간 데이터)
-     */
-    private SettlementResponse createSettlementResponse(List<DailyVideoSettlement> settlements) {
-        BigDecimal totalVideoAmount = BigDecimal.ZERO;
-        BigDecimal totalAdAmount = BigDecimal.ZERO;
-        BigDecimal totalAmount = BigDecimal.ZERO;
-
-        List<VideoSettlementResponse> videoSettlements = settlements.stream()
-                .map(s -> {
-                    return new VideoSettlementResponse(
-                            s.getVideo().getVideoId(),
-                            s.getVideoAmount(),
-                            s.getAdAmount(),
-                            s.getTotalAmount()
-                    );
-                })
-                .collect(Collectors.toList());
-
-        for (DailyVideoSettlement s : settlements) {
-            totalVideoAmount = totalVideoAmount.add(s.getVideoAmount());
-            totalAdAmount = totalAdAmount.add(s.getAdAmount());
-            totalAmount = totalAmount.add(s.getTotalAmount());
-        }
-
-        return new SettlementResponse(
-                totalVideoAmount,
-                totalAdAmount,
-                totalAmount,
-                videoSettlements
-        );
+        return new VideoSettlementResponse(videoId, amounts.videoAmount(), amounts.adAmount(), amounts.totalAmount());
     }
 
     /**
-     * 정산 응답 생성 (집계 데이터)
+     * 정산 응답 생성 (영상별 금액 + 전체 합계)
      */
-    private SettlementResponse createSettlementResponseFromAggregate(List<Object[]> results) {
+    private SettlementResponse createSettlementResponse(List<VideoSettlementResponse> videoSettlements) {
         BigDecimal totalVideoAmount = BigDecimal.ZERO;
         BigDecimal totalAdAmount = BigDecimal.ZERO;
         BigDecimal totalAmount = BigDecimal.ZERO;
 
-        List<VideoSettlementResponse> videoSettlements = results.stream()
-                .map(r -> {
-                    Integer videoId = (Integer) r[0];
-                    BigDecimal videoAmount = (BigDecimal) r[2];
-                    BigDecimal adAmount = (BigDecimal) r[3];
-                    BigDecimal total = (BigDecimal) r[4];
-
-                    return new VideoSettlementResponse(videoId, videoAmount, adAmount, total);
-                })
-                .collect(Collectors.toList());
-
-        for (Object[] r : results) {
-            totalVideoAmount = totalVideoAmount.add((BigDecimal) r[2]);
-            totalAdAmount = totalAdAmount.add((BigDecimal) r[3]);
-            totalAmount = totalAmount.add((BigDecimal) r[4]);
+        for (VideoSettlementResponse s : videoSettlements) {
+            totalVideoAmount = totalVideoAmount.add(s.videoAmount());
+            totalAdAmount = totalAdAmount.add(s.adAmount());
+            totalAmount = totalAmount.add(s.totalAmount());
         }
 
         return new SettlementResponse(
@@ -140,4 +94,4 @@ public class SettlementService {
                 videoSettlements
         );
     }
-}
\ No newline at end of file
+}
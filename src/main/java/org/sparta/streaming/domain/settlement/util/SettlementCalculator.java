@@ -3,25 +3,27 @@
 // ========================================
 package org.sparta.streaming.domain.settlement.util;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 @Component
 public class SettlementCalculator {
 
-    // 영상 정산 구간별 단가
-    private static final double VIDEO_RATE_UNDER_100K = 1.0;
-    private static final double VIDEO_RATE_100K_TO_500K = 1.1;
-    private static final double VIDEO_RATE_500K_TO_1M = 1.3;
-    private static final double VIDEO_RATE_OVER_1M = 1.5;
+    // 구간 시작 누적 조회수:단가(원)
+    public static final String DEFAULT_VIDEO_TIERS = "0:1.0,100000:1.1,500000:1.3,1000000:1.5";
+    public static final String DEFAULT_AD_TIERS = "0:10,100000:12,500000:15,1000000:20";
 
-    // 광고 정산 구간별 단가
-    private static final double AD_RATE_UNDER_100K = 10.0;
-    private static final double AD_RATE_100K_TO_500K = 12.0;
-    private static final double AD_RATE_500K_TO_1M = 15.0;
-    private static final double AD_RATE_OVER_1M = 20.0;
+    private final SettlementTiers videoTiers;
+    private final SettlementTiers adTiers;
+
+    public SettlementCalculator(
+            @Value("${streaming.settlement.video-tiers:" + DEFAULT_VIDEO_TIERS + "}") String videoTiers,
+            @Value("${streaming.settlement.ad-tiers:" + DEFAULT_AD_TIERS + "}") String adTiers) {
+        this.videoTiers = SettlementTiers.parse(videoTiers);
+        this.adTiers = SettlementTiers.parse(adTiers);
+    }
 
     /**
      * 영상 정산 금액 계산 (누진세)
@@ -30,21 +32,7 @@ public class SettlementCalculator {
      * @return 영상 정산 금액 (1원 단위 이하 절사)
      */
     public BigDecimal calculateVideoAmount(int previousTotal, int todayViews) {
-        if (todayViews <= 0) {
-            return BigDecimal.ZERO;
-        }
-
-        int currentTotal = previousTotal + todayViews;
-        long totalAmount = 0;
-
-        // 각 구간별로 계산
-        totalAmount += calculateTier(previousTotal, currentTotal, 0, 100_000, VIDEO_RATE_UNDER_100K);
-        totalAmount += calculateTier(previousTotal, currentTotal, 100_000, 500_000, VIDEO_RATE_100K_TO_500K);
-        totalAmount += calculateTier(previousTotal, currentTotal, 500_000, 1_000_000, VIDEO_RATE_500K_TO_1M);
-        totalAmount += calculateTier(previousTotal, currentTotal, 1_000_000, Integer.MAX_VALUE, VIDEO_RATE_OVER_1M);
-
-        // 1원 단위 이하 절사
-        return BigDecimal.valueOf(totalAmount).setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(videoTiers.amount(previousTotal, todayViews));
     }
 
     /**
@@ -54,50 +42,21 @@ public class SettlementCalculator {
      * @return 광고 정산 금액 (1원 단위 이하 절사)
      */
     public BigDecimal calculateAdAmount(int previousTotal, int todayViews) {
-        if (todayViews <= 0) {
-            return BigDecimal.ZERO;
-        }
-
-        int currentTotal = previousTotal + todayViews;
-        long totalAmount = 0;
-
-        // 각 구간별로 계산
-        totalAmount += calculateTier(previousTotal, currentTotal, 0, 100_000, AD_RATE_UNDER_100K);
-        totalAmount += calculateTier(previousTotal, currentTotal, 100_000, 500_000, AD_RATE_100K_TO_500K);
-        totalAmount += calculateTier(previousTotal, currentTotal, 500_000, 1_000_000, AD_RATE_500K_TO_1M);
-        totalAmount += calculateTier(previousTotal, currentTotal, 1_000_000, Integer.MAX_VALUE, AD_RATE_OVER_1M);
-
-        // 1원 단위 이하 절사
-        return BigDecimal.valueOf(totalAmount).setScale(0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(adTiers.amount(previousTotal, todayViews));
     }
 
     /**
-     * 구간별 금액 계산
-     * @param previousTotal 이전 누적
-     * @param currentTotal 현재 누적
-     * @param tierStart 구간 시작
-     * @param tierEnd 구간 끝
-     * @param rate 단가
-     * @return 해당 구간에서의 정산 금액
+     * 청크 단위 영상 정산 금액 (amounts[i], 원)
      */
-    private long calculateTier(int previousTotal, int currentTotal,
-                               int tierStart, int tierEnd, double rate) {
-        // 이전 누적이 이미 이 구간을 넘었으면 0
-        if (previousTotal >= tierEnd) {
-            return 0;
-        }
-
-        // 현재 누적이 이 구간에 도달하지 않았으면 0
-        if (currentTotal <= tierStart) {
-            return 0;
-        }
-
-        // 실제로 이 구간에서 증가한 양 계산
-        int effectiveStart = Math.max(previousTotal, tierStart);
-        int effectiveEnd = Math.min(currentTotal, tierEnd);
-        int viewsInTier = effectiveEnd - effectiveStart;
+    public void calculateVideoAmounts(int[] previousTotals, int[] todayViews, long[] amounts, int count) {
+        videoTiers.amounts(previousTotals, todayViews, amounts, count);
+    }
 
-        return (long) (viewsInTier * rate);
+    /**
+     * 청크 단위 광고 정산 금액 (amounts[i], 원)
+     */
+    public void calculateAdAmounts(int[] previousTotals, int[] todayViews, long[] amounts, int count) {
+        adTiers.amounts(previousTotals, todayViews, amounts, count);
     }
 
     /**
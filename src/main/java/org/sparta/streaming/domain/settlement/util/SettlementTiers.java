@@ -0,0 +1,122 @@
+// ========================================
+// SettlementTiers.java (누진 구간표)
+// ========================================
+package org.sparta.streaming.domain.settlement.util;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 누진 구간표. 단가는 0.1원 단위 정수로 들고 계산에 double을 쓰지 않는다.
+ *
+ * F(total) = 누적 조회수 total까지의 금액(0.1원 단위)을 구간 시작점마다 미리 구해 두고,
+ * 하루 정산 금액은 F(현재 누적) - F(이전 누적)에서 구한다.
+ * 단, 기존 정산과 같게 구간마다 1원 미만을 절사하므로
+ * 걸쳐 있는 첫 구간과 마지막 구간만 따로 절사하고, 그 사이의 온전한 구간은 미리 절사해 둔 합을 쓴다.
+ */
+public final class SettlementTiers {
+
+    private final long[] starts;        // 구간 시작 누적 조회수 (오름차순, 첫 값 0)
+    private final long[] rateTenths;    // 구간 단가 (0.1원 단위)
+    private final long[] tenthsAtStart; // F(starts[i])
+    private final long[] wonAtStart;    // starts[i] 이전 온전한 구간들의 금액 합 (구간별 절사, 원)
+
+    public SettlementTiers(long[] starts, long[] rateTenths) {
+        if (starts.length == 0 || starts.length != rateTenths.length) {
+            throw new IllegalArgumentException("구간 시작점과 단가 수가 맞지 않습니다.");
+        }
+        if (starts[0] != 0) {
+            throw new IllegalArgumentException("첫 구간은 0부터 시작해야 합니다: " + starts[0]);
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (i > 0 && starts[i] <= starts[i - 1]) {
+                throw new IllegalArgumentException("구간 시작점은 오름차순이어야 합니다: " + Arrays.toString(starts));
+            }
+            if (rateTenths[i] < 0) {
+                throw new IllegalArgumentException("단가는 음수일 수 없습니다: " + rateTenths[i]);
+            }
+        }
+        this.starts = starts.clone();
+        this.rateTenths = rateTenths.clone();
+        this.tenthsAtStart = new long[starts.length];
+        this.wonAtStart = new long[starts.length];
+        for (int i = 1; i < starts.length; i++) {
+            long tierTenths = rateTenths[i - 1] * (starts[i] - starts[i - 1]);
+            tenthsAtStart[i] = tenthsAtStart[i - 1] + tierTenths;
+            wonAtStart[i] = wonAtStart[i - 1] + tierTenths / 10;
+        }
+    }
+
+    /**
+     * "시작:단가" 목록 파싱 (예: "0:1.0,100000:1.1,500000:1.3,1000000:1.5")
+     * 단가는 소수 첫째 자리까지
+     */
+    public static SettlementTiers parse(String spec) {
+        String[] entries = spec.split(",");
+        long[] starts = new long[entries.length];
+        long[] rateTenths = new long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] pair = entries[i].trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("구간 형식이 잘못되었습니다 (시작:단가): " + entries[i]);
+            }
+            try {
+                starts[i] = Long.parseLong(pair[0].trim());
+                rateTenths[i] = new BigDecimal(pair[1].trim()).movePointRight(1).longValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IllegalArgumentException("구간 값이 잘못되었습니다 (단가는 0.1원 단위까지): " + entries[i], e);
+            }
+        }
+        return new SettlementTiers(starts, rateTenths);
+    }
+
+    /**
+     * F(total): 누적 조회수 total까지의 금액 (0.1원 단위, 절사 없음)
+     */
+    public long cumulativeTenths(long total) {
+        if (total <= 0) {
+            return 0;
+        }
+        int tier = tierOf(total);
+        return tenthsAtStart[tier] + rateTenths[tier] * (total - starts[tier]);
+    }
+
+    /**
+     * 이전 누적에서 todayViews만큼 늘었을 때의 금액 (구간별 1원 미만 절사)
+     */
+    public long amount(long previousTotal, long todayViews) {
+        if (todayViews <= 0) {
+            return 0;
+        }
+        long currentTotal = previousTotal + todayViews;
+        if (currentTotal <= 0) {
+            return 0;
+        }
+        long from = Math.max(previousTotal, 0);
+        int first = tierOf(from);
+        int last = tierOf(currentTotal);
+        long currentTenths = tenthsAtStart[last] + rateTenths[last] * (currentTotal - starts[last]);
+        long previousTenths = tenthsAtStart[first] + rateTenths[first] * (from - starts[first]);
+        if (first == last) {
+            return (currentTenths - previousTenths) / 10;
+        }
+        return (tenthsAtStart[first + 1] - previousTenths) / 10
+                + (wonAtStart[last] - wonAtStart[first + 1])
+                + (currentTenths - tenthsAtStart[last]) / 10;
+    }
+
+    /**
+     * 청크 단위 계산: amounts[i] = amount(previousTotals[i], todayViews[i]) (i < count)
+     */
+    public void amounts(int[] previousTotals, int[] todayViews, long[] amounts, int count) {
+        for (int i = 0; i < count; i++) {
+            amounts[i] = amount(previousTotals[i], todayViews[i]);
+        }
+    }
+
+    // starts[i] <= total 인 가장 큰 i (total >= 0)
+    private int tierOf(long total) {
+        int tier = Arrays.binarySearch(starts, total);
+        return tier >= 0 ? tier : -tier - 2;
+    }
+}
@@ -3,29 +3,36 @@
 // ========================================
 package org.sparta.streaming.domain.statistics.batch;
 
-import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.sparta.streaming.domain.statistics.entity.DailyVideoStatistics;
-import org.sparta.streaming.domain.video.entity.Video;
-import org.sparta.streaming.domain.video.repository.VideoRepository;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.MultiRowInsertItemWriter;
+import org.sparta.streaming.batch.VideoIdRangePartitioner;
+import org.sparta.streaming.cache.ResponseCacheInvalidationListener;
+import org.sparta.streaming.metrics.ChunkTimingListener;
+import org.sparta.streaming.metrics.PartitionThroughputListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
-import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Configuration
@@ -33,97 +40,157 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class DailyStatisticsBatchConfig {
 
+    public static final String JOB_NAME = "dailyStatisticsJob";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
-    private final VideoRepository videoRepository;
-    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChunkTimingListener chunkTimingListener;
+    private final PartitionThroughputListener partitionThroughputListener;
+    private final VideoIdRangePartitioner videoIdRangePartitioner;
+    private final TaskExecutor batchPartitionExecutor;
+    private final PeriodRollupTasklet periodRollupTasklet;
+    private final LeaderboardTasklet leaderboardTasklet;
+    private final ResponseCacheInvalidationListener responseCacheInvalidationListener;
+
+    @Value("${streaming.batch.grid-size:4}")
+    private int gridSize;
+
+    @Value("${streaming.batch.rows-per-statement:500}")
+    private int rowsPerStatement;
 
     /**
      * 일간 통계 생성 Job
+     * 일간 통계 → 주간/월간 통계 누적 → 순위표 갱신
      */
     @Bean
     public Job dailyStatisticsJob() {
-        return new JobBuilder("dailyStatisticsJob", jobRepository)
+        return new JobBuilder(JOB_NAME, jobRepository)
                 .start(dailyStatisticsStep())
+                .next(periodRollupStep())
+                .next(leaderboardStep())
+                .listener(responseCacheInvalidationListener)
                 .build();
     }
 
     /**
-     * 일간 통계 Step
+     * 일간 통계 Step (video_id 구간별로 나눠 worker step을 병렬 실행)
      */
     @Bean
     public Step dailyStatisticsStep() {
         return new StepBuilder("dailyStatisticsStep", jobRepository)
-                .<StatisticsDto, DailyVideoStatistics>chunk(1000, transactionManager)
-                .reader(statisticsReader())
-                .processor(statisticsProcessor())
+                .partitioner("dailyStatisticsWorkerStep", videoIdRangePartitioner)
+                .step(dailyStatisticsWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(batchPartitionExecutor)
+                .build();
+    }
+
+    /**
+     * targetDate 일간 통계를 주간/월간 통계에 더하기
+     */
+    @Bean
+    public Step periodRollupStep() {
+        return new StepBuilder("periodRollupStep", jobRepository)
+                .tasklet(periodRollupTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * targetDate가 속한 일간/주간/월간 순위표 갱신
+     */
+    @Bean
+    public Step leaderboardStep() {
+        return new StepBuilder("leaderboardStep", jobRepository)
+                .tasklet(leaderboardTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * video_id 구간 하나를 처리하는 Step
+     */
+    @Bean
+    public Step dailyStatisticsWorkerStep() {
+        return new StepBuilder("dailyStatisticsWorkerStep", jobRepository)
+                .<StatisticsDto, StatisticsDto>chunk(1000, transactionManager)
+                .reader(statisticsReader(null, null, null))
                 .writer(statisticsWriter())
+                .listener(chunkTimingListener)
+                .listener(partitionThroughputListener)
                 .build();
     }
 
     /**
      * 시청 기록에서 통계 데이터 읽기
+     * targetDate 하루를 반열림 구간으로 읽어 created_at 인덱스(파티션이면 해당 파티션 하나)만 본다.
+     * 파티션마다 [minVideoId, maxVideoId] 구간만 video_id 순으로 읽는다. (재시작 시 읽은 위치부터 이어감)
      */
     @Bean
-    public JdbcCursorItemReader<StatisticsDto> statisticsReader() {
+    @StepScope
+    public JdbcCursorItemReader<StatisticsDto> statisticsReader(
+            @Value("#{jobParameters['targetDate']}") LocalDate targetDate,
+            @Value("#{stepExecutionContext['minVideoId']}") Long minVideoId,
+            @Value("#{stepExecutionContext['maxVideoId']}") Long maxVideoId) {
+        LocalDate statDate = BatchDates.targetDateOrYesterday(targetDate);
         String sql = """
             SELECT 
                 v.video_id,
-                DATE(vh.created_at) as stat_date,
                 COUNT(DISTINCT vh.record_id) as view_count,
                 COALESCE(SUM(vh.total_watched_seconds), 0) as total_watch_seconds
             FROM video_watch_history vh
             JOIN videos v ON vh.video_id = v.video_id
-            WHERE DATE(vh.created_at) = CURDATE() - INTERVAL 1 DAY
+            WHERE vh.created_at >= ?
+              AND vh.created_at < ?
+              AND vh.video_id BETWEEN ? AND ?
               AND vh.view_counted = true
-            GROUP BY v.video_id, DATE(vh.created_at)
+            GROUP BY v.video_id
+            ORDER BY v.video_id
             """;
 
-        RowMapper<StatisticsDto> rowMapper = (rs, rowNum) -> new StatisticsDto(
-                rs.getInt("video_id"),
-                rs.getDate("stat_date").toLocalDate(),
-                rs.getInt("view_count"),
-                rs.getLong("total_watch_seconds")
-        );
-
         return new JdbcCursorItemReaderBuilder<StatisticsDto>()
                 .name("statisticsReader")
                 .dataSource(dataSource)
                 .sql(sql)
-                .rowMapper(rowMapper)
+                .preparedStatementSetter(ps -> {
+                    ps.setTimestamp(1, BatchDates.startOf(statDate));
+                    ps.setTimestamp(2, BatchDates.endOf(statDate));
+                    ps.setLong(3, minVideoId);
+                    ps.setLong(4, maxVideoId);
+                })
+                .rowMapper(statisticsRowMapper(statDate))
                 .build();
     }
 
     /**
-     * DTO → Entity 변환
+     * 일간 통계 행 매핑 (벤치마크에서도 사용)
      */
-    @Bean
-    public ItemProcessor<StatisticsDto, DailyVideoStatistics> statisticsProcessor() {
-        return item -> {
-            Video video = videoRepository.findById(item.videoId())
-                    .orElseThrow(() -> new IllegalArgumentException("Video not found: " + item.videoId()));
-
-            log.info("통계 생성: videoId={}, date={}, views={}, watchTime={}",
-                    item.videoId(), item.statDate(), item.viewCount(), item.totalWatchSeconds());
-
-            return DailyVideoStatistics.create(
-                    video,
-                    item.statDate(),
-                    item.viewCount(),
-                    item.totalWatchSeconds()
-            );
-        };
+    public static RowMapper<StatisticsDto> statisticsRowMapper(LocalDate statDate) {
+        return (rs, rowNum) -> new StatisticsDto(
+                rs.getInt("video_id"),
+                statDate,
+                rs.getInt("view_count"),
+                rs.getLong("total_watch_seconds")
+        );
     }
 
     /**
-     * DB에 저장
+     * DB에 저장 (읽은 행이 곧 저장할 행이라 엔티티 변환, 동영상 조회 없이 multi-row INSERT)
+     * (video_id, stat_date)가 이미 있으면 덮어써서 같은 날짜를 다시 돌려도 된다
      */
     @Bean
-    public JpaItemWriter<DailyVideoStatistics> statisticsWriter() {
-        JpaItemWriter<DailyVideoStatistics> writer = new JpaItemWriter<>();
-        writer.setEntityManagerFactory(entityManagerFactory);
-        return writer;
+    public MultiRowInsertItemWriter<StatisticsDto> statisticsWriter() {
+        return new MultiRowInsertItemWriter<>(jdbcTemplate, "daily_video_statistics",
+                List.of("video_id", "stat_date", "view_count", "total_watch_seconds", "created_at"),
+                List.of("view_count", "total_watch_seconds", "created_at"),
+                rowsPerStatement,
+                (item, args, i) -> {
+                    args[i] = item.videoId();
+                    args[i + 1] = item.statDate();
+                    args[i + 2] = item.viewCount();
+                    args[i + 3] = item.totalWatchSeconds();
+                    args[i + 4] = Timestamp.valueOf(LocalDateTime.now());
+                });
     }
 
     /**
@@ -0,0 +1,240 @@
+// ========================================
+// LeaderboardTasklet.java (일간/주간/월간 순위표 갱신)
+// ========================================
+package org.sparta.streaming.domain.statistics.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.domain.statistics.leaderboard.Leaderboard;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardEntry;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardMetric;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
+import org.sparta.streaming.redis.RedisStore;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일간 통계가 끝나면 targetDate가 속한 일간/주간/월간 순위표(조회수, 재생시간)를 video_leaderboard에 반영한다.
+ *
+ * - 주간/월간 순위표가 전날까지 반영되어 있으면 targetDate 하루치만 더한다. (Leaderboard.advance)
+ * - 그 밖(처음, 재실행, 날짜를 건너뜀, 후보가 너무 많음)에는 기간 합계에서 상위 K개를 다시 뽑는다.
+ * - 일간 순위표는 하루치라 항상 그날 통계에서 바로 뽑는다.
+ * 주간/월간 합계는 앞 Step(PeriodRollupTasklet)이 채운 weekly/monthly_video_statistics에서 읽는다.
+ * streaming.leaderboard.redis-mirror=true면 커밋 후 Redis 정렬 집합에도 복사한다. (member: videoId, score: 점수)
+ */
+@Slf4j
+@Component
+@Profile("batch")
+public class LeaderboardTasklet implements Tasklet {
+
+    public static final String REDIS_KEY_PREFIX = "leaderboard:";
+
+    private static final RowMapper<LeaderboardEntry> ENTRY_MAPPER = (rs, rowNum) -> new LeaderboardEntry(
+            rs.getInt("video_id"), rs.getLong("view_count"), rs.getLong("total_watch_seconds"));
+
+    private static final String DAY_ROWS_SQL = """
+            SELECT video_id, view_count, total_watch_seconds
+            FROM daily_video_statistics
+            WHERE stat_date = ?
+            """;
+
+    private static final String BOARD_SQL = """
+            SELECT video_id, view_count, total_watch_seconds, as_of_date
+            FROM video_leaderboard
+            WHERE period_type = ? AND period_start = ? AND metric = ?
+            ORDER BY rank_no
+            """;
+
+    // 기간 합계 상위 K (source: 기간별 통계 테이블과 조건)
+    private static final String EXACT_TOP_SQL = """
+            SELECT video_id, view_count AS total_views, total_watch_seconds
+            FROM %s
+            ORDER BY %s DESC, video_id
+            LIMIT ?
+            """;
+
+    // 후보 동영상만 기간 합계 (유니크 인덱스)
+    private static final String CANDIDATE_TOTALS_SQL = """
+            SELECT video_id, view_count AS total_views, total_watch_seconds
+            FROM %s
+              AND video_id IN (%s)
+            """;
+
+    private static final RowMapper<LeaderboardEntry> TOTALS_MAPPER = (rs, rowNum) -> new LeaderboardEntry(
+            rs.getInt("video_id"), rs.getLong("total_views"), rs.getLong("total_watch_seconds"));
+
+    private static final String DELETE_SQL = """
+            DELETE FROM video_leaderboard
+            WHERE period_type = ? AND period_start = ? AND metric = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO video_leaderboard
+                (period_type, period_start, metric, rank_no, video_id,
+                 view_count, total_watch_seconds, as_of_date, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<RedisStore> redisStore;
+    private final int size;
+    private final int maxCandidates;
+    private final boolean redisMirror;
+    private final long redisTtlSeconds;
+
+    public LeaderboardTasklet(JdbcTemplate jdbcTemplate,
+                              ObjectProvider<RedisStore> redisStore,
+                              @Value("${streaming.leaderboard.size:100}") int size,
+                              @Value("${streaming.leaderboard.max-candidates:1000}") int maxCandidates,
+                              @Value("${streaming.leaderboard.redis-mirror:false}") boolean redisMirror,
+                              @Value("${streaming.leaderboard.redis-ttl-days:40}") long redisTtlDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisStore = redisStore;
+        this.size = size;
+        this.maxCandidates = maxCandidates;
+        this.redisMirror = redisMirror;
+        this.redisTtlSeconds = redisTtlDays * 24 * 60 * 60;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDate day = BatchDates.targetDateOrYesterday(
+                (LocalDate) chunkContext.getStepContext().getJobParameters().get(BatchDates.TARGET_DATE));
+        List<LeaderboardEntry> dayRows = jdbcTemplate.query(DAY_ROWS_SQL, ENTRY_MAPPER, day);
+
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                int written = refresh(period, period.start(day), metric, day, dayRows);
+                contribution.incrementWriteCount(written);
+            }
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    private int refresh(LeaderboardPeriod period, LocalDate start, LeaderboardMetric metric,
+                        LocalDate day, List<LeaderboardEntry> dayRows) {
+        List<LocalDate> asOf = new ArrayList<>(1);
+        List<LeaderboardEntry> board = jdbcTemplate.query(BOARD_SQL, (rs, rowNum) -> {
+            if (rowNum == 0) {
+                asOf.add(rs.getDate("as_of_date").toLocalDate());
+            }
+            return ENTRY_MAPPER.mapRow(rs, rowNum);
+        }, period.name(), start, metric.name());
+        LocalDate previousAsOf = asOf.isEmpty() ? null : asOf.get(0);
+
+        List<LeaderboardEntry> top = null;
+        LocalDate through = day;
+        if (period != LeaderboardPeriod.DAILY && day.minusDays(1).equals(previousAsOf)) {
+            top = Leaderboard.advance(board, dayRows, metric, size, maxCandidates,
+                    candidates -> candidateTotals(period, start, candidates));
+        }
+        if (top == null) {
+            // 재실행 등으로 이미 더 뒤 날짜까지 반영되어 있었으면 기간 합계도 그 날짜까지 들어 있음
+            if (previousAsOf != null && previousAsOf.isAfter(day)) {
+                through = previousAsOf;
+            }
+            List<Object> args = sourceArgs(period, start);
+            args.add(size);
+            top = jdbcTemplate.query(EXACT_TOP_SQL.formatted(source(period), metric.sumColumn()), TOTALS_MAPPER,
+                    args.toArray());
+            log.info("순위표 재집계: {} {} {} ~ {}, {}건", period, metric, start, through, top.size());
+        } else {
+            log.info("순위표 하루치 반영: {} {} {} ({}), {}건", period, metric, start, day, top.size());
+        }
+
+        save(period, start, metric, top, through);
+        return top.size();
+    }
+
+    private List<LeaderboardEntry> candidateTotals(LeaderboardPeriod period, LocalDate start, List<Integer> videoIds) {
+        String placeholders = String.join(",", Collections.nCopies(videoIds.size(), "?"));
+        List<Object> args = sourceArgs(period, start);
+        args.addAll(videoIds);
+        return jdbcTemplate.query(CANDIDATE_TOTALS_SQL.formatted(source(period), placeholders), TOTALS_MAPPER,
+                args.toArray());
+    }
+
+    private static String source(LeaderboardPeriod period) {
+        return switch (period) {
+            case DAILY -> "daily_video_statistics WHERE stat_date = ?";
+            case WEEKLY -> "weekly_video_statistics WHERE week_start_date = ?";
+            case MONTHLY -> "monthly_video_statistics WHERE year = ? AND month = ?";
+        };
+    }
+
+    private static List<Object> sourceArgs(LeaderboardPeriod period, LocalDate start) {
+        List<Object> args = new ArrayList<>();
+        if (period == LeaderboardPeriod.MONTHLY) {
+            args.add(start.getYear());
+            args.add(start.getMonthValue());
+        } else {
+            args.add(start);
+        }
+        return args;
+    }
+
+    private void save(LeaderboardPeriod period, LocalDate start, LeaderboardMetric metric,
+                      List<LeaderboardEntry> top, LocalDate asOf) {
+        jdbcTemplate.update(DELETE_SQL, period.name(), start, metric.name());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            LeaderboardEntry entry = top.get(i);
+            rows.add(new Object[]{period.name(), Date.valueOf(start), metric.name(), i + 1, entry.videoId(),
+                    entry.viewCount(), entry.totalWatchSeconds(), Date.valueOf(asOf), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        if (redisMirror) {
+            mirror(period, start, metric, top);
+        }
+    }
+
+    private void mirror(LeaderboardPeriod period, LocalDate start, LeaderboardMetric metric,
+                        List<LeaderboardEntry> top) {
+        RedisStore store = redisStore.getIfAvailable();
+        if (store == null) {
+            return;
+        }
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (LeaderboardEntry entry : top) {
+            scores.put(String.valueOf(entry.videoId()), (double) metric.score(entry));
+        }
+        String key = redisKey(period, start, metric);
+        TransactionHooks.afterCommit(() -> {
+            try {
+                store.replaceSortedSet(key, scores, redisTtlSeconds);
+            } catch (RuntimeException e) {
+                // 복사본이라 실패해도 배치는 성공 (다음 실행에서 다시 씀)
+                log.warn("순위표 Redis 복사 실패: key={}", key, e);
+            }
+        });
+    }
+
+    /**
+     * 예: leaderboard:WEEKLY:2026-10-12:VIEWS
+     */
+    public static String redisKey(LeaderboardPeriod period, LocalDate start, LeaderboardMetric metric) {
+        return REDIS_KEY_PREFIX + period.name() + ":" + start + ":" + metric.name();
+    }
+}
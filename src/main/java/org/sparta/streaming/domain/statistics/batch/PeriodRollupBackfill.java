@@ -0,0 +1,83 @@
+// ========================================
+// PeriodRollupBackfill.java (주간/월간 통계 기간 재집계)
+// ========================================
+package org.sparta.streaming.domain.statistics.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.sparta.streaming.cache.PeriodResponseCache;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * from ~ to 에 걸친 모든 주/월을 daily_video_statistics에서 다시 집계한다.
+ * periodRollupStep은 배포 후 실행한 날짜의 주/월만 채우므로, 그 전 기간의 주간/월간 조회는 빈 결과가 된다.
+ * 배포 직후 한 번 일간 통계가 있는 첫 날부터 어제까지 실행한다. (POST /api/batch/period-rollup/backfill)
+ *
+ * - 일간 통계 배치를 다시 돌린 과거 날짜를 주/월에 반영할 때도 쓴다.
+ * - 두 기준일 행을 잠근 채 실행하므로 같은 시각의 periodRollupStep과 겹치지 않는다.
+ * - 기준일이 없거나 to보다 이전이면 to로 올린다. (다음 날 배치는 하루치만 더함)
+ * - 커밋 후 다시 집계한 주/월의 응답 캐시를 비운다.
+ */
+@Slf4j
+@Service
+@Profile("batch")
+@RequiredArgsConstructor
+public class PeriodRollupBackfill {
+
+    private final PeriodRollupTasklet periodRollupTasklet;
+    private final BatchWatermarks watermarks;
+    private final PeriodResponseCache responseCache;
+
+    /**
+     * @return 생성된 주간 + 월간 행 수
+     */
+    @Transactional
+    public int backfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("재집계 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        LocalDate yesterday = BatchDates.targetDateOrYesterday(null);
+        if (to.isAfter(yesterday)) {
+            throw new IllegalArgumentException("재집계는 어제(" + yesterday + ")까지만 할 수 있습니다.");
+        }
+
+        LocalDate weeklyWatermark = watermarks.lock(PeriodRollupTasklet.WEEKLY_WATERMARK);
+        LocalDate monthlyWatermark = watermarks.lock(PeriodRollupTasklet.MONTHLY_WATERMARK);
+
+        int weeks = 0;
+        int weeklyRows = 0;
+        for (LocalDate start = LeaderboardPeriod.WEEKLY.start(from); !start.isAfter(to); start = start.plusWeeks(1)) {
+            weeklyRows += periodRollupTasklet.rebuildWeek(start);
+            invalidateAfterCommit(start);
+            weeks++;
+        }
+
+        int months = 0;
+        int monthlyRows = 0;
+        for (LocalDate start = LeaderboardPeriod.MONTHLY.start(from); !start.isAfter(to); start = start.plusMonths(1)) {
+            monthlyRows += periodRollupTasklet.rebuildMonth(start);
+            invalidateAfterCommit(start);
+            months++;
+        }
+
+        periodRollupTasklet.advance(PeriodRollupTasklet.WEEKLY_WATERMARK, weeklyWatermark, to);
+        periodRollupTasklet.advance(PeriodRollupTasklet.MONTHLY_WATERMARK, monthlyWatermark, to);
+
+        log.info("주간/월간 통계 기간 재집계: {} ~ {}, 주 {}개({}건), 월 {}개({}건)",
+                from, to, weeks, weeklyRows, months, monthlyRows);
+        return weeklyRows + monthlyRows;
+    }
+
+    // 기간 첫날을 포함하는 응답 = 그 주/월 응답
+    private void invalidateAfterCommit(LocalDate periodStart) {
+        TransactionHooks.afterCommit(() -> responseCache.invalidate(periodStart));
+    }
+}
@@ -0,0 +1,165 @@
+// ========================================
+// PeriodRollupTasklet.java (주간/월간 통계 누적)
+// ========================================
+package org.sparta.streaming.domain.statistics.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * targetDate 일간 통계를 weekly_video_statistics, monthly_video_statistics에 반영한다.
+ *
+ * - 반영 기준일(watermark)이 전날이면 targetDate 하루치만 더한다.
+ *   last_stat_date가 이미 targetDate 이상인 행은 건너뛰어 같은 날을 두 번 더하지 않는다.
+ * - 그 밖(처음, 재실행, 날짜를 건너뜀)에는 targetDate가 속한 주/월만 일간 통계에서 다시 집계한다.
+ *
+ * 이 step을 배포하기 전의 주/월은 비어 있으므로 PeriodRollupBackfill로 기간을 지정해 한 번 다시 집계한다.
+ */
+@Slf4j
+@Component
+@Profile("batch")
+@RequiredArgsConstructor
+public class PeriodRollupTasklet implements Tasklet {
+
+    public static final String WEEKLY_WATERMARK = "weekly_video_statistics";
+    public static final String MONTHLY_WATERMARK = "monthly_video_statistics";
+
+    // 대입은 왼쪽부터 적용되므로 합계를 먼저, last_stat_date를 나중에
+    private static final String WEEKLY_ADD_SQL = """
+            INSERT INTO weekly_video_statistics
+                (video_id, week_start_date, week_end_date, view_count, total_watch_seconds, last_stat_date, created_at)
+            SELECT d.video_id, ?, ?, d.views, d.watch_seconds, d.stat_day, NOW()
+            FROM (
+                SELECT video_id, view_count AS views, total_watch_seconds AS watch_seconds, stat_date AS stat_day
+                FROM daily_video_statistics
+                WHERE stat_date = ?
+            ) d
+            ON DUPLICATE KEY UPDATE
+                view_count = IF(last_stat_date < d.stat_day, view_count + d.views, view_count),
+                total_watch_seconds = IF(last_stat_date < d.stat_day, total_watch_seconds + d.watch_seconds, total_watch_seconds),
+                last_stat_date = GREATEST(last_stat_date, d.stat_day)
+            """;
+
+    private static final String WEEKLY_REBUILD_SQL = """
+            INSERT INTO weekly_video_statistics
+                (video_id, week_start_date, week_end_date, view_count, total_watch_seconds, last_stat_date, created_at)
+            SELECT video_id, ?, ?, SUM(view_count), SUM(total_watch_seconds), MAX(stat_date), NOW()
+            FROM daily_video_statistics
+            WHERE stat_date BETWEEN ? AND ?
+            GROUP BY video_id
+            """;
+
+    private static final String MONTHLY_ADD_SQL = """
+            INSERT INTO monthly_video_statistics
+                (video_id, year, month, month_start_date, month_end_date,
+                 view_count, total_watch_seconds, last_stat_date, created_at)
+            SELECT d.video_id, ?, ?, ?, ?, d.views, d.watch_seconds, d.stat_day, NOW()
+            FROM (
+                SELECT video_id, view_count AS views, total_watch_seconds AS watch_seconds, stat_date AS stat_day
+                FROM daily_video_statistics
+                WHERE stat_date = ?
+            ) d
+            ON DUPLICATE KEY UPDATE
+                view_count = IF(last_stat_date < d.stat_day, view_count + d.views, view_count),
+                total_watch_seconds = IF(last_stat_date < d.stat_day, total_watch_seconds + d.watch_seconds, total_watch_seconds),
+                last_stat_date = GREATEST(last_stat_date, d.stat_day)
+            """;
+
+    private static final String MONTHLY_REBUILD_SQL = """
+            INSERT INTO monthly_video_statistics
+                (video_id, year, month, month_start_date, month_end_date,
+                 view_count, total_watch_seconds, last_stat_date, created_at)
+            SELECT video_id, ?, ?, ?, ?, SUM(view_count), SUM(total_watch_seconds), MAX(stat_date), NOW()
+            FROM daily_video_statistics
+            WHERE stat_date BETWEEN ? AND ?
+            GROUP BY video_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchWatermarks watermarks;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDate day = BatchDates.targetDateOrYesterday(
+                (LocalDate) chunkContext.getStepContext().getJobParameters().get(BatchDates.TARGET_DATE));
+
+        contribution.incrementWriteCount(weekly(day));
+        contribution.incrementWriteCount(monthly(day));
+        return RepeatStatus.FINISHED;
+    }
+
+    private int weekly(LocalDate day) {
+        LocalDate start = LeaderboardPeriod.WEEKLY.start(day);
+        LocalDate end = start.plusDays(6);
+
+        LocalDate watermark = watermarks.lock(WEEKLY_WATERMARK);
+        int affected;
+        if (day.minusDays(1).equals(watermark)) {
+            affected = jdbcTemplate.update(WEEKLY_ADD_SQL, start, end, day);
+            log.info("주간 통계 하루치 반영: week={}, date={}, affected={}", start, day, affected);
+        } else {
+            affected = rebuildWeek(start);
+            log.info("주간 통계 재집계: week={}, 생성 {}건 (기준일 {})", start, affected, watermark);
+        }
+        advance(WEEKLY_WATERMARK, watermark, day);
+        return affected;
+    }
+
+    private int monthly(LocalDate day) {
+        LocalDate start = LeaderboardPeriod.MONTHLY.start(day);
+        LocalDate end = day.with(TemporalAdjusters.lastDayOfMonth());
+
+        LocalDate watermark = watermarks.lock(MONTHLY_WATERMARK);
+        int affected;
+        if (day.minusDays(1).equals(watermark)) {
+            affected = jdbcTemplate.update(MONTHLY_ADD_SQL,
+                    day.getYear(), day.getMonthValue(), start, end, day);
+            log.info("월간 통계 하루치 반영: month={}, date={}, affected={}", start, day, affected);
+        } else {
+            affected = rebuildMonth(start);
+            log.info("월간 통계 재집계: month={}, 생성 {}건 (기준일 {})", start, affected, watermark);
+        }
+        advance(MONTHLY_WATERMARK, watermark, day);
+        return affected;
+    }
+
+    /**
+     * start(월요일)로 시작하는 주를 일간 통계에서 다시 집계 (기존 행 삭제 후 생성)
+     */
+    int rebuildWeek(LocalDate start) {
+        LocalDate end = start.plusDays(6);
+        jdbcTemplate.update("DELETE FROM weekly_video_statistics WHERE week_start_date = ?", start);
+        return jdbcTemplate.update(WEEKLY_REBUILD_SQL, start, end, start, end);
+    }
+
+    /**
+     * start(1일)로 시작하는 월을 일간 통계에서 다시 집계 (기존 행 삭제 후 생성)
+     */
+    int rebuildMonth(LocalDate start) {
+        LocalDate end = start.with(TemporalAdjusters.lastDayOfMonth());
+        jdbcTemplate.update("DELETE FROM monthly_video_statistics WHERE year = ? AND month = ?",
+                start.getYear(), start.getMonthValue());
+        return jdbcTemplate.update(MONTHLY_REBUILD_SQL,
+                start.getYear(), start.getMonthValue(), start, end, start, end);
+    }
+
+    // 예전 날짜를 다시 돌린 경우 기준일은 그대로 둔다 (그 뒤 날짜는 이미 반영됨)
+    void advance(String name, LocalDate watermark, LocalDate day) {
+        if (watermark == null || day.isAfter(watermark)) {
+            watermarks.set(name, day);
+        }
+    }
+}
@@ -4,7 +4,9 @@
 package org.sparta.streaming.domain.statistics.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse;
+import org.sparta.streaming.cache.PeriodResponseCache;
+import org.sparta.streaming.domain.statistics.batch.DailyStatisticsBatchConfig;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
 import org.sparta.streaming.domain.statistics.service.StatisticsService;
 import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -12,8 +14,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.function.BiFunction;
 
+/**
+ * 기간별 TOP N (limit 기본 5, 최대 streaming.leaderboard.size)
+ * 지난 기간 응답은 PeriodResponseCache에서 JSON 바이트로 바로 내려준다. (ETag, 304)
+ */
 @RestController
 @RequestMapping("/api/statistics")
 @RequiredArgsConstructor
@@ -21,52 +27,62 @@ import java.util.List;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final PeriodResponseCache responseCache;
 
     @GetMapping("/daily/views")
-    public ResponseEntity<List<VideoStatisticsResponse>> getDailyTopByViews(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        List<VideoStatisticsResponse> result = statisticsService.getDailyTopByViews(targetDate);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getDailyTopByViews(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "5") int limit) {
+        return respond("daily/views", LeaderboardPeriod.DAILY, date, limit, statisticsService::getDailyTopByViews);
     }
 
     @GetMapping("/daily/watch-time")
-    public ResponseEntity<List<VideoStatisticsResponse>> getDailyTopByWatchTime(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        List<VideoStatisticsResponse> result = statisticsService.getDailyTopByWatchTime(targetDate);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getDailyTopByWatchTime(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "5") int limit) {
+        return respond("daily/watch-time", LeaderboardPeriod.DAILY, date, limit,
+                statisticsService::getDailyTopByWatchTime);
     }
 
     @GetMapping("/weekly/views")
-    public ResponseEntity<List<VideoStatisticsResponse>> getWeeklyTopByViews(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        List<VideoStatisticsResponse> result = statisticsService.getWeeklyTopByViews(targetDate);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getWeeklyTopByViews(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "5") int limit) {
+        return respond("weekly/views", LeaderboardPeriod.WEEKLY, date, limit, statisticsService::getWeeklyTopByViews);
     }
 
     @GetMapping("/weekly/watch-time")
-    public ResponseEntity<List<VideoStatisticsResponse>> getWeeklyTopByWatchTime(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        List<VideoStatisticsResponse> result = statisticsService.getWeeklyTopByWatchTime(targetDate);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getWeeklyTopByWatchTime(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "5") int limit) {
+        return respond("weekly/watch-time", LeaderboardPeriod.WEEKLY, date, limit,
+                statisticsService::getWeeklyTopByWatchTime);
     }
 
     @GetMapping("/monthly/views")
-    public ResponseEntity<List<VideoStatisticsResponse>> getMonthlyTopByViews(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        List<VideoStatisticsResponse> result = statisticsService.getMonthlyTopByViews(targetDate);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getMonthlyTopByViews(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "5") int limit) {
+        return respond("monthly/views", LeaderboardPeriod.MONTHLY, date, limit,
+                statisticsService::getMonthlyTopByViews);
     }
 
     @GetMapping("/monthly/watch-time")
-    public ResponseEntity<List<VideoStatisticsResponse>> getMonthlyTopByWatchTime(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        List<VideoStatisticsResponse> result = statisticsService.getMonthlyTopByWatchTime(targetDate);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getMonthlyTopByWatchTime(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "5") int limit) {
+        return respond("monthly/watch-time", LeaderboardPeriod.MONTHLY, date, limit,
+                statisticsService::getMonthlyTopByWatchTime);
+    }
+
+    // 같은 기간 안의 어느 날짜로 요청해도 기간 첫날 기준으로 같은 캐시 항목을 쓴다
+    // limit도 범위를 맞춘 값으로 키를 만들어, 범위 밖 값마다 캐시 항목이 새로 생기지 않게 한다
+    private ResponseEntity<byte[]> respond(String path, LeaderboardPeriod period, LocalDate date, int limit,
+                                           BiFunction<LocalDate, Integer, ?> query) {
+        LocalDate targetDate = date != null ? date : responseCache.today();
+        LocalDate start = period.start(targetDate);
+        int clamped = statisticsService.clampLimit(limit);
+        return responseCache.respond(DailyStatisticsBatchConfig.JOB_NAME, "statistics/" + path + "?limit=" + clamped,
+                start, period.end(targetDate), () -> query.apply(start, clamped));
     }
 }
@@ -50,6 +50,9 @@ public class MonthlyVideoStatistics {
     @Column(name = "total_watch_seconds", nullable = false)
     private Long totalWatchSeconds = 0L;
 
+    @Column(name = "last_stat_date", nullable = false)
+    private LocalDate lastStatDate;  // 마지막으로 더한 일간 통계 날짜 (같은 날을 두 번 더하지 않도록, 기존 행 마이그레이션은 docs/batch-rollups.md)
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -57,7 +60,7 @@ public class MonthlyVideoStatistics {
     @Builder
     private MonthlyVideoStatistics(Video video, Integer year, Integer month,
                                    LocalDate monthStartDate, LocalDate monthEndDate,
-                                   Integer viewCount, Long totalWatchSeconds) {
+                                   Integer viewCount, Long totalWatchSeconds, LocalDate lastStatDate) {
         this.video = video;
         this.year = year;
         this.month = month;
@@ -65,11 +68,12 @@ public class MonthlyVideoStatistics {
         this.monthEndDate = monthEndDate;
         this.viewCount = viewCount;
         this.totalWatchSeconds = totalWatchSeconds;
+        this.lastStatDate = lastStatDate;
     }
 
     public static MonthlyVideoStatistics create(Video video, Integer year, Integer month,
                                                 LocalDate monthStartDate, LocalDate monthEndDate,
-                                                Integer viewCount, Long totalWatchSeconds) {
+                                                Integer viewCount, Long totalWatchSeconds, LocalDate lastStatDate) {
         return MonthlyVideoStatistics.builder()
                 .video(video)
                 .year(year)
@@ -78,6 +82,7 @@ public class MonthlyVideoStatistics {
                 .monthEndDate(monthEndDate)
                 .viewCount(viewCount)
                 .totalWatchSeconds(totalWatchSeconds)
+                .lastStatDate(lastStatDate)
                 .build();
     }
 }
@@ -0,0 +1,62 @@
+// ========================================
+// VideoLeaderboardEntry.java (기간별 순위표)
+// ========================================
+package org.sparta.streaming.domain.statistics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardMetric;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * (기간, 기간 시작일, 순위 기준)별 TOP K 한 줄
+ * 일간 통계 배치가 끝날 때마다 LeaderboardTasklet이 통째로 바꿔 쓴다. (as_of_date: 반영된 마지막 통계 날짜)
+ * 스키마는 docs/batch-rollups.md
+ */
+@Entity
+@Table(name = "video_leaderboard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_leaderboard_rank",
+                columnNames = {"period_type", "period_start", "metric", "rank_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VideoLeaderboardEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private LeaderboardPeriod periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private LeaderboardMetric metric;
+
+    @Column(name = "rank_no", nullable = false)
+    private Integer rankNo;
+
+    @Column(name = "video_id", nullable = false)
+    private Integer videoId;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+
+    @Column(name = "total_watch_seconds", nullable = false)
+    private Long totalWatchSeconds;
+
+    @Column(name = "as_of_date", nullable = false)
+    private LocalDate asOfDate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
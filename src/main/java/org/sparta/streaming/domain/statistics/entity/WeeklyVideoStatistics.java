@@ -44,28 +44,33 @@ public class WeeklyVideoStatistics {
     @Column(name = "total_watch_seconds", nullable = false)
     private Long totalWatchSeconds = 0L;
 
+    @Column(name = "last_stat_date", nullable = false)
+    private LocalDate lastStatDate;  // 마지막으로 더한 일간 통계 날짜 (같은 날을 두 번 더하지 않도록, 기존 행 마이그레이션은 docs/batch-rollups.md)
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Builder
     private WeeklyVideoStatistics(Video video, LocalDate weekStartDate, LocalDate weekEndDate,
-                                  Integer viewCount, Long totalWatchSeconds) {
+                                  Integer viewCount, Long totalWatchSeconds, LocalDate lastStatDate) {
         this.video = video;
         this.weekStartDate = weekStartDate;
         this.weekEndDate = weekEndDate;
         this.viewCount = viewCount;
         this.totalWatchSeconds = totalWatchSeconds;
+        this.lastStatDate = lastStatDate;
     }
 
     public static WeeklyVideoStatistics create(Video video, LocalDate weekStartDate, LocalDate weekEndDate,
-                                               Integer viewCount, Long totalWatchSeconds) {
+                                               Integer viewCount, Long totalWatchSeconds, LocalDate lastStatDate) {
         return WeeklyVideoStatistics.builder()
                 .video(video)
                 .weekStartDate(weekStartDate)
                 .weekEndDate(weekEndDate)
                 .viewCount(viewCount)
                 .totalWatchSeconds(totalWatchSeconds)
+                .lastStatDate(lastStatDate)
                 .build();
     }
 }
\ No newline at end of file
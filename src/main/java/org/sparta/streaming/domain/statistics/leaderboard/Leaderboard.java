@@ -0,0 +1,92 @@
+// ========================================
+// Leaderboard.java (TOP K 선택 / 하루치 반영)
+// ========================================
+package org.sparta.streaming.domain.statistics.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * 기간 순위표 TOP K를 하루치 통계만으로 갱신한다.
+ *
+ * - 기존 순위표 동영상: 기간 합계를 알고 있으므로 증가분만 더한다.
+ * - 순위표 밖 동영상: 기간 합계는 모르지만 (기존 K위 점수 + 오늘 증가분)을 넘을 수 없다.
+ *   이 상한이 갱신된 순위표 동영상들의 최저 점수 이상인 것만 후보로 보고 기간 합계를 조회한다.
+ * - 순위표가 K개보다 적으면 기간 중 통계가 있는 동영상이 모두 들어 있는 것이므로, 새 동영상의 합계는 오늘 값 그대로다.
+ * 후보가 너무 많으면 null을 돌려주고, 호출한 쪽이 기간 전체를 다시 집계한다.
+ */
+public final class Leaderboard {
+
+    private Leaderboard() {
+    }
+
+    /**
+     * 크기 k 힙으로 상위 k개 선택 (metric 순서로 정렬해 반환)
+     */
+    public static List<LeaderboardEntry> top(Collection<LeaderboardEntry> entries, LeaderboardMetric metric, int k) {
+        // 머리가 가장 낮은 순위
+        PriorityQueue<LeaderboardEntry> heap = new PriorityQueue<>(k + 1, metric.order().reversed());
+        for (LeaderboardEntry entry : entries) {
+            if (heap.size() < k) {
+                heap.add(entry);
+            } else if (metric.order().compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        List<LeaderboardEntry> top = new ArrayList<>(heap);
+        top.sort(metric.order());
+        return top;
+    }
+
+    /**
+     * @param board       기존 순위표 (순위순, 전날까지 정확한 기간 합계)
+     * @param dayRows     오늘 통계 (동영상별 증가분)
+     * @param exactTotals 후보 videoId들의 오늘까지 기간 합계 조회
+     * @return 오늘까지 반영한 순위표, 후보가 maxCandidates보다 많으면 null
+     */
+    public static List<LeaderboardEntry> advance(List<LeaderboardEntry> board,
+                                                 List<LeaderboardEntry> dayRows,
+                                                 LeaderboardMetric metric,
+                                                 int k,
+                                                 int maxCandidates,
+                                                 Function<List<Integer>, List<LeaderboardEntry>> exactTotals) {
+        Map<Integer, LeaderboardEntry> deltas = new HashMap<>(dayRows.size() * 2);
+        for (LeaderboardEntry row : dayRows) {
+            deltas.put(row.videoId(), row);
+        }
+
+        boolean complete = board.size() < k;
+        List<LeaderboardEntry> pool = new ArrayList<>(k * 2);
+        long threshold = Long.MAX_VALUE;
+        for (LeaderboardEntry entry : board) {
+            LeaderboardEntry delta = deltas.remove(entry.videoId());
+            LeaderboardEntry updated = delta != null ? entry.plus(delta) : entry;
+            pool.add(updated);
+            threshold = Math.min(threshold, metric.score(updated));
+        }
+
+        // 남은 deltas는 순위표 밖 동영상
+        long previousKth = complete ? 0 : metric.score(board.get(board.size() - 1));
+        List<Integer> candidates = new ArrayList<>();
+        for (LeaderboardEntry delta : deltas.values()) {
+            if (complete) {
+                pool.add(delta);
+            } else if (previousKth + metric.score(delta) >= threshold) {
+                candidates.add(delta.videoId());
+            }
+        }
+        if (candidates.size() > maxCandidates) {
+            return null;
+        }
+        if (!candidates.isEmpty()) {
+            pool.addAll(exactTotals.apply(candidates));
+        }
+        return top(pool, metric, k);
+    }
+}
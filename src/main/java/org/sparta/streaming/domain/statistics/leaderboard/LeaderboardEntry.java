@@ -0,0 +1,14 @@
+// ========================================
+// LeaderboardEntry.java (순위표 한 줄)
+// ========================================
+package org.sparta.streaming.domain.statistics.leaderboard;
+
+/**
+ * 동영상 하나의 기간 합계 (또는 하루치 증가분)
+ */
+public record LeaderboardEntry(int videoId, long viewCount, long totalWatchSeconds) {
+
+    public LeaderboardEntry plus(LeaderboardEntry delta) {
+        return new LeaderboardEntry(videoId, viewCount + delta.viewCount, totalWatchSeconds + delta.totalWatchSeconds);
+    }
+}
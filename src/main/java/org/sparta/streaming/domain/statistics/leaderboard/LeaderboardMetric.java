@@ -0,0 +1,43 @@
+// ========================================
+// LeaderboardMetric.java (순위 기준)
+// ========================================
+package org.sparta.streaming.domain.statistics.leaderboard;
+
+import java.util.Comparator;
+
+public enum LeaderboardMetric {
+
+    VIEWS("total_views") {
+        @Override
+        public long score(LeaderboardEntry entry) {
+            return entry.viewCount();
+        }
+    },
+    WATCH_TIME("total_watch_seconds") {
+        @Override
+        public long score(LeaderboardEntry entry) {
+            return entry.totalWatchSeconds();
+        }
+    };
+
+    // 기간 합계 SQL에서 정렬할 컬럼 별칭
+    private final String sumColumn;
+    // 점수 내림차순, 같으면 video_id 오름차순 (SQL ORDER BY와 같은 순서)
+    private final Comparator<LeaderboardEntry> order;
+
+    LeaderboardMetric(String sumColumn) {
+        this.sumColumn = sumColumn;
+        this.order = Comparator.comparingLong(this::score).reversed()
+                .thenComparingInt(LeaderboardEntry::videoId);
+    }
+
+    public abstract long score(LeaderboardEntry entry);
+
+    public String sumColumn() {
+        return sumColumn;
+    }
+
+    public Comparator<LeaderboardEntry> order() {
+        return order;
+    }
+}
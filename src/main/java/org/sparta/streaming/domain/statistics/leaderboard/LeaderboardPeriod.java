@@ -0,0 +1,58 @@
+// ========================================
+// LeaderboardPeriod.java (순위표 기간)
+// ========================================
+package org.sparta.streaming.domain.statistics.leaderboard;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 일간 / 주간(월~일) / 월간
+ */
+public enum LeaderboardPeriod {
+
+    DAILY {
+        @Override
+        public LocalDate start(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate end(LocalDate date) {
+            return date;
+        }
+    },
+    WEEKLY {
+        @Override
+        public LocalDate start(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate end(LocalDate date) {
+            return date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        }
+    },
+    MONTHLY {
+        @Override
+        public LocalDate start(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate end(LocalDate date) {
+            return date.with(TemporalAdjusters.lastDayOfMonth());
+        }
+    };
+
+    /**
+     * date가 속한 기간의 첫날
+     */
+    public abstract LocalDate start(LocalDate date);
+
+    /**
+     * date가 속한 기간의 마지막 날
+     */
+    public abstract LocalDate end(LocalDate date);
+}
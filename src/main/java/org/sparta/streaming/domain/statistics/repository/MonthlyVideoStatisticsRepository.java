@@ -3,20 +3,44 @@
 // ========================================
 package org.sparta.streaming.domain.statistics.repository;
 
+import org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse;
 import org.sparta.streaming.domain.statistics.entity.MonthlyVideoStatistics;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface MonthlyVideoStatisticsRepository extends JpaRepository<MonthlyVideoStatistics, Long> {
 
     /**
-     * 특정 월의 조회수 TOP5
+     * 특정 월의 조회수 TOP N
      */
-    List<MonthlyVideoStatistics> findTop5ByYearAndMonthOrderByViewCountDesc(Integer year, Integer month);
+    @Query("""
+        SELECT new org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse(
+            v.videoId, v.title, s.viewCount, s.totalWatchSeconds)
+        FROM MonthlyVideoStatistics s
+        JOIN s.video v
+        WHERE s.year = :year AND s.month = :month
+        ORDER BY s.viewCount DESC, v.videoId
+        """)
+    List<VideoStatisticsResponse> findTopByViews(@Param("year") Integer year,
+                                                      @Param("month") Integer month,
+                                                      Pageable pageable);
 
     /**
-     * 특정 월의 재생시간 TOP5
+     * 특정 월의 재생시간 TOP N
      */
-    List<MonthlyVideoStatistics> findTop5ByYearAndMonthOrderByTotalWatchSecondsDesc(Integer year, Integer month);
-}
\ No newline at end of file
+    @Query("""
+        SELECT new org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse(
+            v.videoId, v.title, s.viewCount, s.totalWatchSeconds)
+        FROM MonthlyVideoStatistics s
+        JOIN s.video v
+        WHERE s.year = :year AND s.month = :month
+        ORDER BY s.totalWatchSeconds DESC, v.videoId
+        """)
+    List<VideoStatisticsResponse> findTopByWatchTime(@Param("year") Integer year,
+                                                          @Param("month") Integer month,
+                                                          Pageable pageable);
+}
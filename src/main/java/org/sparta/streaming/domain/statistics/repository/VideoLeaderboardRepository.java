@@ -0,0 +1,38 @@
+// ========================================
+// VideoLeaderboardRepository.java
+// ========================================
+package org.sparta.streaming.domain.statistics.repository;
+
+import org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse;
+import org.sparta.streaming.domain.statistics.entity.VideoLeaderboardEntry;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardMetric;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface VideoLeaderboardRepository extends JpaRepository<VideoLeaderboardEntry, Long> {
+
+    /**
+     * 순위표 상위 N개 (제목은 videos에서 PK로)
+     */
+    @Query("""
+        SELECT new org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse(
+            l.videoId, v.title, CAST(l.viewCount AS Integer), l.totalWatchSeconds)
+        FROM VideoLeaderboardEntry l
+        JOIN Video v ON v.videoId = l.videoId
+        WHERE l.periodType = :periodType
+          AND l.periodStart = :periodStart
+          AND l.metric = :metric
+        ORDER BY l.rankNo
+        """)
+    List<VideoStatisticsResponse> findBoard(
+            @Param("periodType") LeaderboardPeriod periodType,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("metric") LeaderboardMetric metric,
+            Pageable pageable);
+}
@@ -3,8 +3,12 @@
 // ========================================
 package org.sparta.streaming.domain.statistics.repository;
 
+import org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse;
 import org.sparta.streaming.domain.statistics.entity.WeeklyVideoStatistics;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,12 +16,29 @@ import java.util.List;
 public interface WeeklyVideoStatisticsRepository extends JpaRepository<WeeklyVideoStatistics, Long> {
 
     /**
-     * 특정 주의 조회수 TOP5
+     * 특정 주의 조회수 TOP N
      */
-    List<WeeklyVideoStatistics> findTop5ByWeekStartDateOrderByViewCountDesc(LocalDate weekStartDate);
+    @Query("""
+        SELECT new org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse(
+            v.videoId, v.title, s.viewCount, s.totalWatchSeconds)
+        FROM WeeklyVideoStatistics s
+        JOIN s.video v
+        WHERE s.weekStartDate = :weekStartDate
+        ORDER BY s.viewCount DESC, v.videoId
+        """)
+    List<VideoStatisticsResponse> findTopByViews(@Param("weekStartDate") LocalDate weekStartDate, Pageable pageable);
 
     /**
-     * 특정 주의 재생시간 TOP5
+     * 특정 주의 재생시간 TOP N
      */
-    List<WeeklyVideoStatistics> findTop5ByWeekStartDateOrderByTotalWatchSecondsDesc(LocalDate weekStartDate);
-}
\ No newline at end of file
+    @Query("""
+        SELECT new org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse(
+            v.videoId, v.title, s.viewCount, s.totalWatchSeconds)
+        FROM WeeklyVideoStatistics s
+        JOIN s.video v
+        WHERE s.weekStartDate = :weekStartDate
+        ORDER BY s.totalWatchSeconds DESC, v.videoId
+        """)
+    List<VideoStatisticsResponse> findTopByWatchTime(@Param("weekStartDate") LocalDate weekStartDate,
+                                                          Pageable pageable);
+}
@@ -3,138 +3,118 @@
 // ========================================
 package org.sparta.streaming.domain.statistics.service;
 
-import lombok.RequiredArgsConstructor;
 import org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse;
-import org.sparta.streaming.domain.statistics.entity.DailyVideoStatistics;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardMetric;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
 import org.sparta.streaming.domain.statistics.repository.DailyVideoStatisticsRepository;
-import org.sparta.streaming.domain.video.entity.Video;
+import org.sparta.streaming.domain.statistics.repository.MonthlyVideoStatisticsRepository;
+import org.sparta.streaming.domain.statistics.repository.VideoLeaderboardRepository;
+import org.sparta.streaming.domain.statistics.repository.WeeklyVideoStatisticsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.TemporalAdjusters;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.function.Function;
+
+/**
+ * 순위는 배치가 미리 만들어 둔 순위표(video_leaderboard)에서 N개만 읽는다.
+ * 순위표가 없는 기간(배치 도입 전 기간 등)은 일간/주간/월간 통계 테이블에서 바로 정렬해 읽는다.
+ * N은 1 ~ 순위표 크기(streaming.leaderboard.size) 사이로 맞춘다.
+ * id, 제목, 집계값만 DTO로 바로 받는다. (엔티티 로딩 없음)
+ * SQL은 순위표가 있으면 1번, 없으면 통계 테이블 조회까지 2번
+ */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StatisticsService {
 
     private final DailyVideoStatisticsRepository statisticsRepository;
+    private final WeeklyVideoStatisticsRepository weeklyRepository;
+    private final MonthlyVideoStatisticsRepository monthlyRepository;
+    private final VideoLeaderboardRepository leaderboardRepository;
+    private final int maxLimit;
+
+    public StatisticsService(DailyVideoStatisticsRepository statisticsRepository,
+                             WeeklyVideoStatisticsRepository weeklyRepository,
+                             MonthlyVideoStatisticsRepository monthlyRepository,
+                             VideoLeaderboardRepository leaderboardRepository,
+                             @Value("${streaming.leaderboard.size:100}") int maxLimit) {
+        this.statisticsRepository = statisticsRepository;
+        this.weeklyRepository = weeklyRepository;
+        this.monthlyRepository = monthlyRepository;
+        this.leaderboardRepository = leaderboardRepository;
+        this.maxLimit = maxLimit;
+    }
 
     /**
-     * 일간 조회수 TOP5
+     * 일간 조회수 TOP N
      */
-    public List<VideoStatisticsResponse> getDailyTopByViews(LocalDate date) {
-        List<DailyVideoStatistics> stats = statisticsRepository
-                .findTop5ByStatDateOrderByViewCountDesc(date);
-
-        return stats.stream()
-                .map(s -> new VideoStatisticsResponse(
-                        s.getVideo().getVideoId(),
-                        s.getVideo().getTitle(),
-                        s.getViewCount(),
-                        s.getTotalWatchSeconds()
-                ))
-                .collect(Collectors.toList());
+    public List<VideoStatisticsResponse> getDailyTopByViews(LocalDate date, int limit) {
+        return top(LeaderboardPeriod.DAILY, date, LeaderboardMetric.VIEWS, limit, page ->
+                statisticsRepository.findTopByViews(date, page));
     }
 
     /**
-     * 일간 재생시간 TOP5
+     * 일간 재생시간 TOP N
      */
-    public List<VideoStatisticsResponse> getDailyTopByWatchTime(LocalDate date) {
-        List<DailyVideoStatistics> stats = statisticsRepository
-                .findTop5ByStatDateOrderByTotalWatchSecondsDesc(date);
-
-        return stats.stream()
-                .map(s -> new VideoStatisticsResponse(
-                        s.getVideo().getVideoId(),
-                        s.getVideo().getTitle(),
-                        s.getViewCount(),
-                        s.getTotalWatchSeconds()
-                ))
-                .collect(Collectors.toList());
+    public List<VideoStatisticsResponse> getDailyTopByWatchTime(LocalDate date, int limit) {
+        return top(LeaderboardPeriod.DAILY, date, LeaderboardMetric.WATCH_TIME, limit, page ->
+                statisticsRepository.findTopByWatchTime(date, page));
     }
 
     /**
-     * 주간 조회수 TOP5
+     * 주간 조회수 TOP N
      */
-    public List<VideoStatisticsResponse> getWeeklyTopByViews(LocalDate date) {
-        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        LocalDate sunday = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-
-        List<Object[]> results = statisticsRepository
-                .findTop5ByPeriodOrderByViewCount(monday, sunday);
-
-        return results.stream()
-                .map(r -> new VideoStatisticsResponse(
-                        ((Video) r[0]).getVideoId(),
-                        ((Video) r[0]).getTitle(),
-                        ((Long) r[1]).intValue(),
-                        (Long) r[2]
-                ))
-                .collect(Collectors.toList());
+    public List<VideoStatisticsResponse> getWeeklyTopByViews(LocalDate date, int limit) {
+        LocalDate monday = LeaderboardPeriod.WEEKLY.start(date);
+        return top(LeaderboardPeriod.WEEKLY, date, LeaderboardMetric.VIEWS, limit, page ->
+                weeklyRepository.findTopByViews(monday, page));
     }
 
     /**
-     * 주간 재생시간 TOP5
+     * 주간 재생시간 TOP N
      */
-    public List<VideoStatisticsResponse> getWeeklyTopByWatchTime(LocalDate date) {
-        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        LocalDate sunday = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-
-        List<Object[]> results = statisticsRepository
-                .findTop5ByPeriodOrderByWatchTime(monday, sunday);
-
-        return results.stream()
-                .map(r -> new VideoStatisticsResponse(
-                        ((Video) r[0]).getVideoId(),
-                        ((Video) r[0]).getTitle(),
-                        ((Long) r[1]).intValue(),
-                        (Long) r[2]
-                ))
-                .collect(Collectors.toList());
+    public List<VideoStatisticsResponse> getWeeklyTopByWatchTime(LocalDate date, int limit) {
+        LocalDate monday = LeaderboardPeriod.WEEKLY.start(date);
+        return top(LeaderboardPeriod.WEEKLY, date, LeaderboardMetric.WATCH_TIME, limit, page ->
+                weeklyRepository.findTopByWatchTime(monday, page));
     }
 
     /**
-     * 월간 조회수 TOP5
+     * 월간 조회수 TOP N
      */
-    public List<VideoStatisticsResponse> getMonthlyTopByViews(LocalDate date) {
-        LocalDate firstDay = date.withDayOfMonth(1);
-        LocalDate lastDay = date.with(TemporalAdjusters.lastDayOfMonth());
-
-        List<Object[]> results = statisticsRepository
-                .findTop5ByPeriodOrderByViewCount(firstDay, lastDay);
-
-        return results.stream()
-                .map(r -> new VideoStatisticsResponse(
-                        ((Video) r[0]).getVideoId(),
-                        ((Video) r[0]).getTitle(),
-                        ((Long) r[1]).intValue(),
-                        (Long) r[2]
-                ))
-                .collect(Collectors.toList());
+    public List<VideoStatisticsResponse> getMonthlyTopByViews(LocalDate date, int limit) {
+        return top(LeaderboardPeriod.MONTHLY, date, LeaderboardMetric.VIEWS, limit, page ->
+                monthlyRepository.findTopByViews(date.getYear(), date.getMonthValue(), page));
     }
 
     /**
-     * 월간 재생시간 TOP5
+     * 월간 재생시간 TOP N
      */
-    public List<VideoStatisticsResponse> getMonthlyTopByWatchTime(LocalDate date) {
-        LocalDate firstDay = date.withDayOfMonth(1);
-        LocalDate lastDay = date.with(TemporalAdjusters.lastDayOfMonth());
+    public List<VideoStatisticsResponse> getMonthlyTopByWatchTime(LocalDate date, int limit) {
+        return top(LeaderboardPeriod.MONTHLY, date, LeaderboardMetric.WATCH_TIME, limit, page ->
+                monthlyRepository.findTopByWatchTime(date.getYear(), date.getMonthValue(), page));
+    }
 
-        List<Object[]> results = statisticsRepository
-                .findTop5ByPeriodOrderByWatchTime(firstDay, lastDay);
+    /**
+     * 요청한 N을 1 ~ 순위표 크기로 (응답 캐시 키도 이 값으로 만든다)
+     */
+    public int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, maxLimit));
+    }
 
-        return results.stream()
-                .map(r -> new VideoStatisticsResponse(
-                        ((Video) r[0]).getVideoId(),
-                        ((Video) r[0]).getTitle(),
-                        ((Long) r[1]).intValue(),
-                        (Long) r[2]
-                ))
-                .collect(Collectors.toList());
+    private List<VideoStatisticsResponse> top(LeaderboardPeriod period, LocalDate date, LeaderboardMetric metric,
+                                              int limit,
+                                              Function<Pageable, List<VideoStatisticsResponse>> fallback) {
+        Pageable page = PageRequest.of(0, clampLimit(limit));
+        List<VideoStatisticsResponse> board = leaderboardRepository.findBoard(period, period.start(date), metric, page);
+        if (!board.isEmpty()) {
+            return board;
+        }
+        // 순위표가 없는 기간은 기간별 통계 테이블에서 바로 정렬
+        return fallback.apply(page);
     }
 }
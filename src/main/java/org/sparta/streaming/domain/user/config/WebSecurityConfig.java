@@ -6,8 +6,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.streaming.domain.user.jwt.JwtAuthenticationFilter;
 import org.sparta.streaming.domain.user.jwt.JwtAuthorizationFilter;
-import org.sparta.streaming.domain.user.security.UserDetailsServiceImpl;
+import org.sparta.streaming.domain.user.security.PrincipalCache;
 import org.sparta.streaming.domain.user.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,9 +36,17 @@ import java.io.IOException;
 public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
     private final AuthenticationConfiguration authenticationConfiguration;
 
+    // true면 토큰 클레임으로 인증 사용자 구성 (요청마다 users 조회 없음)
+    @Value("${security.jwt.stateless:false}")
+    private boolean stateless;
+
+    // 관리 포트 (management.server.port, 미설정이면 -1). 외부에 열지 않는 포트로만 Prometheus 수집 허용
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -57,7 +66,7 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, principalCache, stateless);
     }
 
     @Bean
@@ -87,6 +96,13 @@ public class WebSecurityConfig {
                         .requestMatchers("/api/dummy/**").permitAll()
                         .requestMatchers("/api/batch/**").permitAll()
 
+                        // 헬스체크 허용
+                        .requestMatchers("/actuator/health").permitAll()
+
+                        // Prometheus 수집은 관리 포트로 들어온 요청만 허용 (서비스 포트에서는 인증 필요)
+                        .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+
                         // 동영상 조회 허용
                         .requestMatchers("/api/videos/**").permitAll()
 
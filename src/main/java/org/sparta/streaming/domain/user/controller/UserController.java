@@ -44,7 +44,8 @@ public class UserController {
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getMyInfo(
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        UserResponse response = UserResponse.from(userDetails.getUser());
+        // 인증 사용자는 캐시/토큰 기반이므로 최신 정보는 DB에서 조회
+        UserResponse response = UserResponse.from(userService.findById(userDetails.getUser().getUserId()));
         return ResponseEntity.ok(response);
     }
 
@@ -10,11 +10,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.sparta.streaming.domain.user.security.UserCacheListener;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
@@ -84,6 +86,19 @@ public class User {
                 .build();
     }
 
+    /**
+     * JWT 클레임으로 만든 사용자 (stateless 모드, DB 조회 없음)
+     * id, 이메일, 권한만 있으며 연관관계 참조(FK)와 권한 확인용으로만 사용
+     */
+    public static User fromTokenClaims(Integer userId, String email, Role role) {
+        User user = User.builder()
+                .email(email)
+                .role(role)
+                .build();
+        user.userId = userId;
+        return user;
+    }
+
     // ========================================
     // 비즈니스 로직
     // ========================================
@@ -9,27 +9,37 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.sparta.streaming.domain.user.security.UserDetailsServiceImpl;
+import org.sparta.streaming.domain.user.entity.Role;
+import org.sparta.streaming.domain.user.entity.User;
+import org.sparta.streaming.domain.user.security.PrincipalCache;
+import org.sparta.streaming.domain.user.security.UserDetailsImpl;
 import org.sparta.streaming.domain.user.util.JwtUtil;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * 인증 사용자 구성
+ * - 기본      : PrincipalCache (짧은 TTL, 미스일 때만 users 조회)
+ * - stateless : 토큰 클레임(userId, email, role)으로 바로 구성, DB 조회 없음
+ *               권한 변경(판매자 업그레이드)은 토큰을 다시 발급받아야 반영된다.
+ */
 @Slf4j(topic = "JWT 검증 및 인가")
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final boolean stateless;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, PrincipalCache principalCache, boolean stateless) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.stateless = stateless;
     }
 
     @Override
@@ -39,7 +49,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String tokenValue = jwtUtil.getJwtFromHeader(req);
 
         if (StringUtils.hasText(tokenValue)) {
-            if (!jwtUtil.validateToken(tokenValue)) {
+            // 검증과 클레임 조회를 한 번에 (검증된 토큰은 캐시에서)
+            Claims info = jwtUtil.parseVerified(tokenValue);
+            if (info == null) {
                 log.error("Token Error");
                 res.setStatus(401);
                 res.setContentType("application/json");
@@ -48,12 +60,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
-            String email = info.get("email", String.class); // useremail → email
-            String role = info.get("role", String.class);
-
             try {
-                setAuthentication(email, role);
+                setAuthentication(info);
             } catch (Exception e) {
                 log.error(e.getMessage());
                 res.setStatus(401);
@@ -67,9 +75,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     /**
      * 인증 처리
      */
-    public void setAuthentication(String email, String role) {
+    public void setAuthentication(Claims info) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(email, role);
+        Authentication authentication = createAuthentication(info);
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
     }
@@ -77,8 +85,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     /**
      * 인증 객체 생성
      */
-    private Authentication createAuthentication(String email, String role) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    private Authentication createAuthentication(Claims info) {
+        String email = info.get("email", String.class); // useremail → email
+        UserDetailsImpl userDetails = stateless
+                ? new UserDetailsImpl(User.fromTokenClaims(
+                        info.get("userId", Integer.class), email, Role.valueOf(info.get("role", String.class))))
+                : principalCache.get(email);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
\ No newline at end of file
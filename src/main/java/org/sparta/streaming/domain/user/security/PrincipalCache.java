@@ -0,0 +1,55 @@
+// ========================================
+// PrincipalCache.java (인증 사용자 캐시)
+// ========================================
+package org.sparta.streaming.domain.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * email → UserDetailsImpl
+ * JWT 인가 필터가 요청마다 users를 조회하지 않도록 짧은 TTL로 보관한다.
+ * 사용자 정보가 바뀌면 UserCacheListener가 커밋 후 비운다. (다른 노드는 TTL 안에 반영)
+ * 캐시된 User는 준영속 상태이므로 연관관계 참조(FK)와 조회용으로만 사용한다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final Cache<String, UserDetailsImpl> principals;
+    // 조회 중에 무효화가 일어났으면 조회 결과(옛 데이터)를 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(UserDetailsServiceImpl userDetailsService,
+                          @Value("${security.principal-cache.max-entries:100000}") long maxEntries,
+                          @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public UserDetailsImpl get(String email) {
+        UserDetailsImpl principal = principals.getIfPresent(email);
+        if (principal == null) {
+            long generation = invalidations.get();
+            principal = (UserDetailsImpl) userDetailsService.loadUserByUsername(email);
+            principals.put(email, principal);
+            if (invalidations.get() != generation) {
+                principals.invalidate(email);
+            }
+        }
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        invalidations.incrementAndGet();
+        principals.invalidate(email);
+    }
+}
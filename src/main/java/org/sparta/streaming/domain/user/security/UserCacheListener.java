@@ -0,0 +1,29 @@
+// ========================================
+// UserCacheListener.java (사용자 변경 시 인증 캐시 무효화)
+// ========================================
+package org.sparta.streaming.domain.user.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.sparta.streaming.domain.user.entity.User;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 리스너 (비밀번호/사용자명 변경, 판매자 업그레이드 - 업로드 시 자동 업그레이드 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheListener {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String email = user.getEmail();
+        TransactionHooks.afterCommit(() -> principalCache.ifAvailable(cache -> cache.invalidate(email)));
+    }
+}
@@ -3,21 +3,32 @@
 // ========================================
 package org.sparta.streaming.domain.user.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 검증된 토큰 캐시: SHA-256(토큰) → 클레임 + 만료 시각
+ * 같은 토큰은 서명 검증/파싱을 한 번만 하고, 이후에는 만료 시각만 확인한다.
+ * 캐시 항목은 토큰 수명보다 오래 남지 않는다.
+ */
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
@@ -28,15 +39,24 @@ public class JwtUtil {
     // 토큰 만료시간
     private final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
-    @Value("${jwt.secret.key}")
-    private String base64SecretKey;
-    private Key key;
+    private final Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final JwtParser parser;
+    // null이면 캐시 사용 안 함
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
-    @PostConstruct
-    public void init() {
+    public JwtUtil(@Value("${jwt.secret.key}") String base64SecretKey,
+                   @Value("${jwt.verified-cache.enabled:true}") boolean cacheEnabled,
+                   @Value("${jwt.verified-cache.max-entries:100000}") long cacheMaxEntries) {
         byte[] decodedKey = Base64.getDecoder().decode(base64SecretKey);
-        key = Keys.hmacShaKeyFor(decodedKey);
+        this.key = Keys.hmacShaKeyFor(decodedKey);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = cacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxEntries)
+                        .expireAfterWrite(Duration.ofMillis(TOKEN_TIME))
+                        .build()
+                : null;
     }
 
     /**
@@ -70,13 +90,52 @@ public class JwtUtil {
         return null;
     }
 
+    /**
+     * 토큰 검증 + 클레임 조회 (한 번에)
+     * @return 유효하지 않거나 만료되었으면 null
+     */
+    public Claims parseVerified(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.isExpired(System.currentTimeMillis())) {
+                verifiedTokens.invalidate(digest);
+                log.error("Expired JWT token, 만료된 JWT token 입니다.");
+                return null;
+            }
+            return cached.claims();
+        }
+
+        Claims claims = parse(token);
+        if (claims != null) {
+            Date expiration = claims.getExpiration();
+            long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+            verifiedTokens.put(digest, new VerifiedToken(claims, expiresAt));
+        }
+        return claims;
+    }
+
     /**
      * 토큰 검증
      */
     public boolean validateToken(String token) {
+        return parse(token) != null;
+    }
+
+    /**
+     * 토큰에서 사용자 정보 가져오기
+     */
+    public Claims getUserInfoFromToken(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private Claims parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -86,13 +145,21 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
+        return null;
     }
 
-    /**
-     * 토큰에서 사용자 정보 가져오기
-     */
-    public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record VerifiedToken(Claims claims, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+// ========================================
+// AbuseDetector.java (반복 재생 어뷰징 감지)
+// ========================================
+package org.sparta.streaming.domain.video.abuse;
+
+/**
+ * 같은 IP에서 같은 동영상을 짧은 시간 안에 다시 재생했는지 판단한다.
+ */
+public interface AbuseDetector {
+
+    /**
+     * 이번 재생을 기록하고, 윈도우 안에 같은 (동영상, IP) 재생이 있었는지 반환
+     * @return 윈도우 안에 이전 재생이 있으면 true
+     */
+    boolean checkAndRecord(Integer videoId, String ipAddress);
+}
@@ -0,0 +1,41 @@
+// ========================================
+// AbuseDetectorConfig.java (어뷰징 감지 백엔드 선택)
+// ========================================
+package org.sparta.streaming.domain.video.abuse;
+
+import org.sparta.streaming.redis.RedisStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * streaming.abuse.backend
+ * - local (기본) : 프로세스 내 링 버퍼 (단일 노드)
+ * - redis        : RedisStore 사용 (다중 노드, streaming.redis.mode 설정 필요)
+ *                  Redis 장애 시에는 로컬 링 버퍼로 판단
+ */
+@Configuration
+public class AbuseDetectorConfig {
+
+    @Value("${streaming.abuse.window-seconds:30}")
+    private int windowSeconds;
+
+    @Value("${streaming.abuse.max-entries:200000}")
+    private int maxEntries;
+
+    @Bean
+    @ConditionalOnProperty(name = "streaming.abuse.backend", havingValue = "local", matchIfMissing = true)
+    public AbuseDetector localAbuseDetector() {
+        return new LocalAbuseDetector(windowSeconds, maxEntries, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "streaming.abuse.backend", havingValue = "redis")
+    public AbuseDetector redisAbuseDetector(RedisStore redisStore) {
+        return new RedisAbuseDetector(redisStore, windowSeconds,
+                new LocalAbuseDetector(windowSeconds, maxEntries, Clock.systemUTC()));
+    }
+}
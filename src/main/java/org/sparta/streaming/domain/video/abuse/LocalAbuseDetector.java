@@ -0,0 +1,131 @@
+// ========================================
+// LocalAbuseDetector.java (프로세스 내 슬라이딩 윈도우)
+// ========================================
+package org.sparta.streaming.domain.video.abuse;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 1초 단위 버킷으로 나눈 링 버퍼에 (동영상, IP) 지문(64bit 해시)을 기록한다.
+ * - 조회: 윈도우에 해당하는 버킷만 확인 (버킷 수는 윈도우 초 + 1로 고정 → O(1))
+ * - 만료: 링이 한 바퀴 돌아 버킷을 재사용할 때 통째로 비움
+ * - 메모리: 버킷마다 고정 크기 배열, 가득 차면 이번 초의 기록은 버림 (감지 누락만 발생)
+ */
+public class LocalAbuseDetector implements AbuseDetector {
+
+    private static final long EMPTY = 0L;
+
+    private final Clock clock;
+    private final int windowSeconds;
+    private final long[] bucketSecond;
+    private final long[][] bucketSlots;
+    private final int[] bucketSizes;
+    private final int bucketLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long droppedCount;
+
+    public LocalAbuseDetector(int windowSeconds, int maxEntries, Clock clock) {
+        this.clock = clock;
+        this.windowSeconds = windowSeconds;
+
+        int bucketCount = windowSeconds + 1;
+        this.bucketLimit = Math.max(1, maxEntries / bucketCount);
+        // load factor 0.5 이하 유지
+        int slotCount = Integer.highestOneBit(bucketLimit * 2 - 1) << 1;
+
+        this.bucketSecond = new long[bucketCount];
+        Arrays.fill(bucketSecond, Long.MIN_VALUE);
+        this.bucketSlots = new long[bucketCount][slotCount];
+        this.bucketSizes = new int[bucketCount];
+    }
+
+    @Override
+    public boolean checkAndRecord(Integer videoId, String ipAddress) {
+        long fingerprint = fingerprint(videoId, ipAddress);
+        long nowSecond = Math.floorDiv(clock.millis(), 1000L);
+
+        lock.lock();
+        try {
+            boolean seen = false;
+            for (int age = 0; age <= windowSeconds && !seen; age++) {
+                int bucket = bucketIndex(nowSecond - age);
+                seen = bucketSecond[bucket] == nowSecond - age && contains(bucket, fingerprint);
+            }
+            record(nowSecond, fingerprint);
+            return seen;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 버킷이 가득 차서 기록하지 못한 횟수
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void record(long nowSecond, long fingerprint) {
+        int bucket = bucketIndex(nowSecond);
+        if (bucketSecond[bucket] != nowSecond) {
+            // 윈도우를 벗어난 버킷 재사용
+            Arrays.fill(bucketSlots[bucket], EMPTY);
+            bucketSizes[bucket] = 0;
+            bucketSecond[bucket] = nowSecond;
+        }
+        if (bucketSizes[bucket] >= bucketLimit) {
+            droppedCount++;
+            return;
+        }
+
+        long[] slots = bucketSlots[bucket];
+        int mask = slots.length - 1;
+        int slot = (int) mix(fingerprint) & mask;
+        while (slots[slot] != EMPTY) {
+            if (slots[slot] == fingerprint) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = fingerprint;
+        bucketSizes[bucket]++;
+    }
+
+    private boolean contains(int bucket, long fingerprint) {
+        long[] slots = bucketSlots[bucket];
+        int mask = slots.length - 1;
+        int slot = (int) mix(fingerprint) & mask;
+        while (slots[slot] != EMPTY) {
+            if (slots[slot] == fingerprint) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    private int bucketIndex(long second) {
+        return (int) Math.floorMod(second, (long) bucketSecond.length);
+    }
+
+    /**
+     * (동영상, IP) → 64bit 지문 (0은 빈 슬롯 표시용이라 사용하지 않음)
+     */
+    static long fingerprint(Integer videoId, String ipAddress) {
+        long hash = 0xcbf29ce484222325L ^ videoId;
+        for (int i = 0; i < ipAddress.length(); i++) {
+            hash = (hash ^ ipAddress.charAt(i)) * 0x100000001b3L;
+        }
+        hash = mix(hash);
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
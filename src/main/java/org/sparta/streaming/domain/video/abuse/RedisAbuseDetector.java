@@ -0,0 +1,52 @@
+// ========================================
+// RedisAbuseDetector.java (Redis 기반 - 다중 노드용)
+// ========================================
+package org.sparta.streaming.domain.video.abuse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.redis.RedisStore;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (동영상, IP)별 키를 TTL과 함께 덮어쓰고, 이전 값이 살아있었는지로 판단한다.
+ * 재생할 때마다 TTL이 갱신되므로 "마지막 재생으로부터 윈도우 이내"와 같은 의미가 된다.
+ * Redis 호출이 실패하면 재생을 막지 않고 로컬 감지기로 대신 판단한다 (노드별 판단이 됨).
+ */
+@Slf4j
+public class RedisAbuseDetector implements AbuseDetector {
+
+    private static final String KEY_PREFIX = "abuse:play:";
+
+    private final RedisStore redisStore;
+    private final long windowSeconds;
+    private final AbuseDetector fallback;
+
+    private final AtomicLong redisErrors = new AtomicLong();
+
+    public RedisAbuseDetector(RedisStore redisStore, long windowSeconds, AbuseDetector fallback) {
+        this.redisStore = redisStore;
+        this.windowSeconds = windowSeconds;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public boolean checkAndRecord(Integer videoId, String ipAddress) {
+        String key = KEY_PREFIX + videoId + ":" + ipAddress;
+        try {
+            return redisStore.setAndGet(key, "1", windowSeconds) != null;
+        } catch (RuntimeException e) {
+            // 장애 중에는 요청마다 스택을 남기지 않도록 첫 실패만 상세히 기록
+            if (redisErrors.getAndIncrement() == 0) {
+                log.warn("어뷰징 감지(Redis) 실패, 로컬 감지기로 대체: videoId={}", videoId, e);
+            } else {
+                log.debug("어뷰징 감지(Redis) 실패: videoId={}, {}", videoId, e.toString());
+            }
+            return fallback.checkAndRecord(videoId, ipAddress);
+        }
+    }
+
+    public long getRedisErrors() {
+        return redisErrors.get();
+    }
+}
@@ -0,0 +1,191 @@
+// ========================================
+// PositionWriteBuffer.java (시청 위치 write-behind 버퍼)
+// ========================================
+package org.sparta.streaming.domain.video.buffer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.config.WorkerThreads;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 건너뛰기/되감기/주기적 저장으로 들어오는 위치 업데이트를 세션(record_id)별로 모아두었다가
+ * 주기마다 한 번의 batch UPDATE로 video_watch_history에 반영한다.
+ * 세션마다 가장 마지막 위치만 유지한다.
+ * 반영한 항목은 UPDATE가 커밋된 뒤에만 버퍼에서 지운다 (그 사이 조회도 버퍼 값을 본다).
+ */
+@Slf4j
+@Component
+public class PositionWriteBuffer {
+
+    // 버퍼에 담긴 시점보다 나중에 직접 갱신된 행(재생 중단 등)은 덮어쓰지 않는다
+    private static final String FLUSH_SQL = """
+            UPDATE video_watch_history
+            SET last_watched_position = ?, updated_at = ?
+            WHERE record_id = ?
+              AND (updated_at IS NULL OR updated_at <= ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkerThreads workerThreads;
+    private final boolean enabled;
+    private final long flushIntervalMillis;
+    private final int maxSize;
+
+    private final Map<Long, PendingPosition> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private ScheduledExecutorService flushExecutor;
+
+    public PositionWriteBuffer(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               WorkerThreads workerThreads,
+                               @Value("${streaming.position-buffer.enabled:false}") boolean enabled,
+                               @Value("${streaming.position-buffer.flush-interval-ms:1000}") long flushIntervalMillis,
+                               @Value("${streaming.position-buffer.max-size:10000}") int maxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerThreads = workerThreads;
+        this.enabled = enabled;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(workerThreads.factory("position-flush"));
+        flushExecutor.scheduleWithFixedDelay(
+                this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("위치 write-behind 버퍼 활성화: interval={}ms, maxSize={}", flushIntervalMillis, maxSize);
+    }
+
+    /**
+     * 종료 시 남아있는 위치를 모두 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flushExecutor == null) {
+            return;
+        }
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(flushIntervalMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int flushed = flush();
+        log.info("위치 버퍼 종료 flush: {}건", flushed);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 위치 기록 (같은 세션의 이전 값은 덮어씀)
+     */
+    public void offer(Long recordId, int position) {
+        pending.put(recordId, new PendingPosition(position, LocalDateTime.now()));
+
+        // 크기 한도를 넘으면 다음 주기를 기다리지 않고 바로 flush
+        if (pending.size() >= maxSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 위치 조회 (없으면 null)
+     */
+    public Integer pendingPosition(Long recordId) {
+        PendingPosition position = pending.get(recordId);
+        return position != null ? position.position() : null;
+    }
+
+    /**
+     * 아직 반영되지 않은 위치를 꺼내고 버퍼에서 제거 (없으면 null)
+     * 재생 중단처럼 호출한 쪽에서 직접 DB에 쓰는 경우 사용
+     */
+    public Integer takePending(Long recordId) {
+        PendingPosition position = pending.remove(recordId);
+        return position != null ? position.position() : null;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * 버퍼 내용을 한 번의 batch UPDATE로 반영
+     * @return 반영 시도한 세션 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            List<Long> recordIds = new ArrayList<>(pending.size());
+            List<PendingPosition> positions = new ArrayList<>(pending.size());
+            List<Object[]> batchArgs = new ArrayList<>(pending.size());
+            pending.forEach((recordId, position) -> {
+                Timestamp updatedAt = Timestamp.valueOf(position.updatedAt());
+                recordIds.add(recordId);
+                positions.add(position);
+                batchArgs.add(new Object[]{position.position(), updatedAt, recordId, updatedAt});
+            });
+
+            // 실패하면 버퍼에 그대로 남아 다음 주기에 다시 반영된다
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+                TransactionHooks.afterCommit(() -> {
+                    // flush 도중 더 새로운 값이 들어온 세션은 남겨둔다
+                    for (int i = 0; i < recordIds.size(); i++) {
+                        pending.remove(recordIds.get(i), positions.get(i));
+                    }
+                });
+            });
+            return batchArgs.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            int flushed = flush();
+            if (flushed > 0) {
+                log.debug("위치 버퍼 flush: {}건", flushed);
+            }
+        } catch (RuntimeException e) {
+            log.error("위치 버퍼 flush 실패", e);
+        }
+    }
+
+    private record PendingPosition(int position, LocalDateTime updatedAt) {}
+}
@@ -0,0 +1,29 @@
+// ========================================
+// VideoCacheListener.java (동영상 변경 시 메타데이터 캐시 무효화)
+// ========================================
+package org.sparta.streaming.domain.video.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.sparta.streaming.domain.video.entity.Video;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Video 엔티티 리스너 (updateVideo, changeVideoUrl, 삭제)
+ * VideoAdsIndexListener와 같은 이유로 캐시는 ObjectProvider로 지연 조회, 무효화는 커밋 후
+ */
+@Component
+@RequiredArgsConstructor
+public class VideoCacheListener {
+
+    private final ObjectProvider<VideoMetadataCache> metadataCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Video video) {
+        Integer videoId = video.getVideoId();
+        metadataCache.ifAvailable(cache -> cache.invalidate(videoId));
+    }
+}
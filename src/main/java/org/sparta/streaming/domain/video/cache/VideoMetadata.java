@@ -0,0 +1,15 @@
+// ========================================
+// VideoMetadata.java (재생 경로에서 쓰는 동영상 필드)
+// ========================================
+package org.sparta.streaming.domain.video.cache;
+
+/**
+ * 재생/중단/위치 저장에 필요한 필드만 (video_description TEXT 제외)
+ */
+public record VideoMetadata(Integer videoId, Integer uploaderId, Integer videoLengthSeconds,
+                            String title, String videoUrl) {
+
+    public boolean isUploadedBy(Integer userId) {
+        return uploaderId.equals(userId);
+    }
+}
@@ -0,0 +1,186 @@
+// ========================================
+// VideoMetadataCache.java (동영상 메타데이터 2단계 캐시)
+// ========================================
+package org.sparta.streaming.domain.video.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.redis.RedisStore;
+import org.sparta.streaming.util.TransactionHooks;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * L1: 프로세스 내 Caffeine (W-TinyLFU, 크기 제한)
+ * L2: RedisStore (있을 때만, 노드 간 공유)
+ * 원본: videos (필요한 컬럼만 조회)
+ *
+ * 변경/삭제는 커밋 후 L1을 비우고, L2에는 tombstone을 짧게 남기고, 채널로 알려 다른 노드의 L1도 비운다.
+ * 메시지를 놓친 노드도 L1 expire 시간 안에는 반영된다.
+ *
+ * DB에서 읽은 값은 L2에 키가 없을 때만(SET NX) 쓴다. 다른 노드가 조회 도중 변경/무효화했으면
+ * tombstone이 남아 있어 옛 값이 L2에 다시 올라가지 않는다. (이 노드가 이미 무효화를 받았으면 아예 쓰지 않음)
+ * AdBreakIndexCache와 같은 이유로 compute(synchronized) 밖에서 조회한다.
+ */
+@Slf4j
+public class VideoMetadataCache {
+
+    static final String KEY_PREFIX = "video:meta:";
+    static final String INVALIDATION_CHANNEL = "video:meta:invalidate";
+    static final String TOMBSTONE = "-";
+
+    private final Function<Integer, Optional<VideoMetadata>> loader;
+    private final RedisStore redisStore;
+    private final ObjectMapper objectMapper;
+    private final long redisTtlSeconds;
+    private final long tombstoneSeconds;
+    private final Cache<Integer, VideoMetadata> local;
+
+    // 조회 중에 무효화가 일어났으면 조회 결과(옛 데이터)를 L1에 넣지 않기 위한 세대 번호
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong remoteHits = new AtomicLong();
+    private final AtomicLong remoteMisses = new AtomicLong();
+    private final AtomicLong remoteErrors = new AtomicLong();
+
+    /**
+     * @param redisStore null이면 L1만 사용 (단일 노드)
+     */
+    public VideoMetadataCache(Function<Integer, Optional<VideoMetadata>> loader,
+                              RedisStore redisStore,
+                              ObjectMapper objectMapper,
+                              long maxEntries,
+                              long localExpireSeconds,
+                              long redisTtlSeconds,
+                              long tombstoneSeconds) {
+        this.loader = loader;
+        this.redisStore = redisStore;
+        this.objectMapper = objectMapper;
+        this.redisTtlSeconds = redisTtlSeconds;
+        this.tombstoneSeconds = tombstoneSeconds;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(localExpireSeconds))
+                .recordStats()
+                .build();
+
+        if (redisStore != null) {
+            redisStore.subscribe(INVALIDATION_CHANNEL, this::onRemoteInvalidation);
+        }
+    }
+
+    public Optional<VideoMetadata> find(Integer videoId) {
+        VideoMetadata cached = local.getIfPresent(videoId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = invalidations.get();
+        Optional<VideoMetadata> loaded = readRemote(videoId);
+        if (loaded.isEmpty()) {
+            loaded = loader.apply(videoId);
+            if (invalidations.get() == generation) {
+                loaded.ifPresent(this::writeRemote);
+            }
+        }
+        loaded.ifPresent(metadata -> {
+            local.put(videoId, metadata);
+            if (invalidations.get() != generation) {
+                local.invalidate(videoId);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 동영상 변경/삭제 시 (현재 트랜잭션 커밋 후 반영)
+     */
+    public void invalidate(Integer videoId) {
+        TransactionHooks.afterCommit(() -> {
+            invalidateLocal(videoId);
+            if (redisStore == null) {
+                return;
+            }
+            try {
+                // 조회 중이던 다른 노드가 옛 값을 다시 올리지 못하도록 삭제 대신 tombstone
+                redisStore.set(KEY_PREFIX + videoId, TOMBSTONE, tombstoneSeconds);
+                redisStore.publish(INVALIDATION_CHANNEL, String.valueOf(videoId));
+            } catch (RuntimeException e) {
+                remoteErrors.incrementAndGet();
+                log.warn("동영상 캐시 무효화 전파 실패: videoId={}", videoId, e);
+            }
+        });
+    }
+
+    public CacheStats getLocalStats() {
+        return local.stats();
+    }
+
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.get();
+    }
+
+    public long getRemoteMisses() {
+        return remoteMisses.get();
+    }
+
+    public long getRemoteErrors() {
+        return remoteErrors.get();
+    }
+
+    private void onRemoteInvalidation(String message) {
+        try {
+            invalidateLocal(Integer.valueOf(message));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 동영상 캐시 무효화 메시지: {}", message);
+        }
+    }
+
+    private void invalidateLocal(Integer videoId) {
+        invalidations.incrementAndGet();
+        local.invalidate(videoId);
+    }
+
+    // Redis 장애 시에는 DB 조회로 넘어간다
+    private Optional<VideoMetadata> readRemote(Integer videoId) {
+        if (redisStore == null) {
+            return Optional.empty();
+        }
+        try {
+            String json = redisStore.get(KEY_PREFIX + videoId);
+            if (json == null || TOMBSTONE.equals(json)) {
+                remoteMisses.incrementAndGet();
+                return Optional.empty();
+            }
+            remoteHits.incrementAndGet();
+            return Optional.of(objectMapper.readValue(json, VideoMetadata.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            remoteErrors.incrementAndGet();
+            log.warn("동영상 캐시(Redis) 조회 실패: videoId={}", videoId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeRemote(VideoMetadata metadata) {
+        if (redisStore == null) {
+            return;
+        }
+        try {
+            redisStore.setIfAbsent(KEY_PREFIX + metadata.videoId(), objectMapper.writeValueAsString(metadata),
+                    redisTtlSeconds);
+        } catch (JsonProcessingException | RuntimeException e) {
+            remoteErrors.incrementAndGet();
+            log.warn("동영상 캐시(Redis) 저장 실패: videoId={}", metadata.videoId(), e);
+        }
+    }
+}
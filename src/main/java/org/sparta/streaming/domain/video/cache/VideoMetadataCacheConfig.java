@@ -0,0 +1,32 @@
+// ========================================
+// VideoMetadataCacheConfig.java (동영상 메타데이터 캐시 설정)
+// ========================================
+package org.sparta.streaming.domain.video.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.sparta.streaming.domain.video.repository.VideoRepository;
+import org.sparta.streaming.redis.RedisStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RedisStore 빈이 있으면(streaming.redis.mode 설정) L2 + 노드 간 무효화, 없으면 L1만
+ */
+@Configuration
+public class VideoMetadataCacheConfig {
+
+    @Bean
+    public VideoMetadataCache videoMetadataCache(
+            VideoRepository videoRepository,
+            ObjectProvider<RedisStore> redisStore,
+            ObjectMapper objectMapper,
+            @Value("${streaming.video-cache.max-entries:10000}") long maxEntries,
+            @Value("${streaming.video-cache.local-expire-seconds:300}") long localExpireSeconds,
+            @Value("${streaming.video-cache.redis-ttl-seconds:3600}") long redisTtlSeconds,
+            @Value("${streaming.video-cache.tombstone-seconds:10}") long tombstoneSeconds) {
+        return new VideoMetadataCache(videoRepository::findMetadataById, redisStore.getIfAvailable(), objectMapper,
+                maxEntries, localExpireSeconds, redisTtlSeconds, tombstoneSeconds);
+    }
+}
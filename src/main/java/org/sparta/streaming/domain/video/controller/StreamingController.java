@@ -7,6 +7,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.sparta.streaming.domain.user.security.UserDetailsImpl;
 import org.sparta.streaming.domain.video.dto.PlayResponse;
+import org.sparta.streaming.domain.video.dto.PlaybackEventBatchRequest;
+import org.sparta.streaming.domain.video.dto.PlaybackEventBatchResponse;
 import org.sparta.streaming.domain.video.dto.StopRequest;
 import org.sparta.streaming.domain.video.dto.StopResponse;
 import org.sparta.streaming.domain.video.service.StreamingService;
@@ -82,4 +84,23 @@ public class StreamingController {
 
         return ResponseEntity.ok("위치가 저장되었습니다.");
     }
-}
\ No newline at end of file
+
+    /**
+     * 재생 이벤트 묶음 저장 (위치 저장 + 중단, 여러 동영상)
+     * 오프라인에서 쌓아둔 이벤트를 한 번에 보낼 때 사용
+     */
+    @PostMapping("/events")
+    public ResponseEntity<PlaybackEventBatchResponse> processEvents(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestBody PlaybackEventBatchRequest batchRequest,
+            HttpServletRequest request) {
+
+        PlaybackEventBatchResponse response = streamingService.processEvents(
+                userDetails.getUser(),
+                batchRequest,
+                request
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
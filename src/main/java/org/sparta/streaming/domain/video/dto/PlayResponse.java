@@ -13,5 +13,6 @@ public class PlayResponse {
     private String title;
     private Integer videoLengthSeconds;
     private Integer startPosition;  // 이어보기 위치
+    private int[] adPositions;  // 광고 삽입 위치 (초, 오름차순)
     private String message;
 }
\ No newline at end of file
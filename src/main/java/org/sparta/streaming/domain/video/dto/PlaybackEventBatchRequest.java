@@ -0,0 +1,29 @@
+package org.sparta.streaming.domain.video.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재생 이벤트 묶음 (발생 순서대로, 여러 동영상 섞여도 됨)
+ * 오프라인에서 쌓아둔 건너뛰기/되감기/중단을 한 번에 보낼 때 사용
+ */
+@Getter
+@NoArgsConstructor
+public class PlaybackEventBatchRequest {
+    private List<Event> events;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Event {
+        private Integer videoId;
+        private Type type;
+        private Integer currentPosition;  // 현재 재생 위치 (초)
+    }
+
+    public enum Type {
+        POSITION,  // 위치만 저장 (update-position과 동일)
+        STOP       // 재생 중단 (stop과 동일: 시청 시간 + 광고)
+    }
+}
@@ -0,0 +1,24 @@
+package org.sparta.streaming.domain.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PlaybackEventBatchResponse {
+    private Integer processed;  // 반영된 이벤트 수
+    private List<VideoResult> results;  // 동영상별 결과 (요청에 처음 나온 순서)
+
+    @Getter
+    @AllArgsConstructor
+    public static class VideoResult {
+        private Integer videoId;
+        private Integer events;  // 이 동영상의 이벤트 수
+        private Integer lastPosition;  // 마지막 위치 (실패 시 null)
+        private Integer adsWatched;  // 기록된 광고 수
+        private boolean success;
+        private String message;
+    }
+}
@@ -11,11 +11,13 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.sparta.streaming.domain.user.entity.User;
+import org.sparta.streaming.domain.video.cache.VideoCacheListener;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "videos")
+@EntityListeners(VideoCacheListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Video {
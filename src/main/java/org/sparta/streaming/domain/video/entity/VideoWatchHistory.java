@@ -13,6 +13,10 @@ import org.sparta.streaming.domain.user.entity.User;
 
 import java.time.LocalDateTime;
 
+/**
+ * created_at 월 단위 RANGE 파티션 테이블 (docs/partitioning.md)
+ * 파티션 테이블은 외래 키를 가질 수 없어 FK 제약을 만들지 않는다.
+ */
 @Entity
 @Table(name = "video_watch_history",
         indexes = {
@@ -29,11 +33,13 @@ public class VideoWatchHistory {
     private Long recordId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "video_id", nullable = false)
+    @JoinColumn(name = "video_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Video video;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(name = "last_watched_position", nullable = false)
@@ -55,6 +61,13 @@ public class VideoWatchHistory {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 마지막으로 반영한 저널 이벤트 (저널 재반영 시 중복 확인, 저널을 쓰지 않으면 null)
+    @Column(name = "journal_id", length = 100)
+    private String journalId;
+
+    @Column(name = "journal_sequence")
+    private Long journalSequence;
+
     @Builder
     private VideoWatchHistory(Video video, User user, Integer lastWatchedPosition,
                               Integer totalWatchedSeconds, Boolean viewCounted, String ipAddress) {
@@ -85,18 +98,18 @@ public class VideoWatchHistory {
      */
     public void updateWatchPosition(Integer currentPosition, Integer previousPosition) {
         this.lastWatchedPosition = currentPosition;
-
-        // 이번에 본 시간 계산
-        int watchedThisTime = currentPosition - previousPosition;
-
-        // 앞으로 간 경우만 누적(되감기는 누적 안함)
-        if(watchedThisTime > 0){
-            this.totalWatchedSeconds += watchedThisTime;
-        }
-
+        this.totalWatchedSeconds += watchedSeconds(currentPosition, previousPosition);
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 이번에 본 시간 계산
+     * 앞으로 간 경우만 누적(되감기는 누적 안함)
+     */
+    public static int watchedSeconds(int currentPosition, int previousPosition) {
+        return Math.max(0, currentPosition - previousPosition);
+    }
+
     /**
      * 시청 기록 생성 (시작 위치 지정 - 이어보기용)
      */
@@ -3,11 +3,15 @@
 // ========================================
 package org.sparta.streaming.domain.video.repository;
 
+import org.sparta.streaming.domain.video.cache.VideoMetadata;
 import org.sparta.streaming.domain.video.entity.Video;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Integer> {
@@ -26,4 +30,12 @@ public interface VideoRepository extends JpaRepository<Video, Integer> {
      * 최신순 조회
      */
     List<Video> findAllByOrderByUploadDateDesc();
-}
\ No newline at end of file
+
+    /**
+     * 재생 경로용 필드만 조회 (설명 TEXT, 업로더 엔티티 로딩 없음)
+     */
+    @Query("SELECT new org.sparta.streaming.domain.video.cache.VideoMetadata(" +
+            "v.videoId, v.user.userId, v.videoLengthSeconds, v.title, v.videoUrl) " +
+            "FROM Video v WHERE v.videoId = :videoId")
+    Optional<VideoMetadata> findMetadataById(@Param("videoId") Integer videoId);
+}
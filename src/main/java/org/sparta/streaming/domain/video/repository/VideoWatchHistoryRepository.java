@@ -2,6 +2,9 @@ package org.sparta.streaming.domain.video.repository;
 
 import org.sparta.streaming.domain.video.entity.VideoWatchHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -15,8 +18,24 @@ public interface VideoWatchHistoryRepository extends JpaRepository<VideoWatchHis
             Integer videoId, Integer userId
     );
 
-    // 30초 이내 동일 IP로 시청한 기록 있는지 (어뷰징 체크)
-    boolean existsByVideoVideoIdAndIpAddressAndCreatedAtAfter(
-            Integer videoId, String ipAddress, LocalDateTime after
-    );
-}
\ No newline at end of file
+    // 시청 위치만 업데이트 (PK)
+    @Modifying
+    @Query("UPDATE VideoWatchHistory h " +
+            "SET h.lastWatchedPosition = :position, h.updatedAt = :updatedAt " +
+            "WHERE h.recordId = :recordId")
+    int updatePosition(@Param("recordId") Long recordId,
+                       @Param("position") int position,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 시청 위치 + 누적 시청 시간 업데이트 (PK)
+    @Modifying
+    @Query("UPDATE VideoWatchHistory h " +
+            "SET h.lastWatchedPosition = :position, " +
+            "    h.totalWatchedSeconds = h.totalWatchedSeconds + :watchedSeconds, " +
+            "    h.updatedAt = :updatedAt " +
+            "WHERE h.recordId = :recordId")
+    int updateWatchProgress(@Param("recordId") Long recordId,
+                            @Param("position") int position,
+                            @Param("watchedSeconds") int watchedSeconds,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+}
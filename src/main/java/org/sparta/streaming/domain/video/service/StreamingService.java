@@ -6,25 +6,34 @@ package org.sparta.streaming.domain.video.service;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.sparta.streaming.domain.ad.entity.Ad;
-import org.sparta.streaming.domain.ad.entity.AdWatchHistory;
-import org.sparta.streaming.domain.ad.entity.VideoAds;
-import org.sparta.streaming.domain.ad.repository.AdRepository;
-import org.sparta.streaming.domain.ad.repository.AdWatchHistoryRepository;
-import org.sparta.streaming.domain.ad.repository.VideoAdsRepository;
+import org.sparta.streaming.domain.ad.impression.AdImpression;
+import org.sparta.streaming.domain.ad.index.AdBreakIndex;
+import org.sparta.streaming.domain.ad.index.AdBreakIndexCache;
+import org.sparta.streaming.domain.ad.schedule.AdScheduleService;
 import org.sparta.streaming.domain.user.entity.User;
+import org.sparta.streaming.domain.video.abuse.AbuseDetector;
+import org.sparta.streaming.domain.video.buffer.PositionWriteBuffer;
+import org.sparta.streaming.domain.video.cache.VideoMetadata;
+import org.sparta.streaming.domain.video.cache.VideoMetadataCache;
 import org.sparta.streaming.domain.video.dto.PlayResponse;
+import org.sparta.streaming.domain.video.dto.PlaybackEventBatchRequest;
+import org.sparta.streaming.domain.video.dto.PlaybackEventBatchResponse;
 import org.sparta.streaming.domain.video.dto.StopRequest;
 import org.sparta.streaming.domain.video.dto.StopResponse;
-import org.sparta.streaming.domain.video.entity.Video;
 import org.sparta.streaming.domain.video.entity.VideoWatchHistory;
 import org.sparta.streaming.domain.video.repository.VideoRepository;
 import org.sparta.streaming.domain.video.repository.VideoWatchHistoryRepository;
+import org.sparta.streaming.domain.video.session.ActiveSession;
+import org.sparta.streaming.domain.video.session.ActiveSessionRegistry;
+import org.sparta.streaming.domain.video.writer.WatchHistoryWriter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -33,12 +42,17 @@ import java.util.Optional;
 @Slf4j
 public class StreamingService {
 
+    private static final int MAX_EVENTS_PER_BATCH = 1000;
+
     private final VideoRepository videoRepository;
+    private final VideoMetadataCache videoMetadataCache;
     private final VideoWatchHistoryRepository watchHistoryRepository;
-    private final VideoAdsRepository videoAdsRepository;
-    private final AdRepository adRepository;
-    private final AdWatchHistoryRepository adWatchHistoryRepository;
-
+    private final PositionWriteBuffer positionWriteBuffer;
+    private final AbuseDetector abuseDetector;
+    private final ActiveSessionRegistry sessionRegistry;
+    private final AdBreakIndexCache adBreakIndexCache;
+    private final AdScheduleService adScheduleService;
+    private final WatchHistoryWriter watchHistoryWriter;
 
 
     /**
@@ -48,41 +62,49 @@ public class StreamingService {
     public PlayResponse playVideo(Integer videoId, User user, HttpServletRequest request) {
         String ipAddress = getClientIp(request);
 
-        Video video = videoRepository.findById(videoId)
+        VideoMetadata video = videoMetadataCache.find(videoId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 동영상입니다."));
 
-        // 1. 광고 자동 등록 (아직 없으면)
-        autoInsertAds(video);
+        // 1. 광고 지점 (업로드 시 생성됨, 예전 동영상만 비어 있으면 한 번 채움)
+        AdBreakIndex adBreakIndex = adBreakIndexCache.get(videoId);
+        if (adScheduleService.backfillIfMissing(videoId, video.videoLengthSeconds(), adBreakIndex.isEmpty())) {
+            // 방금 채운 지점을 응답에 포함 (캐시는 커밋 후 비워지므로 DB에서 직접)
+            adBreakIndex = adBreakIndexCache.load(videoId);
+        }
 
         // 2. 어뷰징 체크
         boolean isAbusing = checkAbusing(video, user, ipAddress);
 
-        // 3. 이전 시청 기록 확인
-        Optional<VideoWatchHistory> lastHistory = watchHistoryRepository
-                .findTopByVideoVideoIdAndUserUserIdOrderByCreatedAtDesc(videoId, user.getUserId());
+        // 3. 이전 시청 세션 확인
+        Optional<ActiveSession> lastSession = resolveSession(videoId, user.getUserId());
 
         int startPosition = 0;
 
         // 🔥 이전 기록이 있고 끝까지 안 봤으면 이어보기 위치만 가져오기
-        if (lastHistory.isPresent() &&
-                lastHistory.get().getLastWatchedPosition() < video.getVideoLengthSeconds()) {
-            startPosition = lastHistory.get().getLastWatchedPosition();
+        if (lastSession.isPresent() && lastSession.get().lastPosition() < video.videoLengthSeconds()) {
+            startPosition = lastSession.get().lastPosition();
             log.info("=== 이어보기 위치: {}초 ===", startPosition);
         }
 
         // 🔥🔥 항상 새로운 시청 기록 생성(시작 위치만 설정)
         VideoWatchHistory newWatchHistory = VideoWatchHistory.createWithStartPosition(
-                video, user, ipAddress, !isAbusing, startPosition);
+                videoRepository.getReferenceById(videoId), user, ipAddress, !isAbusing, startPosition);
         watchHistoryRepository.save(newWatchHistory);
+        watchHistoryWriter.recordPlay(newWatchHistory);
+
+        // 4. 현재 세션으로 등록 (커밋 후, 중단/위치 저장은 이 recordId로 바로 업데이트)
+        sessionRegistry.register(videoId, user.getUserId(),
+                new ActiveSession(newWatchHistory.getRecordId(), !isAbusing, startPosition));
 
         System.out.println("=== 새 시청 세션 생성 (ID: " + newWatchHistory.getRecordId() + ") ===");
         System.out.println("시작 위치: " + startPosition + "초");
 
         return new PlayResponse(
                 videoId,
-                video.getTitle(),
-                video.getVideoLengthSeconds(),
+                video.title(),
+                video.videoLengthSeconds(),
                 startPosition,
+                adBreakIndex.positions(),
                 isAbusing ? "어뷰징으로 감지되어 조회수가 카운트되지 않습니다." : "재생 시작"
         );
     }
@@ -94,29 +116,38 @@ public class StreamingService {
     public StopResponse stopVideo(Integer videoId, User user, StopRequest stopRequest, HttpServletRequest request) {
         String ipAddress = getClientIp(request);
 
-        Video video = videoRepository.findById(videoId)
+        VideoMetadata video = videoMetadataCache.find(videoId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 동영상입니다."));
 
-        // 1. 최근 시청 기록 조회
-        VideoWatchHistory watchHistory = watchHistoryRepository
-                .findTopByVideoVideoIdAndUserUserIdOrderByCreatedAtDesc(videoId, user.getUserId())
+        // 1. 현재 시청 세션 조회
+        ActiveSession session = resolveSession(videoId, user.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("시청 기록이 없습니다."));
 
         // 2. 이전 시청 위치
-        int previousPosition = watchHistory.getLastWatchedPosition();
-        int currentPosition = validatePosition(stopRequest.getCurrentPosition(), video.getVideoLengthSeconds());
+        int previousPosition = session.lastPosition();
+        int currentPosition = validatePosition(stopRequest.getCurrentPosition(), video.videoLengthSeconds());
 
-        // 3. 시청 위치 업데이트 (이전 위치 전달)
-        watchHistory.updateWatchPosition(currentPosition, previousPosition);
+        // 3. 어뷰징 여부 확인
+        boolean isAbusing = !session.viewCounted();
 
-        // 4. 어뷰징 여부 확인
-        boolean isAbusing = !watchHistory.getViewCounted();
+        // 4. 광고 시청 처리 (어뷰징 아니면)
+        List<AdImpression> impressions = isAbusing
+                ? List.of()
+                : collectAdImpressions(video, user, previousPosition, currentPosition, ipAddress);
 
-        // 5. 광고 시청 처리 (어뷰징 아니면)
-        int adsWatched = 0;
-        if (!isAbusing) {
-            adsWatched = processAdWatch(video, user, previousPosition, currentPosition, ipAddress);
+        // 5. 시청 위치 + 시청 시간 + 광고 시청 기록
+        boolean recorded = watchHistoryWriter.recordStop(
+                session.recordId(),
+                currentPosition,
+                VideoWatchHistory.watchedSeconds(currentPosition, previousPosition),
+                impressions);
+        if (!recorded) {
+            sessionRegistry.evict(videoId, user.getUserId());
+            throw new IllegalArgumentException("시청 기록이 없습니다.");
         }
+        sessionRegistry.register(videoId, user.getUserId(), session.withPosition(currentPosition));
+
+        int adsWatched = impressions.size();
 
         return new StopResponse(
                 videoId,
@@ -133,127 +164,225 @@ public class StreamingService {
      */
     @Transactional
     public void updatePosition(Integer videoId, User user, StopRequest stopRequest, HttpServletRequest request) {
-        Video video = videoRepository.findById(videoId)
+        VideoMetadata video = videoMetadataCache.find(videoId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 동영상입니다."));
 
-        // 최근 시청 기록 조회
-        VideoWatchHistory watchHistory = watchHistoryRepository
-                .findTopByVideoVideoIdAndUserUserIdOrderByCreatedAtDesc(videoId, user.getUserId())
+        // 현재 시청 세션 조회
+        ActiveSession session = resolveSession(videoId, user.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("시청 기록이 없습니다."));
 
-        // 이전 위치 저장
-        int previousPosition = watchHistory.getLastWatchedPosition();
-
         // 위치 검증 후 업데이트
-        int currentPosition = validatePosition(stopRequest.getCurrentPosition(), video.getVideoLengthSeconds());
-        watchHistory.updatePositionOnly(currentPosition);  // 🔥 변경!
+        int currentPosition = validatePosition(stopRequest.getCurrentPosition(), video.videoLengthSeconds());
+
+        if (!watchHistoryWriter.recordPosition(session.recordId(), currentPosition)) {
+            sessionRegistry.evict(videoId, user.getUserId());
+            throw new IllegalArgumentException("시청 기록이 없습니다.");
+        }
+        sessionRegistry.register(videoId, user.getUserId(), session.withPosition(currentPosition));
 
         log.info("=== 위치만 업데이트 (시청 시간 계산 안함) ===");
         log.info("새 위치: %d초".formatted(currentPosition));
     }
 
     /**
-     * 위치 검증 (동영상 길이 범위 내로 제한)
+     * 재생 이벤트 묶음 처리 (한 트랜잭션)
+     * 이벤트는 순서대로 동영상별로 메모리에 누적하고(update-position, stop과 같은 계산), 동영상마다 한 번만 쓴다.
+     * 동영상이나 시청 기록이 없는 동영상의 이벤트는 건너뛰고 결과에 표시한다.
      */
-    private int validatePosition(int position, int videoLength) {
-        if (position < 0) {
-            return 0;
+    @Transactional
+    public PlaybackEventBatchResponse processEvents(User user, PlaybackEventBatchRequest batchRequest,
+                                                    HttpServletRequest request) {
+        List<PlaybackEventBatchRequest.Event> events = validateEvents(batchRequest);
+        String ipAddress = getClientIp(request);
+
+        // 1. 순서대로 누적 (동영상별 첫 이벤트에서 동영상/세션 조회)
+        Map<Integer, PlaybackProgress> progressByVideo = new LinkedHashMap<>();
+        for (PlaybackEventBatchRequest.Event event : events) {
+            PlaybackProgress progress = progressByVideo.get(event.getVideoId());
+            if (progress == null) {
+                progress = startProgress(event.getVideoId(), user.getUserId());
+                progressByVideo.put(event.getVideoId(), progress);
+            }
+            progress.events++;
+            if (progress.error != null) {
+                continue;
+            }
+
+            int currentPosition = validatePosition(event.getCurrentPosition(), progress.video.videoLengthSeconds());
+            if (event.getType() == PlaybackEventBatchRequest.Type.STOP) {
+                if (progress.session.viewCounted()) {
+                    progress.impressions.addAll(collectAdImpressions(
+                            progress.video, user, progress.position, currentPosition, ipAddress));
+                }
+                progress.watchedSeconds += VideoWatchHistory.watchedSeconds(currentPosition, progress.position);
+                progress.stopped = true;
+            }
+            progress.position = currentPosition;
         }
-        if (position > videoLength) {
-            return videoLength;
+
+        // 2. 동영상마다 한 번 쓰기
+        int processed = 0;
+        List<PlaybackEventBatchResponse.VideoResult> results = new ArrayList<>(progressByVideo.size());
+        for (PlaybackProgress progress : progressByVideo.values()) {
+            if (progress.error == null && !writeProgress(progress, user.getUserId())) {
+                progress.error = "시청 기록이 없습니다.";
+            }
+            if (progress.error != null) {
+                results.add(new PlaybackEventBatchResponse.VideoResult(
+                        progress.videoId, progress.events, null, 0, false, progress.error));
+                continue;
+            }
+            processed += progress.events;
+            results.add(new PlaybackEventBatchResponse.VideoResult(
+                    progress.videoId, progress.events, progress.position, progress.impressions.size(), true,
+                    progressMessage(progress)));
         }
-        return position;
+
+        log.info("재생 이벤트 묶음 처리: 이벤트 {}건, 동영상 {}개, 반영 {}건", events.size(), results.size(), processed);
+        return new PlaybackEventBatchResponse(processed, results);
     }
 
     /**
-     * 광고 자동 등록 (5분마다)
+     * 현재 시청 세션 조회
+     * 레지스트리에 있으면 DB 조회 없이 사용하고, 없으면(만료, 재시작, Redis 없는 다중 노드) 최근 시청 기록으로 복구
+     * 최근 시청 기록 한 번의 조회로 recordId와 마지막 위치를 함께 얻는다.
      */
-    private void autoInsertAds(Video video) {
-        // 이미 광고가 등록되어 있으면 스킵
-        if (videoAdsRepository.existsByVideoVideoId(video.getVideoId())) {
-            return;
+    private Optional<ActiveSession> resolveSession(Integer videoId, Integer userId) {
+        Optional<ActiveSession> cached = sessionRegistry.find(videoId, userId);
+        if (cached.isPresent()) {
+            return cached;
         }
 
-        // 광고 하나 가져오기 (실제로는 여러 광고 중 랜덤 선택 등)
-        Optional<Ad> adOpt = adRepository.findFirstByOrderByAdIdAsc();
-        if (adOpt.isEmpty()) {
-            return;  // 등록된 광고가 없음
+        Optional<ActiveSession> loaded = watchHistoryRepository
+                .findTopByVideoVideoIdAndUserUserIdOrderByCreatedAtDesc(videoId, userId)
+                .map(history -> {
+                    // 버퍼에 아직 반영되지 않은 위치가 있으면 그 값이 최신
+                    Integer pendingPosition = positionWriteBuffer.pendingPosition(history.getRecordId());
+                    int lastPosition = pendingPosition != null ? pendingPosition : history.getLastWatchedPosition();
+                    return new ActiveSession(history.getRecordId(), history.getViewCounted(), lastPosition);
+                });
+        loaded.ifPresent(session -> sessionRegistry.register(videoId, userId, session));
+        return loaded;
+    }
+
+    /**
+     * 이벤트 묶음 검증 (하나라도 잘못되면 전체 거부)
+     */
+    private List<PlaybackEventBatchRequest.Event> validateEvents(PlaybackEventBatchRequest batchRequest) {
+        if (batchRequest == null || batchRequest.getEvents() == null || batchRequest.getEvents().isEmpty()) {
+            throw new IllegalArgumentException("이벤트가 없습니다.");
+        }
+        List<PlaybackEventBatchRequest.Event> events = batchRequest.getEvents();
+        if (events.size() > MAX_EVENTS_PER_BATCH) {
+            throw new IllegalArgumentException("이벤트는 한 번에 최대 " + MAX_EVENTS_PER_BATCH + "개까지 보낼 수 있습니다.");
         }
-        Ad ad = adOpt.get();
+        for (PlaybackEventBatchRequest.Event event : events) {
+            if (event == null || event.getVideoId() == null || event.getType() == null
+                    || event.getCurrentPosition() == null) {
+                throw new IllegalArgumentException("이벤트에는 videoId, type, currentPosition이 필요합니다.");
+            }
+        }
+        return events;
+    }
 
-        int videoLength = video.getVideoLengthSeconds();
+    /**
+     * 동영상별 누적 시작: 동영상과 현재 시청 세션 조회
+     */
+    private PlaybackProgress startProgress(Integer videoId, Integer userId) {
+        PlaybackProgress progress = new PlaybackProgress(videoId);
+        Optional<VideoMetadata> video = videoMetadataCache.find(videoId);
+        if (video.isEmpty()) {
+            progress.error = "존재하지 않는 동영상입니다.";
+            return progress;
+        }
+        Optional<ActiveSession> session = resolveSession(videoId, userId);
+        if (session.isEmpty()) {
+            progress.error = "시청 기록이 없습니다.";
+            return progress;
+        }
+        progress.video = video.get();
+        progress.session = session.get();
+        progress.position = session.get().lastPosition();
+        return progress;
+    }
+
+    /**
+     * 누적된 결과 쓰기: 중단이 있었으면 recordStop 한 번, 위치 이동만 있었으면 recordPosition 한 번
+     */
+    private boolean writeProgress(PlaybackProgress progress, Integer userId) {
+        Long recordId = progress.session.recordId();
+        boolean recorded = progress.stopped
+                ? watchHistoryWriter.recordStop(recordId, progress.position, progress.watchedSeconds, progress.impressions)
+                : watchHistoryWriter.recordPosition(recordId, progress.position);
+        if (!recorded) {
+            sessionRegistry.evict(progress.videoId, userId);
+            return false;
+        }
+        sessionRegistry.register(progress.videoId, userId, progress.session.withPosition(progress.position));
+        return true;
+    }
 
-        // 5분(300초)마다 광고 삽입
-        // 5분 초과 → 5분에 1개
-        // 10분 초과 → 5분, 10분에 2개
-        for (int position = 300; position < videoLength; position += 300) {
-            VideoAds videoAds = VideoAds.create(video, ad, position);
-            videoAdsRepository.save(videoAds);
+    private static String progressMessage(PlaybackProgress progress) {
+        if (!progress.stopped) {
+            return "위치가 저장되었습니다.";
         }
+        if (!progress.session.viewCounted()) {
+            return "어뷰징으로 감지되어 광고 시청이 카운트되지 않습니다.";
+        }
+        return progress.impressions.size() + "개의 광고 시청이 기록되었습니다.";
+    }
+
+    /**
+     * 위치 검증 (동영상 길이 범위 내로 제한)
+     */
+    private int validatePosition(int position, int videoLength) {
+        if (position < 0) {
+            return 0;
+        }
+        if (position > videoLength) {
+            return videoLength;
+        }
+        return position;
     }
 
     /**
      * 어뷰징 체크
      */
-    private boolean checkAbusing(Video video, User user, String ipAddress) {
+    private boolean checkAbusing(VideoMetadata video, User user, String ipAddress) {
+        // 본인 재생도 시청 기록이 남으므로 IP 윈도우에는 항상 기록
+        boolean repeatedFromSameIp = abuseDetector.checkAndRecord(video.videoId(), ipAddress);
+
         // 1. 본인 동영상인 경우
         if (video.isUploadedBy(user.getUserId())) {
             return true;
         }
 
         // 2. 30초 이내 동일 IP 접속
-        LocalDateTime thirtySecondsAgo = LocalDateTime.now().minusSeconds(30);
-        if (watchHistoryRepository.existsByVideoVideoIdAndIpAddressAndCreatedAtAfter(
-                video.getVideoId(), ipAddress, thirtySecondsAgo)) {
-            return true;
-        }
-
-        return false;
+        return repeatedFromSameIp;
     }
 
     /**
-     * 광고 시청 처리
+     * 광고 시청 처리: 이번 구간에서 통과한 광고 목록
      */
-    private int processAdWatch(Video video, User user, int previousPosition, int currentPosition, String ipAddress) {
+    private List<AdImpression> collectAdImpressions(VideoMetadata video, User user, int previousPosition, int currentPosition,
+                                                    String ipAddress) {
         log.info("=== 광고 시청 처리 시작 ===");
         log.info("이전 위치: %d초, 현재 위치: %d초".formatted(previousPosition, currentPosition));
 
-        // 전체 광고 조회
-        List<VideoAds> allAds = videoAdsRepository
-                .findByVideoVideoIdOrderByPositionSecondsAsc(video.getVideoId());
+        // 이번 구간에서 통과한 광고들 (previousPosition < 위치 <= currentPosition)
+        AdBreakIndex adBreakIndex = adBreakIndexCache.get(video.videoId());
+        int[] passedVideoAdsIds = adBreakIndex.passedBetween(previousPosition, currentPosition);
 
-        System.out.println("동영상의 전체 광고: " + allAds.size() + "개");
-        for (VideoAds ad : allAds) {
-            log.info("  - %d초에 광고".formatted(ad.getPositionSeconds()));
-        }
+        log.info("동영상의 전체 광고: {}개, 이번에 통과한 광고: {}개", adBreakIndex.size(), passedVideoAdsIds.length);
 
-        // 이번 구간에서 통과한 광고들
-        List<VideoAds> adsToWatch = allAds.stream()
-                .filter(va -> {
-                    boolean passed = va.getPositionSeconds() > previousPosition &&
-                            va.getPositionSeconds() <= currentPosition;
-                    System.out.println("  광고 " + va.getPositionSeconds() + "초: " +
-                            previousPosition + " < " + va.getPositionSeconds() + " <= " + currentPosition +
-                            " = " + passed);
-                    return passed;
-                })
-                .toList();
-
-        log.info("이번에 통과한 광고: {}개", adsToWatch.size());
-
-        int count = 0;
-        for (VideoAds videoAds : adsToWatch) {
-            // 🔥 중복 체크 제거 - 매번 기록!
-            // 통계/정산 시 어뷰징 체크하고 집계
-            AdWatchHistory adWatch = AdWatchHistory.create(videoAds, user, ipAddress, true);
-            adWatchHistoryRepository.save(adWatch);
-            count++;
-            log.info("    → ✅ 광고 시청 기록 저장!");
+        // 🔥 중복 체크 제거 - 매번 기록!
+        // 통계/정산 시 어뷰징 체크하고 집계
+        LocalDateTime watchedAt = LocalDateTime.now();
+        List<AdImpression> impressions = new ArrayList<>(passedVideoAdsIds.length);
+        for (int videoAdsId : passedVideoAdsIds) {
+            impressions.add(new AdImpression(videoAdsId, user.getUserId(), ipAddress, true, watchedAt));
         }
-
-        log.info("총 새로 기록된 광고: {}개", count);
-        log.info("===================");
-        return count;
+        return impressions;
     }
 
     /**
@@ -266,4 +395,23 @@ public class StreamingService {
         }
         return ip;
     }
+
+    /**
+     * 이벤트 묶음 처리 중 동영상 하나의 누적 상태
+     */
+    private static class PlaybackProgress {
+        private final Integer videoId;
+        private VideoMetadata video;
+        private ActiveSession session;
+        private String error;
+        private int events;
+        private int position;
+        private int watchedSeconds;
+        private boolean stopped;
+        private final List<AdImpression> impressions = new ArrayList<>();
+
+        PlaybackProgress(Integer videoId) {
+            this.videoId = videoId;
+        }
+    }
 }
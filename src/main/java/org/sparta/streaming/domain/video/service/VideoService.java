@@ -4,6 +4,7 @@
 package org.sparta.streaming.domain.video.service;
 
 import lombok.RequiredArgsConstructor;
+import org.sparta.streaming.domain.ad.schedule.AdScheduleService;
 import org.sparta.streaming.domain.user.entity.User;
 import org.sparta.streaming.domain.user.repository.UserRepository;
 import org.sparta.streaming.domain.video.dto.VideoListResponse;
@@ -25,6 +26,7 @@ public class VideoService {
 
     private final VideoRepository videoRepository;
     private final UserRepository userRepository;
+    private final AdScheduleService adScheduleService;
 
     /**
      * 동영상 업로드
@@ -47,6 +49,9 @@ public class VideoService {
         // 저장
         Video savedVideo = videoRepository.save(video);
 
+        // 광고 삽입 지점 생성 (5분마다)
+        adScheduleService.createSchedule(savedVideo);
+
         // 사용자를 판매자로 자동 업그레이드 (첫 업로드 시)
         if (!user.isSeller()) {
             user.upgradeToSeller();
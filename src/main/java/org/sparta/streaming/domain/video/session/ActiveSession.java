@@ -0,0 +1,17 @@
+// ========================================
+// ActiveSession.java (진행 중인 시청 세션)
+// ========================================
+package org.sparta.streaming.domain.video.session;
+
+/**
+ * (사용자, 동영상)의 현재 시청 세션
+ * @param recordId video_watch_history PK
+ * @param viewCounted 조회수 카운트 여부 (어뷰징이면 false)
+ * @param lastPosition 마지막으로 받은 위치 (초)
+ */
+public record ActiveSession(Long recordId, boolean viewCounted, int lastPosition) {
+
+    public ActiveSession withPosition(int position) {
+        return new ActiveSession(recordId, viewCounted, position);
+    }
+}
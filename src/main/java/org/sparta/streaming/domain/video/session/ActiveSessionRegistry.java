@@ -0,0 +1,150 @@
+// ========================================
+// ActiveSessionRegistry.java (활성 시청 세션 레지스트리)
+// ========================================
+package org.sparta.streaming.domain.video.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.redis.RedisStore;
+import org.sparta.streaming.util.TransactionHooks;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * (videoId, userId) → 현재 시청 세션
+ * 재생 시작 시 등록되고, 재생 중단/위치 저장은 여기서 recordId를 찾아 PK로 바로 갱신한다.
+ * - 최대 항목 수를 넘으면 오래 안 쓰인 항목부터 제거
+ * - idle-timeout 동안 요청이 없으면 만료
+ *
+ * RedisStore가 있으면 Redis 키(session:{userId}:{videoId})가 노드 간 기준이다.
+ * 다른 노드에서 재생/위치 저장을 했으면 그 값을 쓰고, 키가 없거나 Redis 장애면 비어 있는 것으로 본다.
+ * RedisStore가 없으면 로컬 항목은 단일 노드(single-node)일 때만 쓴다.
+ * 여러 노드가 Redis 없이 뜨면 다른 노드의 재생/위치 저장을 알 수 없으므로 항상 비어 있는 것으로 보고,
+ * 호출한 쪽이 DB의 최근 시청 기록(recordId와 위치를 한 번에)을 읽는다.
+ * 항목이 없으면(만료, 재시작) 호출한 쪽이 DB에서 다시 찾는다.
+ */
+@Slf4j
+public class ActiveSessionRegistry {
+
+    static final String KEY_PREFIX = "session:";
+
+    private final RedisStore redisStore;
+    private final boolean singleNode;
+    private final long idleTimeoutSeconds;
+    private final Cache<Long, ActiveSession> sessions;
+
+    /**
+     * @param redisStore null이면 로컬 항목만 사용
+     * @param singleNode Redis 없이 로컬 항목을 믿을지 (이 노드만 시청 기록을 쓸 때만 true)
+     */
+    public ActiveSessionRegistry(RedisStore redisStore, boolean singleNode, long maxEntries, long idleTimeoutSeconds) {
+        this.redisStore = redisStore;
+        this.singleNode = singleNode;
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(Duration.ofSeconds(idleTimeoutSeconds))
+                .build();
+    }
+
+    /**
+     * 항목을 DB 확인 없이 믿어도 되는지 (노드 간 공유되거나 단일 노드)
+     */
+    public boolean isAuthoritative() {
+        return redisStore != null || singleNode;
+    }
+
+    public Optional<ActiveSession> find(Integer videoId, Integer userId) {
+        if (!isAuthoritative()) {
+            return Optional.empty();
+        }
+        long key = key(videoId, userId);
+        if (redisStore == null) {
+            return Optional.ofNullable(sessions.getIfPresent(key));
+        }
+
+        ActiveSession shared = readRemote(videoId, userId);
+        if (shared == null) {
+            sessions.invalidate(key);
+            return Optional.empty();
+        }
+        sessions.put(key, shared);
+        return Optional.of(shared);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 등록 (롤백되면 등록하지 않음)
+     */
+    public void register(Integer videoId, Integer userId, ActiveSession session) {
+        if (!isAuthoritative()) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            sessions.put(key(videoId, userId), session);
+            writeRemote(videoId, userId, session);
+        });
+    }
+
+    public void evict(Integer videoId, Integer userId) {
+        sessions.invalidate(key(videoId, userId));
+        if (redisStore == null) {
+            return;
+        }
+        try {
+            redisStore.delete(remoteKey(videoId, userId));
+        } catch (RuntimeException e) {
+            log.warn("시청 세션(Redis) 삭제 실패: videoId={}, userId={}", videoId, userId, e);
+        }
+    }
+
+    public long size() {
+        return sessions.estimatedSize();
+    }
+
+    // Redis 장애 시에는 DB 조회로 넘어간다
+    private ActiveSession readRemote(Integer videoId, Integer userId) {
+        try {
+            String value = redisStore.get(remoteKey(videoId, userId));
+            return value != null ? decode(value) : null;
+        } catch (RuntimeException e) {
+            log.warn("시청 세션(Redis) 조회 실패: videoId={}, userId={}", videoId, userId, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(Integer videoId, Integer userId, ActiveSession session) {
+        if (redisStore == null) {
+            return;
+        }
+        try {
+            redisStore.set(remoteKey(videoId, userId), encode(session), idleTimeoutSeconds);
+        } catch (RuntimeException e) {
+            // 옛 값이 남아 있으면 다른 노드가 그 값을 믿으므로 지운다
+            log.warn("시청 세션(Redis) 저장 실패: videoId={}, userId={}", videoId, userId, e);
+            evict(videoId, userId);
+        }
+    }
+
+    // recordId:viewCounted(1/0):lastPosition
+    static String encode(ActiveSession session) {
+        return session.recordId() + ":" + (session.viewCounted() ? 1 : 0) + ":" + session.lastPosition();
+    }
+
+    static ActiveSession decode(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 3) {
+            throw new IllegalStateException("알 수 없는 시청 세션 값입니다: " + value);
+        }
+        return new ActiveSession(Long.valueOf(parts[0]), "1".equals(parts[1]), Integer.parseInt(parts[2]));
+    }
+
+    private static String remoteKey(Integer videoId, Integer userId) {
+        return KEY_PREFIX + userId + ":" + videoId;
+    }
+
+    private static long key(Integer videoId, Integer userId) {
+        return ((long) userId << 32) | (videoId & 0xffffffffL);
+    }
+}
@@ -0,0 +1,28 @@
+// ========================================
+// ActiveSessionRegistryConfig.java (활성 시청 세션 레지스트리 설정)
+// ========================================
+package org.sparta.streaming.domain.video.session;
+
+import org.sparta.streaming.redis.RedisStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RedisStore 빈이 있으면(streaming.redis.mode 설정) 노드 간 공유
+ * 없으면 streaming.session-registry.single-node(기본 true)일 때 로컬 항목만 사용하고,
+ * Redis 없이 여러 노드를 띄울 때는 false로 두어 매 요청 DB의 최근 시청 기록을 읽는다.
+ */
+@Configuration
+public class ActiveSessionRegistryConfig {
+
+    @Bean
+    public ActiveSessionRegistry activeSessionRegistry(
+            ObjectProvider<RedisStore> redisStore,
+            @Value("${streaming.session-registry.single-node:true}") boolean singleNode,
+            @Value("${streaming.session-registry.max-entries:100000}") long maxEntries,
+            @Value("${streaming.session-registry.idle-timeout-seconds:1800}") long idleTimeoutSeconds) {
+        return new ActiveSessionRegistry(redisStore.getIfAvailable(), singleNode, maxEntries, idleTimeoutSeconds);
+    }
+}
@@ -0,0 +1,54 @@
+// ========================================
+// DirectWatchHistoryWriter.java (MySQL 직접 쓰기)
+// ========================================
+package org.sparta.streaming.domain.video.writer;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.streaming.domain.ad.impression.AdImpression;
+import org.sparta.streaming.domain.ad.impression.AdImpressionPipeline;
+import org.sparta.streaming.domain.video.buffer.PositionWriteBuffer;
+import org.sparta.streaming.domain.video.entity.VideoWatchHistory;
+import org.sparta.streaming.domain.video.repository.VideoWatchHistoryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "streaming.journal.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DirectWatchHistoryWriter implements WatchHistoryWriter {
+
+    private final VideoWatchHistoryRepository watchHistoryRepository;
+    private final PositionWriteBuffer positionWriteBuffer;
+    private final AdImpressionPipeline adImpressionPipeline;
+
+    @Override
+    public void recordPlay(VideoWatchHistory history) {
+        // INSERT로 이미 반영됨
+    }
+
+    @Override
+    public boolean recordPosition(Long recordId, int position) {
+        if (positionWriteBuffer.isEnabled()) {
+            // write-behind: 버퍼에만 기록하고 주기적으로 batch UPDATE
+            positionWriteBuffer.offer(recordId, position);
+            return true;
+        }
+        return watchHistoryRepository.updatePosition(recordId, position, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean recordStop(Long recordId, int position, int watchedSeconds, List<AdImpression> impressions) {
+        // 버퍼에 남은 위치는 세션에 이미 반영되어 있으므로 버림 (이후 flush가 덮어쓰지 않도록)
+        positionWriteBuffer.takePending(recordId);
+
+        int updated = watchHistoryRepository.updateWatchProgress(recordId, position, watchedSeconds, LocalDateTime.now());
+        if (updated == 0) {
+            return false;
+        }
+        adImpressionPipeline.submit(impressions);
+        return true;
+    }
+}
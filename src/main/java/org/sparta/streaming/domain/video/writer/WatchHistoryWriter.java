@@ -0,0 +1,34 @@
+// ========================================
+// WatchHistoryWriter.java (시청 기록 쓰기 경로)
+// ========================================
+package org.sparta.streaming.domain.video.writer;
+
+import org.sparta.streaming.domain.ad.impression.AdImpression;
+import org.sparta.streaming.domain.video.entity.VideoWatchHistory;
+
+import java.util.List;
+
+/**
+ * 재생 시작 이후의 시청 기록 변경을 어디에 쓸지 결정한다.
+ * - DirectWatchHistoryWriter  : MySQL에 바로 (기본)
+ * - JournalWatchHistoryWriter : 로컬 저널에 먼저 쓰고 JournalReplayer가 MySQL에 반영
+ */
+public interface WatchHistoryWriter {
+
+    /**
+     * 재생 시작 (시청 기록은 호출한 쪽에서 이미 INSERT)
+     */
+    void recordPlay(VideoWatchHistory history);
+
+    /**
+     * 위치만 저장
+     * @return 시청 기록이 없는 것이 확인되면 false
+     */
+    boolean recordPosition(Long recordId, int position);
+
+    /**
+     * 재생 중단: 위치 + 누적 시청 시간, 이번 구간에서 본 광고
+     * @return 시청 기록이 없는 것이 확인되면 false (광고도 기록하지 않음)
+     */
+    boolean recordStop(Long recordId, int position, int watchedSeconds, List<AdImpression> impressions);
+}
@@ -0,0 +1,117 @@
+// ========================================
+// EventJournal.java (시청 이벤트 저널)
+// ========================================
+package org.sparta.streaming.journal;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * streaming.journal.enabled=true 일 때 시청/광고 이벤트를 로컬 디스크에 먼저 기록한다.
+ * 노드마다 자기 저널을 가지며, 저널 이름으로 체크포인트와 반영한 이벤트를 구분한다.
+ *
+ * 저널 이름은 저널 디렉터리의 journal.id 파일에 저장한다.
+ * 컨테이너를 다시 만들어 호스트 이름이 바뀌어도 디렉터리(볼륨)가 남아 있으면 같은 체크포인트에서 이어간다.
+ * - 처음 열 때: streaming.journal.name이 있으면 그 값, 없으면 새로 만든 이름을 저장
+ * - 이후: 저장된 이름을 사용 (설정과 다르면 시작하지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "streaming.journal.enabled", havingValue = "true")
+public class EventJournal {
+
+    static final String ID_FILE = "journal.id";
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final Journal journal;
+    private final String name;
+
+    public EventJournal(@Value("${streaming.journal.dir:./journal}") String directory,
+                        @Value("${streaming.journal.segment-bytes:67108864}") long segmentBytes,
+                        @Value("${streaming.journal.fsync:true}") boolean fsync,
+                        @Value("${streaming.journal.name:}") String configuredName) {
+        this.journal = new Journal(Path.of(directory), segmentBytes, fsync);
+        this.name = resolveName(Path.of(directory), configuredName, journal.getDurableSequence() > 0);
+        log.info("이벤트 저널 활성화: name={}, dir={}, fsync={}", name, directory, fsync);
+    }
+
+    /**
+     * 이벤트들을 기록하고 fsync될 때까지 대기
+     * @return 마지막 이벤트의 시퀀스
+     */
+    public long append(List<JournalEvent> events) {
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        for (JournalEvent event : events) {
+            payloads.add(JournalEvent.encode(event));
+        }
+        return journal.append(payloads);
+    }
+
+    public JournalCursor openCursor(long fromSequence) {
+        return journal.openCursor(fromSequence);
+    }
+
+    public long getDurableSequence() {
+        return journal.getDurableSequence();
+    }
+
+    public int deleteSegments(long checkpoint, Instant retainAfter) {
+        return journal.deleteSegments(checkpoint, retainAfter);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @PreDestroy
+    public void close() {
+        journal.close();
+    }
+
+    /**
+     * 저널 디렉터리에 저장된 이름 (없으면 설정값 또는 새 이름을 저장)
+     * 이름 파일 없이 기록만 있는 저널(이전 버전)은 체크포인트 이름을 알 수 없으므로 설정값이 필요하다.
+     */
+    static String resolveName(Path directory, String configuredName, boolean hasRecords) {
+        Path idFile = directory.resolve(ID_FILE);
+        String configured = configuredName == null ? "" : configuredName.trim();
+        try {
+            if (Files.exists(idFile)) {
+                String stored = Files.readString(idFile, StandardCharsets.UTF_8).trim();
+                if (!configured.isEmpty() && !configured.equals(stored)) {
+                    throw new IllegalStateException("저널 디렉터리의 이름(" + stored
+                            + ")과 streaming.journal.name(" + configured + ")이 다릅니다: " + directory);
+                }
+                return stored;
+            }
+            if (configured.isEmpty() && hasRecords) {
+                throw new IllegalStateException("이름 없는 기존 저널입니다. streaming.journal.name에 "
+                        + "journal_checkpoint의 journal_name을 지정하세요: " + directory);
+            }
+            String name = configured.isEmpty() ? "journal-" + UUID.randomUUID() : configured;
+            if (name.length() > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("저널 이름은 " + MAX_NAME_LENGTH + "자 이하여야 합니다: " + name);
+            }
+            Path tempFile = directory.resolve(ID_FILE + ".tmp");
+            Files.writeString(tempFile, name, StandardCharsets.UTF_8);
+            Files.move(tempFile, idFile, StandardCopyOption.ATOMIC_MOVE);
+            return name;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 이름을 읽거나 저장할 수 없습니다: " + idFile, e);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+// ========================================
+// Journal.java (로컬 디스크 append-only 저널)
+// ========================================
+package org.sparta.streaming.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 세그먼트 단위로 굴러가는 append-only 로그
+ *
+ * 레코드: [int 길이][int CRC32C][long 시퀀스][payload]
+ * 세그먼트 파일명: segment-{첫 시퀀스 20자리}.log
+ *
+ * - append는 디스크에 fsync된 뒤 반환한다. (group commit: 먼저 기다리던 스레드 하나가
+ *   그때까지 쓰인 레코드를 한 번에 force하고 나머지는 그 결과를 같이 쓴다)
+ * - 열 때 마지막 세그먼트의 깨진 꼬리(쓰다가 죽은 레코드)는 잘라낸다.
+ * - 읽기는 fsync가 끝난 레코드까지만 허용한다. (재시작 후 시퀀스가 재사용되지 않도록)
+ * - 쓰다가 실패하면 일부만 쓰인 레코드를 잘라낸다. 잘라내지 못하거나 fsync/세그먼트 교체가 실패하면
+ *   파일 상태를 알 수 없으므로 실패 상태가 되어 재시작(복구) 전까지 기록을 받지 않는다.
+ */
+@Slf4j
+public class Journal implements AutoCloseable {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int MAX_PAYLOAD_BYTES = 1 << 20;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+
+    // 쓰기 상태 (appendLock)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private FileChannel activeChannel;
+    private long activeBase;
+    private long activeSize;
+    private long nextSequence;
+
+    // fsync 상태 (syncLock)
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private boolean syncing;
+    private volatile long durableSequence;
+
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    public Journal(Path directory, long segmentBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 레코드들을 이어서 기록하고 fsync될 때까지 대기
+     * @return 마지막 레코드의 시퀀스
+     */
+    public long append(List<byte[]> payloads) {
+        if (payloads.isEmpty()) {
+            throw new IllegalArgumentException("기록할 레코드가 없습니다.");
+        }
+        long lastSequence;
+        appendLock.lock();
+        try {
+            ensureOpen();
+            int totalBytes = 0;
+            for (byte[] payload : payloads) {
+                if (payload.length > MAX_PAYLOAD_BYTES) {
+                    throw new IllegalArgumentException("저널 레코드가 너무 큽니다: " + payload.length);
+                }
+                totalBytes += HEADER_BYTES + payload.length;
+            }
+            if (activeSize > 0 && activeSize + totalBytes > segmentBytes) {
+                try {
+                    roll();
+                } catch (IOException e) {
+                    fail("세그먼트 교체 실패", e);
+                    throw e;
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(totalBytes);
+            long sequence = nextSequence;
+            for (byte[] payload : payloads) {
+                buffer.putInt(payload.length);
+                buffer.putInt(checksum(sequence, payload));
+                buffer.putLong(sequence);
+                buffer.put(payload);
+                sequence++;
+            }
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    activeChannel.write(buffer);
+                }
+            } catch (IOException e) {
+                discardPartialWrite();
+                throw e;
+            }
+            activeSize += totalBytes;
+            nextSequence = sequence;
+            lastSequence = sequence - 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 기록 실패", e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        awaitDurable(lastSequence);
+        return lastSequence;
+    }
+
+    /**
+     * fsync가 끝난 마지막 시퀀스 (없으면 0)
+     */
+    public long getDurableSequence() {
+        return durableSequence;
+    }
+
+    /**
+     * fromSequence부터 읽는 커서
+     */
+    public JournalCursor openCursor(long fromSequence) {
+        return new JournalCursor(this, fromSequence);
+    }
+
+    /**
+     * checkpoint 이하 레코드만 담긴 세그먼트 중 retainAfter 이전에 마지막으로 쓰인 것을 삭제
+     * 활성 세그먼트는 지우지 않는다.
+     * @return 삭제한 세그먼트 수
+     */
+    public int deleteSegments(long checkpoint, Instant retainAfter) {
+        List<Long> bases = segmentBases();
+        int deleted = 0;
+        for (int i = 0; i + 1 < bases.size(); i++) {
+            long nextBase = bases.get(i + 1);
+            Path segment = segmentPath(bases.get(i));
+            try {
+                if (nextBase - 1 <= checkpoint
+                        && Files.getLastModifiedTime(segment).toInstant().isBefore(retainAfter)) {
+                    Files.deleteIfExists(segment);
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 삭제 실패: {}", segment, e);
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (fsync) {
+                activeChannel.force(false);
+            }
+            activeChannel.close();
+        } catch (IOException e) {
+            log.warn("저널 종료 중 오류", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // ========================================
+    // group commit
+    // ========================================
+
+    private void awaitDurable(long sequence) {
+        syncLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (failed) {
+                    // fsync가 한 번 실패하면 다시 force해도 그 사이 데이터가 디스크에 있다고 믿을 수 없다
+                    throw new IllegalStateException("저널이 실패 상태입니다. 재시작이 필요합니다.");
+                }
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+
+                // 이 스레드가 리더: 지금까지 쓰인 레코드를 한 번에 force
+                syncing = true;
+                long target = -1;
+                syncLock.unlock();
+                try {
+                    FileChannel channel;
+                    appendLock.lock();
+                    try {
+                        target = nextSequence - 1;
+                        channel = activeChannel;
+                    } finally {
+                        appendLock.unlock();
+                    }
+                    force(channel);
+                    if (target > durableSequence) {
+                        durableSequence = target;
+                    }
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void force(FileChannel channel) {
+        if (!fsync) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            // 세그먼트 교체 시 닫히기 전에 이미 force됨
+        } catch (IOException e) {
+            fail("fsync 실패", e);
+            throw new UncheckedIOException("저널 fsync 실패", e);
+        }
+    }
+
+    /**
+     * 일부만 쓰인 레코드를 잘라내 다음 append가 깨진 레코드 뒤에 이어 쓰지 않게 한다. (appendLock 안에서 호출)
+     */
+    private void discardPartialWrite() {
+        try {
+            activeChannel.truncate(activeSize);
+            activeChannel.position(activeSize);
+        } catch (IOException e) {
+            fail("깨진 꼬리 정리 실패", e);
+        }
+    }
+
+    private void fail(String reason, IOException cause) {
+        failed = true;
+        log.error("저널 실패 상태로 전환 ({}), 재시작 전까지 기록을 받지 않습니다: {}", reason, directory, cause);
+    }
+
+    // ========================================
+    // 세그먼트
+    // ========================================
+
+    private void roll() throws IOException {
+        if (fsync) {
+            activeChannel.force(false);
+        }
+        activeChannel.close();
+        openActive(nextSequence);
+        if (fsync) {
+            forceDirectory();
+        }
+        log.info("저널 세그먼트 교체: {}", segmentPath(activeBase).getFileName());
+    }
+
+    private void openActive(long base) throws IOException {
+        activeBase = base;
+        activeChannel = FileChannel.open(segmentPath(base),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeSize = activeChannel.size();
+        activeChannel.position(activeSize);
+    }
+
+    /**
+     * 마지막 세그먼트를 끝까지 검증하고 깨진 꼬리를 잘라낸다.
+     */
+    private void recover() throws IOException {
+        List<Long> bases = segmentBases();
+        long base = bases.isEmpty() ? 1L : bases.get(bases.size() - 1);
+        openActive(base);
+
+        ScanResult scan = scan(activeChannel, base);
+        if (scan.validBytes() < activeSize) {
+            log.warn("저널 꼬리 손상 복구: {} ({}바이트 → {}바이트)",
+                    segmentPath(base).getFileName(), activeSize, scan.validBytes());
+            activeChannel.truncate(scan.validBytes());
+            activeChannel.force(true);
+            activeSize = scan.validBytes();
+            activeChannel.position(activeSize);
+        }
+        nextSequence = scan.nextSequence();
+        durableSequence = nextSequence - 1;
+        log.info("저널 열기: dir={}, 다음 시퀀스={}", directory, nextSequence);
+    }
+
+    private static ScanResult scan(FileChannel channel, long base) throws IOException {
+        long position = 0;
+        long expected = base;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            int length = header.getInt();
+            int crc = header.getInt();
+            long sequence = header.getLong();
+            if (length < 0 || length > MAX_PAYLOAD_BYTES || sequence != expected
+                    || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_BYTES);
+            if (checksum(sequence, payload.array()) != crc) {
+                break;
+            }
+            position += HEADER_BYTES + length;
+            expected++;
+        }
+        return new ScanResult(position, expected);
+    }
+
+    private void forceDirectory() {
+        // 디렉터리 fsync는 지원하지 않는 OS가 있어 실패해도 무시
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("저널 디렉터리 fsync 생략: {}", e.getMessage());
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("저널이 닫혔습니다.");
+        }
+        if (failed) {
+            throw new IllegalStateException("저널이 실패 상태입니다. 재시작이 필요합니다.");
+        }
+    }
+
+    // ========================================
+    // JournalCursor에서 사용
+    // ========================================
+
+    List<Long> segmentBases() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Long> bases = new ArrayList<>();
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> bases.add(Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))));
+            bases.sort(null);
+            return bases;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트 목록 조회 실패", e);
+        }
+    }
+
+    Path segmentPath(long base) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", base) + SEGMENT_SUFFIX);
+    }
+
+    static int checksum(long sequence, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("저널 세그먼트가 예상보다 짧습니다.");
+            }
+        }
+    }
+
+    private record ScanResult(long validBytes, long nextSequence) {}
+}
@@ -0,0 +1,213 @@
+// ========================================
+// JournalApplier.java (저널 이벤트 → MySQL)
+// ========================================
+package org.sparta.streaming.journal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.domain.ad.impression.AdImpression;
+import org.sparta.streaming.domain.ad.impression.AdImpressionWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이벤트 묶음을 호출한 트랜잭션 안에서 반영한다.
+ * - Play      : record_id를 지정해 INSERT (이미 있으면 무시 → 평소에는 no-op, 복구 시 행 생성)
+ * - Position/Stop : 시청 기록별로 합쳐서 UPDATE 한 번 (마지막 위치, 시청 시간 합계, 마지막 시각)
+ * - AdWatched : multi-row INSERT
+ *
+ * 이벤트 id는 (저널 이름, 시퀀스)다. 체크포인트를 잃거나 되감아 같은 이벤트가 다시 와도 한 번만 반영한다.
+ * - 시청 기록: 행에 마지막으로 반영한 저널 이벤트를 남기고, 그 시퀀스 이하의 이벤트는 건너뛴다
+ *   (그 뒤 다른 노드의 저널이 같은 행을 갱신했으면 이 저널의 이전 이벤트는 구분하지 못한다)
+ * - 광고 시청: 행마다 이벤트 id를 남기고, 이미 있는 id는 건너뛴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JournalApplier {
+
+    private static final String INSERT_PLAY_SQL = """
+            INSERT INTO video_watch_history
+                (record_id, video_id, user_id, last_watched_position, total_watched_seconds,
+                 view_counted, ip_address, created_at)
+            VALUES (?, ?, ?, ?, 0, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE record_id = record_id
+            """;
+
+    private static final String SELECT_APPLIED_PROGRESS_SQL = """
+            SELECT record_id, journal_sequence FROM video_watch_history
+            WHERE journal_id = ? AND record_id IN (%s)
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_PROGRESS_SQL = """
+            UPDATE video_watch_history
+            SET last_watched_position = ?,
+                total_watched_seconds = total_watched_seconds + ?,
+                updated_at = ?,
+                journal_id = ?,
+                journal_sequence = ?
+            WHERE record_id = ?
+            """;
+
+    private static final String SELECT_APPLIED_ADS_SQL = """
+            SELECT journal_sequence FROM ad_watch_history
+            WHERE journal_id = ? AND journal_sequence BETWEEN ? AND ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AdImpressionWriter adImpressionWriter;
+
+    /**
+     * @param journalName 이벤트 id의 앞부분 (EventJournal.getName)
+     */
+    public void apply(String journalName, List<JournalRecord> records) {
+        List<Object[]> plays = new ArrayList<>();
+        Map<Long, List<ProgressEvent>> progressEvents = new LinkedHashMap<>();
+        List<AdImpression> impressions = new ArrayList<>();
+        List<Long> impressionSequences = new ArrayList<>();
+
+        for (JournalRecord record : records) {
+            long sequence = record.sequence();
+            switch (JournalEvent.decode(record.payload())) {
+                case JournalEvent.Play play -> plays.add(new Object[]{
+                        play.recordId(), play.videoId(), play.userId(), play.startPosition(),
+                        play.viewCounted(), play.ipAddress(), Timestamp.valueOf(play.occurredAt())});
+                case JournalEvent.Position position -> progressEvents
+                        .computeIfAbsent(position.recordId(), id -> new ArrayList<>())
+                        .add(new ProgressEvent(sequence, position.position(), 0, position.occurredAt()));
+                case JournalEvent.Stop stop -> progressEvents
+                        .computeIfAbsent(stop.recordId(), id -> new ArrayList<>())
+                        .add(new ProgressEvent(sequence, stop.position(), stop.watchedSeconds(), stop.occurredAt()));
+                case JournalEvent.AdWatched adWatched -> {
+                    impressions.add(new AdImpression(
+                            adWatched.videoAdsId(), adWatched.userId(), adWatched.ipAddress(),
+                            adWatched.viewCounted(), adWatched.occurredAt()));
+                    impressionSequences.add(sequence);
+                }
+            }
+        }
+
+        if (!plays.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PLAY_SQL, plays);
+        }
+
+        if (!progressEvents.isEmpty()) {
+            applyProgress(journalName, progressEvents);
+        }
+
+        if (!impressions.isEmpty()) {
+            applyImpressions(journalName, impressions, impressionSequences);
+        }
+    }
+
+    private void applyProgress(String journalName, Map<Long, List<ProgressEvent>> progressEvents) {
+        Map<Long, Long> applied = loadAppliedProgress(journalName, progressEvents.keySet());
+
+        List<Object[]> updates = new ArrayList<>(progressEvents.size());
+        long skipped = 0;
+        for (Map.Entry<Long, List<ProgressEvent>> entry : progressEvents.entrySet()) {
+            long appliedSequence = applied.getOrDefault(entry.getKey(), 0L);
+            Progress progress = new Progress();
+            for (ProgressEvent event : entry.getValue()) {
+                if (event.sequence() <= appliedSequence) {
+                    skipped++;
+                    continue;
+                }
+                progress.apply(event);
+            }
+            if (progress.updatedAt != null) {
+                updates.add(new Object[]{progress.position, progress.watchedSeconds,
+                        Timestamp.valueOf(progress.updatedAt), journalName, progress.sequence, entry.getKey()});
+            }
+        }
+        if (skipped > 0) {
+            log.warn("저널 반영: 이미 반영된 시청 이벤트 {}건 건너뜀", skipped);
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_PROGRESS_SQL, updates);
+        long missing = countMissing(counts);
+        if (missing > 0) {
+            log.warn("저널 반영: 시청 기록이 없는 이벤트 {}건 건너뜀", missing);
+        }
+    }
+
+    // 이 저널이 마지막으로 반영한 시퀀스 (다른 저널이 마지막으로 갱신한 행은 없음으로 본다)
+    private Map<Long, Long> loadAppliedProgress(String journalName, Set<Long> recordIds) {
+        String sql = SELECT_APPLIED_PROGRESS_SQL.formatted(String.join(", ", Collections.nCopies(recordIds.size(), "?")));
+        List<Object> args = new ArrayList<>(recordIds.size() + 1);
+        args.add(journalName);
+        args.addAll(recordIds);
+
+        Map<Long, Long> applied = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            applied.put(rs.getLong("record_id"), rs.getLong("journal_sequence"));
+        }, args.toArray());
+        return applied;
+    }
+
+    private void applyImpressions(String journalName, List<AdImpression> impressions, List<Long> sequences) {
+        Set<Long> applied = new HashSet<>(jdbcTemplate.queryForList(SELECT_APPLIED_ADS_SQL, Long.class,
+                journalName, sequences.get(0), sequences.get(sequences.size() - 1)));
+
+        List<AdImpression> pending = impressions;
+        List<Long> pendingSequences = sequences;
+        if (!applied.isEmpty()) {
+            pending = new ArrayList<>(impressions.size());
+            pendingSequences = new ArrayList<>(sequences.size());
+            for (int i = 0; i < impressions.size(); i++) {
+                if (!applied.contains(sequences.get(i))) {
+                    pending.add(impressions.get(i));
+                    pendingSequences.add(sequences.get(i));
+                }
+            }
+            log.warn("저널 반영: 이미 반영된 광고 시청 이벤트 {}건 건너뜀", impressions.size() - pending.size());
+        }
+        if (!pending.isEmpty()) {
+            adImpressionWriter.writeJournaled(journalName, pending, pendingSequences);
+        }
+    }
+
+    private static long countMissing(int[] counts) {
+        long missing = 0;
+        for (int count : counts) {
+            if (count == 0) {
+                missing++;
+            }
+        }
+        return missing;
+    }
+
+    private record ProgressEvent(long sequence, int position, int watchedSeconds, LocalDateTime occurredAt) {}
+
+    /**
+     * 한 시청 기록에 대한 위치/시청 시간 변경 누적 (이벤트 순서대로)
+     */
+    private static class Progress {
+        private int position;
+        private int watchedSeconds;
+        private LocalDateTime updatedAt;
+        private long sequence;
+
+        void apply(ProgressEvent event) {
+            this.position = event.position();
+            this.watchedSeconds += event.watchedSeconds();
+            this.updatedAt = event.occurredAt();
+            this.sequence = event.sequence();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+// ========================================
+// JournalCheckpoint.java (저널 반영 위치)
+// ========================================
+package org.sparta.streaming.journal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저널(노드)별로 MySQL에 반영된 마지막 시퀀스
+ * 반영한 데이터와 같은 트랜잭션에서 갱신하므로 재시작해도 중복/누락 없이 이어서 반영한다.
+ * (쓰기는 JournalCheckpointStore가 JDBC로 처리, 엔티티는 테이블 정의용)
+ */
+@Entity
+@Table(name = "journal_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JournalCheckpoint {
+
+    @Id
+    @Column(name = "journal_name", length = 100)
+    private String journalName;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+// ========================================
+// JournalCheckpointStore.java (체크포인트 조회/저장)
+// ========================================
+package org.sparta.streaming.journal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class JournalCheckpointStore {
+
+    private static final String SELECT_SQL =
+            "SELECT last_sequence FROM journal_checkpoint WHERE journal_name = ?";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO journal_checkpoint (journal_name, last_sequence, updated_at)
+            VALUES (?, ?, ?) AS incoming
+            ON DUPLICATE KEY UPDATE last_sequence = incoming.last_sequence, updated_at = incoming.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 마지막으로 반영한 시퀀스 (없으면 0)
+     */
+    public long load(String journalName) {
+        List<Long> rows = jdbcTemplate.queryForList(SELECT_SQL, Long.class, journalName);
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 저장
+     */
+    public void save(String journalName, long lastSequence) {
+        jdbcTemplate.update(UPSERT_SQL, journalName, lastSequence, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
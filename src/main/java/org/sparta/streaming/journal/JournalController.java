@@ -0,0 +1,66 @@
+// ========================================
+// JournalController.java (저널 운영 API)
+// ========================================
+package org.sparta.streaming.journal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@Profile("streaming")
+@ConditionalOnProperty(name = "streaming.journal.enabled", havingValue = "true")
+@RequestMapping("/api/journal")
+@RequiredArgsConstructor
+public class JournalController {
+
+    private final EventJournal journal;
+    private final JournalReplayer replayer;
+    private final JournalRebuildService rebuildService;
+
+    /**
+     * 저널 상태
+     * GET /api/journal/status
+     */
+    @GetMapping("/status")
+    public ResponseEntity<JournalStatus> status() {
+        return ResponseEntity.ok(new JournalStatus(
+                journal.getName(),
+                journal.getDurableSequence(),
+                replayer.getCheckpoint(),
+                replayer.getLag()
+        ));
+    }
+
+    /**
+     * fromSequence부터 시청 기록 테이블에 다시 반영
+     * POST /api/journal/replay?fromSequence=1
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<String> replay(@RequestParam long fromSequence) {
+        replayer.rewind(fromSequence);
+        return ResponseEntity.ok("저널 재반영을 시작합니다. (fromSequence=" + fromSequence + ")");
+    }
+
+    /**
+     * 저널로 일간 통계 재구성
+     * POST /api/journal/rebuild/daily-statistics?date=2024-01-01
+     */
+    @PostMapping("/rebuild/daily-statistics")
+    public ResponseEntity<String> rebuildDailyStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        int videos = rebuildService.rebuildDailyStatistics(date);
+        return ResponseEntity.ok(date + " 일간 통계 " + videos + "건을 재구성했습니다.");
+    }
+
+    public record JournalStatus(String name, long durableSequence, long checkpoint, long lag) {}
+}
@@ -0,0 +1,148 @@
+// ========================================
+// JournalCursor.java (저널 순차 읽기)
+// ========================================
+package org.sparta.streaming.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시퀀스 순서대로 레코드를 읽는다. (스레드 하나에서만 사용)
+ * 읽은 위치를 기억하므로 다음 호출은 이어서 읽는다.
+ * fsync가 끝나지 않은 레코드는 다음 호출까지 미룬다.
+ */
+public class JournalCursor implements AutoCloseable {
+
+    private final Journal journal;
+    private final ByteBuffer header = ByteBuffer.allocate(Journal.HEADER_BYTES);
+
+    private FileChannel channel;
+    private long segmentBase;
+    private long position;
+    private long nextSequence;
+
+    JournalCursor(Journal journal, long fromSequence) {
+        this.journal = journal;
+        this.nextSequence = Math.max(1L, fromSequence);
+        openSegmentContaining(nextSequence);
+    }
+
+    /**
+     * 다음 시퀀스 (아직 읽지 않은 첫 레코드)
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * 최대 maxRecords개의 레코드
+     */
+    public List<JournalRecord> next(int maxRecords) {
+        List<JournalRecord> records = new ArrayList<>();
+        long durable = journal.getDurableSequence();
+        try {
+            while (records.size() < maxRecords && nextSequence <= durable) {
+                if (channel == null && !openSegmentContaining(nextSequence)) {
+                    break;
+                }
+                JournalRecord record = readRecord();
+                if (record == null) {
+                    // 현재 세그먼트 끝 → 다음 세그먼트로
+                    if (!openSegmentContaining(nextSequence) || channel == null) {
+                        break;
+                    }
+                    continue;
+                }
+                if (record.sequence() >= nextSequence) {
+                    records.add(record);
+                    nextSequence = record.sequence() + 1;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 읽기 실패", e);
+        }
+        return records;
+    }
+
+    @Override
+    public void close() {
+        closeChannel();
+    }
+
+    /**
+     * 현재 위치의 레코드 (세그먼트 끝이면 null)
+     */
+    private JournalRecord readRecord() throws IOException {
+        if (position + Journal.HEADER_BYTES > channel.size()) {
+            return null;
+        }
+        header.clear();
+        Journal.readFully(channel, header, position);
+        header.flip();
+        int length = header.getInt();
+        int crc = header.getInt();
+        long sequence = header.getLong();
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        Journal.readFully(channel, payload, position + Journal.HEADER_BYTES);
+        if (Journal.checksum(sequence, payload.array()) != crc) {
+            throw new IllegalStateException("저널 레코드 손상: sequence=" + sequence);
+        }
+        position += Journal.HEADER_BYTES + length;
+        return new JournalRecord(sequence, payload.array());
+    }
+
+    /**
+     * sequence를 담고 있는 세그먼트를 연다.
+     * @return 세그먼트를 바꿨으면 true
+     */
+    private boolean openSegmentContaining(long sequence) {
+        List<Long> bases = journal.segmentBases();
+        long base = -1;
+        for (long candidate : bases) {
+            if (candidate <= sequence) {
+                base = candidate;
+            }
+        }
+        if (base < 0) {
+            if (bases.isEmpty()) {
+                return false;
+            }
+            // 보존 기간이 지나 삭제된 구간은 건너뛴다
+            base = bases.get(0);
+        }
+        if (channel != null && base == segmentBase) {
+            return false;
+        }
+
+        closeChannel();
+        try {
+            channel = FileChannel.open(journal.segmentPath(base), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 열 수 없습니다.", e);
+        }
+        segmentBase = base;
+        position = 0;
+        return true;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 읽기 전용 채널
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,125 @@
+// ========================================
+// JournalEvent.java (저널에 기록하는 시청 이벤트)
+// ========================================
+package org.sparta.streaming.journal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 시청/광고 이벤트
+ * 시간은 LocalDateTime 그대로(시간대 변환 없이) 초 + 나노초로 저장한다.
+ */
+public sealed interface JournalEvent {
+
+    byte TYPE_PLAY = 1;
+    byte TYPE_POSITION = 2;
+    byte TYPE_STOP = 3;
+    byte TYPE_AD_WATCHED = 4;
+
+    LocalDateTime occurredAt();
+
+    /**
+     * 재생 시작 (DB에는 이미 INSERT됨, 재구성용)
+     */
+    record Play(long recordId, int videoId, int userId, String ipAddress, boolean viewCounted,
+                int startPosition, LocalDateTime occurredAt) implements JournalEvent {}
+
+    /**
+     * 위치만 저장
+     */
+    record Position(long recordId, int position, LocalDateTime occurredAt) implements JournalEvent {}
+
+    /**
+     * 재생 중단 (watchedSeconds만큼 누적 시청 시간 증가)
+     */
+    record Stop(long recordId, int position, int watchedSeconds, LocalDateTime occurredAt) implements JournalEvent {}
+
+    /**
+     * 광고 시청
+     */
+    record AdWatched(int videoAdsId, int userId, String ipAddress, boolean viewCounted,
+                     LocalDateTime occurredAt) implements JournalEvent {}
+
+    // ========================================
+    // 직렬화
+    // ========================================
+
+    static byte[] encode(JournalEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            switch (event) {
+                case Play play -> {
+                    out.writeByte(TYPE_PLAY);
+                    out.writeLong(play.recordId());
+                    out.writeInt(play.videoId());
+                    out.writeInt(play.userId());
+                    writeNullableString(out, play.ipAddress());
+                    out.writeBoolean(play.viewCounted());
+                    out.writeInt(play.startPosition());
+                }
+                case Position position -> {
+                    out.writeByte(TYPE_POSITION);
+                    out.writeLong(position.recordId());
+                    out.writeInt(position.position());
+                }
+                case Stop stop -> {
+                    out.writeByte(TYPE_STOP);
+                    out.writeLong(stop.recordId());
+                    out.writeInt(stop.position());
+                    out.writeInt(stop.watchedSeconds());
+                }
+                case AdWatched adWatched -> {
+                    out.writeByte(TYPE_AD_WATCHED);
+                    out.writeInt(adWatched.videoAdsId());
+                    out.writeInt(adWatched.userId());
+                    writeNullableString(out, adWatched.ipAddress());
+                    out.writeBoolean(adWatched.viewCounted());
+                }
+            }
+            out.writeLong(event.occurredAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(event.occurredAt().getNano());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static JournalEvent decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte type = in.readByte();
+            return switch (type) {
+                case TYPE_PLAY -> new Play(in.readLong(), in.readInt(), in.readInt(), readNullableString(in),
+                        in.readBoolean(), in.readInt(), readTime(in));
+                case TYPE_POSITION -> new Position(in.readLong(), in.readInt(), readTime(in));
+                case TYPE_STOP -> new Stop(in.readLong(), in.readInt(), in.readInt(), readTime(in));
+                case TYPE_AD_WATCHED -> new AdWatched(in.readInt(), in.readInt(), readNullableString(in),
+                        in.readBoolean(), readTime(in));
+                default -> throw new IllegalStateException("알 수 없는 저널 이벤트 타입: " + type);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
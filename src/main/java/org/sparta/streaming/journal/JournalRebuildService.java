@@ -0,0 +1,90 @@
+// ========================================
+// JournalRebuildService.java (저널로 일간 통계 재구성)
+// ========================================
+package org.sparta.streaming.journal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저널만으로 특정 날짜의 daily_video_statistics를 다시 계산한다.
+ * 일간 통계 배치와 같은 기준: 그날 시작된 조회수 인정 시청 기록 수, 그 기록들의 누적 시청 시간
+ * 저널에는 이 노드가 받은 요청만 있으므로 streaming 노드가 하나일 때(또는 노드별 저널을 모두 모았을 때) 정확하다.
+ *
+ * 시청 기록 테이블 자체의 재구성은 JournalReplayer.rewind로 처리한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "streaming.journal.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class JournalRebuildService {
+
+    private static final int SCAN_BATCH = 10_000;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO daily_video_statistics (video_id, stat_date, view_count, total_watch_seconds, created_at)
+            VALUES (?, ?, ?, ?, ?) AS incoming
+            ON DUPLICATE KEY UPDATE view_count = incoming.view_count, total_watch_seconds = incoming.total_watch_seconds
+            """;
+
+    private final EventJournal journal;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 재계산한 동영상 수
+     */
+    @Transactional
+    public int rebuildDailyStatistics(LocalDate statDate) {
+        Map<Long, Integer> videoByRecord = new HashMap<>();
+        Map<Integer, long[]> statsByVideo = new HashMap<>();  // [조회수, 시청 시간]
+
+        try (JournalCursor cursor = journal.openCursor(1)) {
+            List<JournalRecord> records;
+            while (!(records = cursor.next(SCAN_BATCH)).isEmpty()) {
+                for (JournalRecord record : records) {
+                    switch (JournalEvent.decode(record.payload())) {
+                        case JournalEvent.Play play -> {
+                            if (play.viewCounted() && play.occurredAt().toLocalDate().equals(statDate)) {
+                                videoByRecord.put(play.recordId(), play.videoId());
+                                statsByVideo.computeIfAbsent(play.videoId(), id -> new long[2])[0]++;
+                            }
+                        }
+                        case JournalEvent.Stop stop -> {
+                            Integer videoId = videoByRecord.get(stop.recordId());
+                            if (videoId != null) {
+                                statsByVideo.get(videoId)[1] += stop.watchedSeconds();
+                            }
+                        }
+                        default -> {
+                            // 위치 저장, 광고 시청은 일간 통계와 무관
+                        }
+                    }
+                }
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date date = Date.valueOf(statDate);
+        List<Object[]> rows = new ArrayList<>(statsByVideo.size());
+        statsByVideo.forEach((videoId, stats) -> rows.add(new Object[]{videoId, date, stats[0], stats[1], now}));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+
+        log.info("저널로 일간 통계 재구성: date={}, 동영상 {}개, 시청 기록 {}건", statDate, rows.size(), videoByRecord.size());
+        return rows.size();
+    }
+}
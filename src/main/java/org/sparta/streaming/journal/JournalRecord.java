@@ -0,0 +1,7 @@
+// ========================================
+// JournalRecord.java (저널 레코드)
+// ========================================
+package org.sparta.streaming.journal;
+
+public record JournalRecord(long sequence, byte[] payload) {
+}
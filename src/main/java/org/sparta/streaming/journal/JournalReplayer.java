@@ -0,0 +1,187 @@
+// ========================================
+// JournalReplayer.java (저널 → MySQL 반영)
+// ========================================
+package org.sparta.streaming.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.config.WorkerThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저널을 체크포인트 다음부터 읽어 batch-size 단위로 MySQL에 반영한다.
+ * 이벤트 반영과 체크포인트 갱신이 한 트랜잭션이므로 재시작해도 정확히 한 번 반영된다.
+ * DB 장애 중에는 요청은 저널에만 쌓이고, 복구되면 밀린 만큼 큰 batch로 따라잡는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "streaming.journal.enabled", havingValue = "true")
+public class JournalReplayer {
+
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(10);
+
+    private final EventJournal journal;
+    private final JournalApplier applier;
+    private final JournalCheckpointStore checkpointStore;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkerThreads workerThreads;
+    private final int batchSize;
+    private final long idleMillis;
+    private final Duration retention;
+
+    private volatile long checkpoint;
+    private volatile long rewindTo = -1;
+    private volatile boolean running;
+    private Thread worker;
+
+    public JournalReplayer(EventJournal journal,
+                           JournalApplier applier,
+                           JournalCheckpointStore checkpointStore,
+                           PlatformTransactionManager transactionManager,
+                           WorkerThreads workerThreads,
+                           @Value("${streaming.journal.replay.batch-size:5000}") int batchSize,
+                           @Value("${streaming.journal.replay.idle-ms:200}") long idleMillis,
+                           @Value("${streaming.journal.retention-hours:168}") long retentionHours) {
+        this.journal = journal;
+        this.applier = applier;
+        this.checkpointStore = checkpointStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerThreads = workerThreads;
+        this.batchSize = batchSize;
+        this.idleMillis = idleMillis;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = workerThreads.start("journal-replay", this::replayLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 batch는 끝까지 반영하고 종료
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * fromSequence부터 다시 반영 (DB 복원 후 등)
+     * 이미 반영된 이벤트는 이벤트 id로 건너뛰므로 시청 시간, 광고 기록이 중복 누적되지 않는다.
+     */
+    public void rewind(long fromSequence) {
+        if (fromSequence < 1) {
+            throw new IllegalArgumentException("시퀀스는 1 이상이어야 합니다.");
+        }
+        rewindTo = fromSequence;
+    }
+
+    public long getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * 저널에는 있지만 아직 DB에 반영되지 않은 이벤트 수
+     */
+    public long getLag() {
+        return Math.max(0, journal.getDurableSequence() - checkpoint);
+    }
+
+    private void replayLoop() {
+        JournalCursor cursor = null;
+        long backoffMillis = idleMillis;
+        Instant nextCleanup = Instant.now().plus(CLEANUP_INTERVAL);
+
+        while (running) {
+            try {
+                if (rewindTo > 0) {
+                    long from = rewindTo;
+                    transactionTemplate.executeWithoutResult(status -> checkpointStore.save(journal.getName(), from - 1));
+                    rewindTo = -1;
+                    closeQuietly(cursor);
+                    cursor = null;
+                    log.warn("저널 재반영 시작: fromSequence={}", from);
+                }
+                if (cursor == null) {
+                    checkpoint = checkpointStore.load(journal.getName());
+                    cursor = journal.openCursor(checkpoint + 1);
+                }
+
+                List<JournalRecord> records = cursor.next(batchSize);
+                if (records.isEmpty()) {
+                    if (Instant.now().isAfter(nextCleanup)) {
+                        cleanup();
+                        nextCleanup = Instant.now().plus(CLEANUP_INTERVAL);
+                    }
+                    Thread.sleep(idleMillis);
+                    continue;
+                }
+
+                applyBatch(records);
+                backoffMillis = idleMillis;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("저널 반영 실패, {}ms 후 체크포인트부터 재시도", backoffMillis, e);
+                closeQuietly(cursor);
+                cursor = null;
+                sleepQuietly(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+        closeQuietly(cursor);
+    }
+
+    private void applyBatch(List<JournalRecord> records) {
+        long lastSequence = records.get(records.size() - 1).sequence();
+
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            applier.apply(journal.getName(), records);
+            checkpointStore.save(journal.getName(), lastSequence);
+        });
+        checkpoint = lastSequence;
+        log.debug("저널 반영: {}건, checkpoint={}, {}ms",
+                records.size(), lastSequence, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void cleanup() {
+        int deleted = journal.deleteSegments(checkpoint, Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("보존 기간이 지난 저널 세그먼트 {}개 삭제", deleted);
+        }
+    }
+
+    private static void closeQuietly(JournalCursor cursor) {
+        if (cursor != null) {
+            cursor.close();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
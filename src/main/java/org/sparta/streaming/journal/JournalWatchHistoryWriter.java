@@ -0,0 +1,63 @@
+// ========================================
+// JournalWatchHistoryWriter.java (저널 경유 쓰기)
+// ========================================
+package org.sparta.streaming.journal;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.streaming.domain.ad.impression.AdImpression;
+import org.sparta.streaming.domain.video.entity.VideoWatchHistory;
+import org.sparta.streaming.domain.video.writer.WatchHistoryWriter;
+import org.sparta.streaming.util.TransactionHooks;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위치 저장/재생 중단/광고 시청을 저널에만 기록하고 바로 반환한다. (MySQL 반영은 JournalReplayer)
+ * 재생 시작은 생성된 record_id가 필요해 MySQL에 먼저 INSERT하고, 커밋 후 재구성용으로 저널에 남긴다.
+ * 시청 기록 존재 여부는 반영 시점에 확인하므로 여기서는 항상 true
+ */
+@Component
+@ConditionalOnProperty(name = "streaming.journal.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class JournalWatchHistoryWriter implements WatchHistoryWriter {
+
+    private final EventJournal journal;
+
+    @Override
+    public void recordPlay(VideoWatchHistory history) {
+        LocalDateTime createdAt = history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now();
+        JournalEvent play = new JournalEvent.Play(
+                history.getRecordId(),
+                history.getVideo().getVideoId(),
+                history.getUser().getUserId(),
+                history.getIpAddress(),
+                history.getViewCounted(),
+                history.getLastWatchedPosition(),
+                createdAt);
+        // 롤백된 재생이 복구 시 생기지 않도록 커밋 후 기록
+        TransactionHooks.afterCommit(() -> journal.append(List.of(play)));
+    }
+
+    @Override
+    public boolean recordPosition(Long recordId, int position) {
+        journal.append(List.of(new JournalEvent.Position(recordId, position, LocalDateTime.now())));
+        return true;
+    }
+
+    @Override
+    public boolean recordStop(Long recordId, int position, int watchedSeconds, List<AdImpression> impressions) {
+        List<JournalEvent> events = new ArrayList<>(impressions.size() + 1);
+        events.add(new JournalEvent.Stop(recordId, position, watchedSeconds, LocalDateTime.now()));
+        for (AdImpression impression : impressions) {
+            events.add(new JournalEvent.AdWatched(impression.videoAdsId(), impression.userId(),
+                    impression.ipAddress(), impression.viewCounted(), impression.watchedAt()));
+        }
+        // 재생 중단과 광고 시청을 한 번의 fsync로
+        journal.append(events);
+        return true;
+    }
+}
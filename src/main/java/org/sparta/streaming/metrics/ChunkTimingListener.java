@@ -0,0 +1,65 @@
+// ========================================
+// ChunkTimingListener.java (배치 chunk 처리 시간)
+// ========================================
+package org.sparta.streaming.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chunk 하나(읽기 + 처리 + 쓰기 + 커밋)의 시간을 step별 batch.chunk 타이머로 기록
+ * 파티션 step처럼 여러 스레드에서 돌아도 되도록 시작 시각은 chunk마다 만들어지는 ChunkContext 속성에 보관
+ * 파티션 worker는 파티션 이름을 뗀 step 이름 하나로 모은다
+ */
+@Component
+public class ChunkTimingListener implements ChunkListener {
+
+    private static final String STARTED_AT = ChunkTimingListener.class.getName() + ".startedAt";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public ChunkTimingListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        record(successTimers, context, "success");
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        record(errorTimers, context, "error");
+    }
+
+    private void record(Map<String, Timer> timers, ChunkContext context, String outcome) {
+        if (!(context.removeAttribute(STARTED_AT) instanceof Long startedAt)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        String stepName = PartitionThroughputListener.stepName(context.getStepContext().getStepName());
+        Timer timer = timers.get(stepName);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(stepName, key -> Timer.builder("batch.chunk")
+                    .description("chunk 처리 시간 (읽기 + 처리 + 쓰기 + 커밋)")
+                    .tag("step", key)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,68 @@
+// ========================================
+// MetricsConfig.java (지표 설정)
+// ========================================
+package org.sparta.streaming.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * /actuator/metrics, /actuator/prometheus (prometheus는 management.server.port로 들어온 요청만 인증 없이 허용)
+ * - http.server.requests         : API별 응답 시간 (play, stop, update-position, 통계, 정산 ...)
+ * - streaming.request.sql.statements : API별 요청당 SQL 수
+ * - hikaricp.connections.acquire : 커넥션 대기 시간 (스프링 부트 자동 등록)
+ * - batch.chunk                  : step별 chunk 처리 시간
+ * - streaming.*                  : 큐 깊이, 버퍼, 캐시, 저널 (StreamingMetricsBinder)
+ *
+ * 지연 시간 지표는 p50/p99/p999와 Prometheus 히스토그램 버킷을 함께 내보낸다.
+ * 백분위는 미리 잡아둔 링 버퍼 히스토그램에 기록되므로 기록할 때 객체를 만들지 않는다.
+ * MeterFilter는 레지스트리 생성 시 적용되므로 static으로 등록 (이 설정 클래스는 레지스트리를 주입받음)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private static final Set<String> LATENCY_METERS = Set.of(
+            "http.server.requests",
+            "hikaricp.connections.acquire",
+            "batch.chunk"
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @Bean
+    public static MeterFilter latencyPercentilesFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!LATENCY_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.99, 0.999)
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(60).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, sqlStatementCounter))
+                .addPathPatterns("/api/**");
+    }
+}
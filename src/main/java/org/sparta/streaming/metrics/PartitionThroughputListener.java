@@ -0,0 +1,76 @@
+// ========================================
+// PartitionThroughputListener.java (배치 파티션별 처리량)
+// ========================================
+package org.sparta.streaming.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.batch.MultiRowInsertItemWriter;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파티션 worker step 하나가 끝날 때 처리 시간과 초당 처리 건수를 남긴다.
+ * 태그에는 파티션 이름(":partition3")을 빼고 step 이름만 써서 gridSize와 무관하게 시계열 수를 고정한다.
+ * 파티션별 값은 로그와 배치 메타 테이블(BATCH_STEP_EXECUTION)에 남는다.
+ */
+@Slf4j
+@Component
+public class PartitionThroughputListener implements StepExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> durations = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> throughputs = new ConcurrentHashMap<>();
+
+    public PartitionThroughputListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        if (startTime == null) {
+            return null;
+        }
+        Duration elapsed = Duration.between(startTime, LocalDateTime.now());
+        String stepName = stepName(stepExecution.getStepName());
+        long items = stepExecution.getWriteCount();
+        double perSecond = items * 1000.0 / Math.max(1, elapsed.toMillis());
+
+        durations.computeIfAbsent(stepName, key -> Timer.builder("batch.partition")
+                        .description("파티션 하나의 처리 시간")
+                        .tag("step", key)
+                        .register(meterRegistry))
+                .record(elapsed);
+        throughputs.computeIfAbsent(stepName, key -> DistributionSummary.builder("batch.partition.throughput")
+                        .description("파티션 하나의 초당 쓰기 건수")
+                        .baseUnit("items/s")
+                        .tag("step", key)
+                        .register(meterRegistry))
+                .record(perSecond);
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        log.info("파티션 완료: step={}, status={}, read={}, write={} (inserted={}, updated={}), elapsed={}ms, {}/s",
+                stepExecution.getStepName(), stepExecution.getStatus(),
+                stepExecution.getReadCount(), items,
+                context.getLong(MultiRowInsertItemWriter.INSERTED_KEY, 0),
+                context.getLong(MultiRowInsertItemWriter.UPDATED_KEY, 0),
+                elapsed.toMillis(), String.format("%.1f", perSecond));
+        return null;
+    }
+
+    static String stepName(String name) {
+        int partitionSeparator = name.indexOf(':');
+        return partitionSeparator < 0 ? name : name.substring(0, partitionSeparator);
+    }
+}
@@ -0,0 +1,55 @@
+// ========================================
+// RequestMetricsInterceptor.java (요청당 SQL 수 기록)
+// ========================================
+package org.sparta.streaming.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청마다 실행된 SQL 수를 URI 패턴별 분포(streaming.request.sql.statements)로 기록
+ * 응답 시간은 스프링이 기록하는 http.server.requests를 그대로 사용한다. (MetricsConfig에서 백분위 설정)
+ * 미터는 패턴별로 한 번만 만들어 두고 재사용 (요청 경로에서 builder를 만들지 않음)
+ */
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementCounter sqlStatementCounter;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, SqlStatementCounter sqlStatementCounter) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementCounter = sqlStatementCounter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlStatementCounter.begin(request);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = sqlStatementCounter.end(request);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary summary = summaries.get(uri);
+        if (summary == null) {
+            summary = summaries.computeIfAbsent(uri, key -> DistributionSummary.builder("streaming.request.sql.statements")
+                    .description("요청당 실행된 SQL 수")
+                    .tag("uri", key)
+                    .register(meterRegistry));
+        }
+        summary.record(statements);
+    }
+}
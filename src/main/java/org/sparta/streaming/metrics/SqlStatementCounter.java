@@ -0,0 +1,52 @@
+// ========================================
+// SqlStatementCounter.java (요청당 SQL 실행 수)
+// ========================================
+package org.sparta.streaming.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.sql.SQLException;
+
+/**
+ * p6spy 이벤트 리스너 (p6spy-spring-boot-starter가 빈을 찾아 등록)
+ * begin() ~ end() 사이에 그 요청을 처리하는 스레드에서 실행된 SQL 수를 센다. batch 실행은 1회로 센다.
+ * 카운터는 요청 속성에 두므로 요청이 끝나면 같이 사라진다. (가상 스레드마다 ThreadLocal 항목을 만들지 않음)
+ * 요청 밖(배치, 스케줄러)에서 실행된 SQL은 세지 않는다.
+ */
+@Component
+public class SqlStatementCounter extends SimpleJdbcEventListener {
+
+    private static final String ATTRIBUTE = SqlStatementCounter.class.getName();
+
+    public void begin(HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE, new Count());
+    }
+
+    /**
+     * @return begin() 이후 실행된 SQL 수
+     */
+    public int end(HttpServletRequest request) {
+        Object count = request.getAttribute(ATTRIBUTE);
+        request.removeAttribute(ATTRIBUTE);
+        return count instanceof Count c ? c.statements : 0;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        // DispatcherServlet이 요청 스레드에 묶어 둔 요청 속성
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Count count) {
+            count.statements++;
+        }
+    }
+
+    private static final class Count {
+        private int statements;
+    }
+}
@@ -0,0 +1,155 @@
+// ========================================
+// StreamingMetricsBinder.java (큐 깊이/캐시/저널 지표)
+// ========================================
+package org.sparta.streaming.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.streaming.cache.PeriodResponseCache;
+import org.sparta.streaming.config.BoundedDataSource;
+import org.sparta.streaming.domain.ad.impression.AdImpressionPipeline;
+import org.sparta.streaming.domain.video.abuse.AbuseDetector;
+import org.sparta.streaming.domain.video.abuse.LocalAbuseDetector;
+import org.sparta.streaming.domain.video.abuse.RedisAbuseDetector;
+import org.sparta.streaming.domain.video.buffer.PositionWriteBuffer;
+import org.sparta.streaming.domain.video.cache.VideoMetadataCache;
+import org.sparta.streaming.domain.video.session.ActiveSessionRegistry;
+import org.sparta.streaming.journal.JournalReplayer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 큐, 버퍼, 캐시, 저널의 상태를 게이지/카운터로 노출
+ * 값은 스크레이프할 때 각 컴포넌트의 getter로 읽으므로 요청 경로에는 비용이 없다.
+ * 조건부 빈(저널, 로컬 어뷰징 감지, BoundedDataSource)은 있을 때만 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingMetricsBinder implements MeterBinder {
+
+    private final ObjectProvider<AdImpressionPipeline> adImpressionPipeline;
+    private final ObjectProvider<PositionWriteBuffer> positionWriteBuffer;
+    private final ObjectProvider<ActiveSessionRegistry> sessionRegistry;
+    private final ObjectProvider<VideoMetadataCache> videoMetadataCache;
+    private final ObjectProvider<PeriodResponseCache> periodResponseCache;
+    private final ObjectProvider<JournalReplayer> journalReplayer;
+    private final ObjectProvider<AbuseDetector> abuseDetector;
+    private final ObjectProvider<DataSource> dataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        adImpressionPipeline.ifAvailable(pipeline -> {
+            Gauge.builder("streaming.ad-impression.queue.depth", pipeline, AdImpressionPipeline::getQueueDepth)
+                    .description("비동기 광고 기록 큐에 쌓인 행 수")
+                    .register(registry);
+            FunctionCounter.builder("streaming.ad-impression.flushes", pipeline, AdImpressionPipeline::getFlushCount)
+                    .register(registry);
+            FunctionCounter.builder("streaming.ad-impression.flushed.rows", pipeline, AdImpressionPipeline::getFlushedRows)
+                    .register(registry);
+            FunctionCounter.builder("streaming.ad-impression.caller.writes", pipeline, AdImpressionPipeline::getCallerWrites)
+                    .description("큐가 가득 차 요청 스레드가 직접 쓴 횟수")
+                    .register(registry);
+            FunctionCounter.builder("streaming.ad-impression.write.failures", pipeline, AdImpressionPipeline::getFailedWrites)
+                    .description("광고 기록 적재 실패 횟수 (재시도 포함)")
+                    .register(registry);
+            FunctionCounter.builder("streaming.ad-impression.spilled.rows", pipeline, AdImpressionPipeline::getSpilledRows)
+                    .description("직접 기록에 실패해 소비 스레드 재시도로 넘긴 행 수")
+                    .register(registry);
+            Gauge.builder("streaming.ad-impression.spill.depth", pipeline, AdImpressionPipeline::getSpillDepth)
+                    .register(registry);
+            FunctionCounter.builder("streaming.ad-impression.dropped.rows", pipeline, AdImpressionPipeline::getDroppedRows)
+                    .description("종료 중 DB 실패로 기록하지 못한 행 수")
+                    .register(registry);
+            Gauge.builder("streaming.ad-impression.flush.max", pipeline,
+                            p -> p.getMaxFlushNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        });
+
+        positionWriteBuffer.ifAvailable(buffer ->
+                Gauge.builder("streaming.position-buffer.size", buffer, PositionWriteBuffer::size)
+                        .description("아직 반영되지 않은 위치 수")
+                        .register(registry));
+
+        sessionRegistry.ifAvailable(sessions ->
+                Gauge.builder("streaming.sessions.active", sessions, ActiveSessionRegistry::size)
+                        .register(registry));
+
+        videoMetadataCache.ifAvailable(cache -> {
+            FunctionCounter.builder("streaming.video-cache.local.hits", cache, c -> c.getLocalStats().hitCount())
+                    .register(registry);
+            FunctionCounter.builder("streaming.video-cache.local.misses", cache, c -> c.getLocalStats().missCount())
+                    .register(registry);
+            FunctionCounter.builder("streaming.video-cache.local.evictions", cache, c -> c.getLocalStats().evictionCount())
+                    .register(registry);
+            Gauge.builder("streaming.video-cache.local.size", cache, VideoMetadataCache::getLocalSize)
+                    .register(registry);
+            FunctionCounter.builder("streaming.video-cache.remote.hits", cache, VideoMetadataCache::getRemoteHits)
+                    .register(registry);
+            FunctionCounter.builder("streaming.video-cache.remote.misses", cache, VideoMetadataCache::getRemoteMisses)
+                    .register(registry);
+            FunctionCounter.builder("streaming.video-cache.remote.errors", cache, VideoMetadataCache::getRemoteErrors)
+                    .register(registry);
+        });
+
+        periodResponseCache.ifAvailable(cache -> {
+            FunctionCounter.builder("streaming.response-cache.hits", cache, c -> c.getStats().hitCount())
+                    .register(registry);
+            FunctionCounter.builder("streaming.response-cache.misses", cache, c -> c.getStats().missCount())
+                    .register(registry);
+            FunctionCounter.builder("streaming.response-cache.evictions", cache, c -> c.getStats().evictionCount())
+                    .register(registry);
+            Gauge.builder("streaming.response-cache.size", cache, PeriodResponseCache::getSize)
+                    .register(registry);
+        });
+
+        journalReplayer.ifAvailable(replayer -> {
+            Gauge.builder("streaming.journal.lag", replayer, JournalReplayer::getLag)
+                    .description("저널에는 있지만 DB에 반영되지 않은 이벤트 수")
+                    .register(registry);
+            Gauge.builder("streaming.journal.checkpoint", replayer, JournalReplayer::getCheckpoint)
+                    .register(registry);
+        });
+
+        abuseDetector.ifAvailable(detector -> {
+            if (detector instanceof LocalAbuseDetector local) {
+                FunctionCounter.builder("streaming.abuse.dropped", local, LocalAbuseDetector::getDroppedCount)
+                        .register(registry);
+            }
+            if (detector instanceof RedisAbuseDetector redis) {
+                FunctionCounter.builder("streaming.abuse.redis.errors", redis, RedisAbuseDetector::getRedisErrors)
+                        .description("Redis 실패로 로컬 감지기가 대신 판단한 횟수")
+                        .register(registry);
+            }
+        });
+
+        dataSource.ifAvailable(ds -> {
+            BoundedDataSource bounded = unwrapBounded(ds);
+            if (bounded != null) {
+                Gauge.builder("streaming.datasource.permits.available", bounded, BoundedDataSource::getAvailablePermits)
+                        .register(registry);
+                Gauge.builder("streaming.datasource.permits.waiting", bounded, BoundedDataSource::getQueueLength)
+                        .description("커넥션 permit을 기다리는 스레드 수")
+                        .register(registry);
+            }
+        });
+    }
+
+    private static BoundedDataSource unwrapBounded(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(BoundedDataSource.class) ? dataSource.unwrap(BoundedDataSource.class) : null;
+        } catch (SQLException e) {
+            log.debug("BoundedDataSource 확인 실패", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+// ========================================
+// InMemoryRedisStore.java (테스트/로컬용 Redis 대체 구현)
+// ========================================
+package org.sparta.streaming.redis;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis 없이 동작하는 인메모리 구현
+ * 테스트와 단일 노드 로컬 실행용이며, TTL은 조회 시점에 검사한다.
+ * 같은 인스턴스를 공유하면 여러 노드 흉내를 낼 수 있다. (publish는 호출한 스레드에서 바로 전달)
+ */
+public class InMemoryRedisStore implements RedisStore {
+
+    private final Clock clock;
+    private final Map<String, Entry> values = new ConcurrentHashMap<>();
+    private final Map<String, SortedSetEntry> sortedSets = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public InMemoryRedisStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String setAndGet(String key, String value, long ttlSeconds) {
+        long now = clock.millis();
+        Entry previous = values.put(key, new Entry(value, now + ttlSeconds * 1000));
+        return previous != null && !previous.isExpired(now) ? previous.value() : null;
+    }
+
+    @Override
+    public String get(String key) {
+        Entry entry = values.get(key);
+        return entry != null && !entry.isExpired(clock.millis()) ? entry.value() : null;
+    }
+
+    @Override
+    public void set(String key, String value, long ttlSeconds) {
+        values.put(key, new Entry(value, clock.millis() + ttlSeconds * 1000));
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, String value, long ttlSeconds) {
+        long now = clock.millis();
+        Entry entry = new Entry(value, now + ttlSeconds * 1000);
+        return values.compute(key, (k, previous) -> previous == null || previous.isExpired(now) ? entry : previous)
+                == entry;
+    }
+
+    @Override
+    public void delete(String key) {
+        values.remove(key);
+    }
+
+    @Override
+    public void replaceSortedSet(String key, Map<String, Double> scores, long ttlSeconds) {
+        sortedSets.remove(key);
+        if (!scores.isEmpty()) {
+            sortedSets.put(key, new SortedSetEntry(Map.copyOf(scores), clock.millis() + ttlSeconds * 1000));
+        }
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        List<Consumer<String>> channelListeners = listeners.get(channel);
+        if (channelListeners != null) {
+            channelListeners.forEach(listener -> listener.accept(message));
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private record Entry(String value, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+
+    private record SortedSetEntry(Map<String, Double> scores, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,114 @@
+// ========================================
+// LettuceRedisStore.java (Lettuce 기반 구현)
+// ========================================
+package org.sparta.streaming.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Lettuce 단일 커넥션 기반 구현 (Lettuce 커넥션은 스레드 간 공유 가능)
+ * 구독은 전용 pub/sub 커넥션을 처음 subscribe 할 때 연다. (메시지는 Lettuce 이벤트 루프 스레드에서 전달)
+ */
+public class LettuceRedisStore implements RedisStore, AutoCloseable {
+
+    private final RedisClient redisClient;
+    private final StatefulRedisConnection<String, String> connection;
+    private final RedisCommands<String, String> commands;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private StatefulRedisPubSubConnection<String, String> pubSubConnection;
+
+    public LettuceRedisStore(RedisClient redisClient) {
+        this.redisClient = redisClient;
+        this.connection = redisClient.connect();
+        this.commands = connection.sync();
+    }
+
+    @Override
+    public String setAndGet(String key, String value, long ttlSeconds) {
+        return commands.setGet(key, value, SetArgs.Builder.ex(ttlSeconds));
+    }
+
+    @Override
+    public String get(String key) {
+        return commands.get(key);
+    }
+
+    @Override
+    public void set(String key, String value, long ttlSeconds) {
+        commands.setex(key, ttlSeconds, value);
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, String value, long ttlSeconds) {
+        return "OK".equals(commands.set(key, value, SetArgs.Builder.nx().ex(ttlSeconds)));
+    }
+
+    @Override
+    public void delete(String key) {
+        commands.del(key);
+    }
+
+    @Override
+    public void replaceSortedSet(String key, Map<String, Double> scores, long ttlSeconds) {
+        if (scores.isEmpty()) {
+            commands.del(key);
+            return;
+        }
+        // 읽는 쪽이 반쯤 채워진 집합을 보지 않도록 임시 키에 만든 뒤 RENAME
+        String tempKey = key + ":tmp";
+        commands.del(tempKey);
+        @SuppressWarnings("unchecked")
+        ScoredValue<String>[] values = scores.entrySet().stream()
+                .map(entry -> ScoredValue.just(entry.getValue(), entry.getKey()))
+                .toArray(ScoredValue[]::new);
+        commands.zadd(tempKey, values);
+        commands.expire(tempKey, ttlSeconds);
+        commands.rename(tempKey, key);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        commands.publish(channel, message);
+    }
+
+    @Override
+    public synchronized void subscribe(String channel, Consumer<String> listener) {
+        if (pubSubConnection == null) {
+            pubSubConnection = redisClient.connectPubSub();
+            pubSubConnection.addListener(new RedisPubSubAdapter<>() {
+                @Override
+                public void message(String channel, String message) {
+                    List<Consumer<String>> channelListeners = listeners.get(channel);
+                    if (channelListeners != null) {
+                        channelListeners.forEach(consumer -> consumer.accept(message));
+                    }
+                }
+            });
+        }
+        boolean firstListener = !listeners.containsKey(channel);
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+        if (firstListener) {
+            pubSubConnection.sync().subscribe(channel);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (pubSubConnection != null) {
+            pubSubConnection.close();
+        }
+        connection.close();
+    }
+}
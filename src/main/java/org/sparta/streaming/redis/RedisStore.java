@@ -0,0 +1,58 @@
+// ========================================
+// RedisStore.java (Redis 접근 추상화)
+// ========================================
+package org.sparta.streaming.redis;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 서비스에서 사용하는 Redis 명령만 모아둔 인터페이스
+ * 운영은 Lettuce 구현, 테스트/로컬은 인메모리 구현을 사용한다.
+ */
+public interface RedisStore {
+
+    /**
+     * 값을 TTL과 함께 저장하고 이전 값을 반환 (SET key value EX ttl GET)
+     * @return 이전 값 (없거나 만료되었으면 null)
+     */
+    String setAndGet(String key, String value, long ttlSeconds);
+
+    /**
+     * 값 조회 (GET key)
+     * @return 값 (없거나 만료되었으면 null)
+     */
+    String get(String key);
+
+    /**
+     * 값을 TTL과 함께 저장 (SET key value EX ttl)
+     */
+    void set(String key, String value, long ttlSeconds);
+
+    /**
+     * 키가 없을 때만 TTL과 함께 저장 (SET key value NX EX ttl)
+     * @return 저장했으면 true
+     */
+    boolean setIfAbsent(String key, String value, long ttlSeconds);
+
+    /**
+     * 키 삭제 (DEL key)
+     */
+    void delete(String key);
+
+    /**
+     * 정렬 집합을 통째로 교체 (임시 키에 ZADD 후 RENAME, 비어 있으면 DEL)
+     * @param scores member → score
+     */
+    void replaceSortedSet(String key, Map<String, Double> scores, long ttlSeconds);
+
+    /**
+     * 채널에 메시지 발행 (PUBLISH channel message)
+     */
+    void publish(String channel, String message);
+
+    /**
+     * 채널 구독 (SUBSCRIBE channel), 메시지는 별도 스레드에서 전달될 수 있다.
+     */
+    void subscribe(String channel, Consumer<String> listener);
+}
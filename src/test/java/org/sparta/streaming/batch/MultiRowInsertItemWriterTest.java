@@ -0,0 +1,122 @@
+package org.sparta.streaming.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiRowInsertItemWriterTest {
+
+    private final List<String> statements = new ArrayList<>();
+    // 문장마다 돌려줄 영향 행 수 (INSERT 1, 덮어쓰기 2)
+    private final List<Integer> affectedRows = new ArrayList<>();
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+        @Override
+        public int update(String sql, Object... args) {
+            statements.add(sql);
+            return affectedRows.remove(0);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    @DisplayName("chunk를 문장당 행 수로 나눠 multi-row UPSERT")
+    void splitsChunk() {
+        MultiRowInsertItemWriter<int[]> writer = writer(2);
+        affectedRows.addAll(List.of(2, 1));
+
+        writer.write(Chunk.of(new int[]{1, 10}, new int[]{2, 20}, new int[]{3, 30}));
+
+        assertThat(statements).containsExactly(
+                "INSERT INTO t (id, v) VALUES (?, ?), (?, ?) AS incoming ON DUPLICATE KEY UPDATE v = incoming.v",
+                "INSERT INTO t (id, v) VALUES (?, ?) AS incoming ON DUPLICATE KEY UPDATE v = incoming.v");
+    }
+
+    @Test
+    @DisplayName("영향 행 수로 새로 넣은 행과 덮어쓴 행을 세어 step 컨텍스트에 누적")
+    void recordsInsertedAndUpdated() {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        StepSynchronizationManager.register(stepExecution);
+        MultiRowInsertItemWriter<int[]> writer = writer(3);
+        // 3행 중 1행 덮어쓰기 → 1 + 1 + 2, 이어서 1행 덮어쓰기
+        affectedRows.addAll(List.of(4, 2));
+
+        writer.write(Chunk.of(new int[]{1, 10}, new int[]{2, 20}, new int[]{3, 30}));
+        writer.write(Chunk.of(new int[]{3, 31}));
+
+        assertThat(stepExecution.getExecutionContext().getLong(MultiRowInsertItemWriter.INSERTED_KEY)).isEqualTo(2);
+        assertThat(stepExecution.getExecutionContext().getLong(MultiRowInsertItemWriter.UPDATED_KEY)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("덮어쓸 컬럼이 없으면 INSERT만 하고 모든 행을 새로 넣은 행으로 센다")
+    void insertOnlyCountsEveryRowAsInserted() {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        StepSynchronizationManager.register(stepExecution);
+        MultiRowInsertItemWriter<int[]> writer = new MultiRowInsertItemWriter<>(jdbcTemplate, "t",
+                List.of("id", "v"), 2, (row, args, i) -> {
+                    args[i] = row[0];
+                    args[i + 1] = row[1];
+                });
+        affectedRows.addAll(List.of(2, 1));
+
+        writer.write(Chunk.of(new int[]{1, 10}, new int[]{2, 20}, new int[]{3, 30}));
+
+        assertThat(statements).containsExactly(
+                "INSERT INTO t (id, v) VALUES (?, ?), (?, ?)",
+                "INSERT INTO t (id, v) VALUES (?, ?)");
+        assertThat(stepExecution.getExecutionContext().getLong(MultiRowInsertItemWriter.INSERTED_KEY)).isEqualTo(3);
+        assertThat(stepExecution.getExecutionContext().getLong(MultiRowInsertItemWriter.UPDATED_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("값이 같아 바뀌지 않은 행(영향 행 0)이 있어도 덮어쓴 행 수는 음수가 되지 않는다")
+    void unchangedRowsNeverCountNegative() {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        StepSynchronizationManager.register(stepExecution);
+        MultiRowInsertItemWriter<int[]> writer = writer(3);
+        // 3행 모두 같은 값 → 영향 행 0
+        affectedRows.add(0);
+
+        writer.write(Chunk.of(new int[]{1, 10}, new int[]{2, 20}, new int[]{3, 30}));
+
+        assertThat(stepExecution.getExecutionContext().getLong(MultiRowInsertItemWriter.INSERTED_KEY)).isEqualTo(3);
+        assertThat(stepExecution.getExecutionContext().getLong(MultiRowInsertItemWriter.UPDATED_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 생성 시점에 거부")
+    void rejectsInvalidConfiguration() {
+        MultiRowInsertItemWriter.RowBinder<int[]> binder = (row, args, i) -> args[i] = row[0];
+
+        assertThatThrownBy(() -> new MultiRowInsertItemWriter<>(jdbcTemplate, "t", List.of(), 10, binder))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MultiRowInsertItemWriter<>(jdbcTemplate, "t", List.of("id"), 0, binder))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MultiRowInsertItemWriter<>(jdbcTemplate, "t", List.of("id"), List.of("v"), 10, binder))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MultiRowInsertItemWriter<int[]> writer(int rowsPerStatement) {
+        return new MultiRowInsertItemWriter<>(jdbcTemplate, "t", List.of("id", "v"), List.of("v"),
+                rowsPerStatement, (row, args, i) -> {
+                    args[i] = row[0];
+                    args[i + 1] = row[1];
+                });
+    }
+}
@@ -0,0 +1,49 @@
+package org.sparta.streaming.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VideoIdRangePartitionerTest {
+
+    @Test
+    @DisplayName("구간은 겹치지 않고 빈틈없이 [min, max]를 덮는다")
+    void coversRangeWithoutOverlap() {
+        Map<String, ExecutionContext> partitions = VideoIdRangePartitioner.split(3, 1002, 4);
+
+        List<long[]> ranges = new ArrayList<>();
+        partitions.values().forEach(context -> ranges.add(new long[]{
+                context.getLong(VideoIdRangePartitioner.MIN_VIDEO_ID),
+                context.getLong(VideoIdRangePartitioner.MAX_VIDEO_ID)}));
+
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.get(0)[0]).isEqualTo(3);
+        assertThat(ranges.get(ranges.size() - 1)[1]).isEqualTo(1002);
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i)[0]).isEqualTo(ranges.get(i - 1)[1] + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("동영상 수가 파티션 수보다 적으면 동영상 수만큼만 나눈다")
+    void fewerVideosThanGrid() {
+        assertThat(VideoIdRangePartitioner.split(10, 11, 8)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("동영상이 없으면 빈 구간 하나")
+    void noVideos() {
+        Map<String, ExecutionContext> partitions = VideoIdRangePartitioner.split(1, 0, 4);
+
+        assertThat(partitions).hasSize(1);
+        ExecutionContext context = partitions.get("partition0");
+        assertThat(context.getLong(VideoIdRangePartitioner.MIN_VIDEO_ID))
+                .isGreaterThan(context.getLong(VideoIdRangePartitioner.MAX_VIDEO_ID));
+    }
+}
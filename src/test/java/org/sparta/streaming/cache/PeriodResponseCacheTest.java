@@ -0,0 +1,130 @@
+package org.sparta.streaming.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.redis.InMemoryRedisStore;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeriodResponseCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 15);
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 5);
+    private static final LocalDate SUNDAY = LocalDate.of(2026, 10, 11);
+    private static final String JOB = "dailyStatisticsJob";
+
+    private final Clock clock = Clock.fixed(TODAY.atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant(),
+            ZoneId.of("Asia/Seoul"));
+    // 배치 노드와 API 노드가 같은 Redis, 같은 batch_watermarks를 공유 (어제까지 완료)
+    private final InMemoryRedisStore redis = new InMemoryRedisStore(Clock.systemUTC());
+    private final Map<String, LocalDate> completed = new HashMap<>(Map.of(JOB, TODAY.minusDays(1)));
+    private final PeriodResponseCache api = newCache(redis);
+    private final PeriodResponseCache batch = newCache(redis);
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private List<Integer> table = List.of(1, 2, 3);
+    private final Supplier<Object> loader = () -> {
+        loads.incrementAndGet();
+        return table;
+    };
+
+    @Test
+    @DisplayName("닫힌 기간은 한 번만 조회하고 같은 바이트와 ETag를 돌려준다")
+    void closedPeriodIsCached() {
+        ResponseEntity<byte[]> first = api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        ResponseEntity<byte[]> second = api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(new String(second.getBody(), StandardCharsets.UTF_8)).isEqualTo("[1,2,3]");
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag()).startsWith("\"");
+        assertThat(second.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL)).contains("max-age=60");
+    }
+
+    @Test
+    @DisplayName("권한이 필요한 응답이라 공유 캐시에 저장하지 않도록 private, Vary: Authorization")
+    void closedPeriodIsPrivate() {
+        ResponseEntity<byte[]> response = api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+
+        assertThat(response.getHeaders().getCacheControl())
+                .isEqualTo("max-age=60, must-revalidate, private");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.AUTHORIZATION);
+    }
+
+    @Test
+    @DisplayName("진행 중인 기간은 캐시하지 않고 ETag도 붙이지 않는다")
+    void openPeriodIsNotCached() {
+        api.respond(JOB, "weekly", LocalDate.of(2026, 10, 12), LocalDate.of(2026, 10, 18), loader);
+        ResponseEntity<byte[]> response = api.respond(JOB, "weekly", LocalDate.of(2026, 10, 12),
+                LocalDate.of(2026, 10, 18), loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    @DisplayName("배치 노드의 날짜 무효화는 그 날짜를 포함하는 기간만 비운다")
+    void invalidationByDate() {
+        ResponseEntity<byte[]> before = api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        api.respond(JOB, "daily", SUNDAY.plusDays(1), SUNDAY.plusDays(1), loader);
+
+        table = List.of(3, 2, 1);
+        batch.invalidate(LocalDate.of(2026, 10, 8));
+
+        ResponseEntity<byte[]> after = api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        api.respond(JOB, "daily", SUNDAY.plusDays(1), SUNDAY.plusDays(1), loader);
+
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(new String(after.getBody(), StandardCharsets.UTF_8)).isEqualTo("[3,2,1]");
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("지난 기간이어도 Job이 마지막 날까지 완료되기 전에는 캐시하지 않는다")
+    void periodIsClosedOnlyAfterBatch() {
+        completed.put(JOB, SUNDAY.minusDays(1));
+
+        ResponseEntity<byte[]> before = api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(before.getHeaders().getETag()).isNull();
+
+        // 배치 노드: 일요일 Job 완료 → 기준일 갱신 후 무효화 (API 노드는 기준일을 다시 읽는다)
+        completed.put(JOB, SUNDAY);
+        batch.invalidate(SUNDAY);
+
+        api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        ResponseEntity<byte[]> after = api.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(after.getHeaders().getETag()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("무효화를 받을 Redis가 없으면 캐시하지 않는다")
+    void disabledWithoutRedis() {
+        PeriodResponseCache local = newCache(null);
+
+        local.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+        ResponseEntity<byte[]> response = local.respond(JOB, "weekly", MONDAY, SUNDAY, loader);
+
+        assertThat(local.isEnabled()).isFalse();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    private PeriodResponseCache newCache(InMemoryRedisStore redisStore) {
+        return new PeriodResponseCache(new ObjectMapper(), redisStore, completed::get, clock, 1 << 20, 3600, 60, 30);
+    }
+}
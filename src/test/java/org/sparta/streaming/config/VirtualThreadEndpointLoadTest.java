@@ -0,0 +1,108 @@
+package org.sparta.streaming.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.sparta.streaming.StreamingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 엔드포인트로 가상 스레드 모드 전/후 처리량 비교
+ * streaming 프로필 앱을 플랫폼 스레드 모드, 가상 스레드 모드로 차례로 띄워 같은 부하를 보낸다.
+ * 요청: GET /api/videos (인증 없음, 매번 JDBC 조회), 동시 클라이언트 CONCURRENCY개
+ *
+ * docker compose up -d mysql 후 앱 실행과 같은 환경 변수(SPRING_DATASOURCE_URL 등)를 주고
+ * ./gradlew loadTest 로 실행한다. 결과는 테스트 리포트의 platform / virtual 항목
+ */
+@Tag("load")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class VirtualThreadEndpointLoadTest {
+
+    private static final String PATH = "/api/videos";
+    private static final int CONCURRENCY = 1000;
+    private static final int REQUESTS = 20_000;
+    private static final int WARMUP_REQUESTS = 1_000;
+
+    @Test
+    @DisplayName("GET /api/videos 처리량: 플랫폼 스레드 vs 가상 스레드 + 풀 크기 가드")
+    void compareEndpointThroughput(TestReporter reporter) throws Exception {
+        Result platform = measure(false);
+        Result virtual = measure(true);
+
+        reporter.publishEntry("platform", platform.describe());
+        reporter.publishEntry("virtual", virtual.describe());
+
+        assertThat(platform.failures()).isZero();
+        // 가드가 커넥션 요청을 풀 크기로 줄 세우므로 몰려도 connectionTimeout으로 실패하지 않는다
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private Result measure(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(StreamingApplication.class)
+                .profiles("streaming")
+                .properties("server.port=0", "streaming.virtual-threads.enabled=" + virtualThreads)
+                .run()) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+            send(uri, WARMUP_REQUESTS);
+            return send(uri, REQUESTS);
+        }
+    }
+
+    private Result send(URI uri, int requests) throws Exception {
+        AtomicInteger remaining = new AtomicInteger(requests);
+        AtomicInteger failures = new AtomicInteger();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        long started = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        return new Result(requests, requests / seconds, failures.get());
+    }
+
+    private record Result(int requests, double throughput, int failures) {
+
+        String describe() {
+            return String.format("%d건, %.0f req/s, 실패 %d", requests, throughput, failures);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.sparta.streaming.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 풀(Tomcat 기본 200) vs 가상 스레드 처리량 비교
+ * 요청 하나 = 외부 대기 50ms + 커넥션을 잡고 1ms (풀 크기 10)
+ * 가상 스레드는 풀 크기 가드(BoundedDataSource) 없이/있이 각각 실행해 가드가 하는 일을 확인한다.
+ * 가드와 풀의 대기 시간은 운영과 같이 하나의 값(Hikari connectionTimeout)을 쓴다.
+ * 실제 엔드포인트 비교는 VirtualThreadEndpointLoadTest
+ * ./gradlew loadTest
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int REQUESTS = 4000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    // Hikari connectionTimeout 기본값 (운영에서는 가드도 이 값을 그대로 씀)
+    private static final long CONNECTION_TIMEOUT_MILLIS = 30_000;
+    private static final int FAIRNESS_WAITERS = 20;
+    private static final long OUTSIDE_DB_MILLIS = 50;
+    private static final long INSIDE_DB_MILLIS = 1;
+
+    @Test
+    @DisplayName("블로킹 요청 처리량: 가상 스레드 + 풀 크기 가드가 플랫폼 스레드 풀보다 높고, 풀 안의 대기는 풀 크기 이하")
+    void compareThroughput(TestReporter reporter) throws Exception {
+        FakePool platformPool = new FakePool(POOL_SIZE, CONNECTION_TIMEOUT_MILLIS);
+        Result platform = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), platformPool.dataSource());
+
+        FakePool unguardedPool = new FakePool(POOL_SIZE, CONNECTION_TIMEOUT_MILLIS);
+        Result unguarded = run(Executors.newVirtualThreadPerTaskExecutor(), unguardedPool.dataSource());
+
+        FakePool guardedPool = new FakePool(POOL_SIZE, CONNECTION_TIMEOUT_MILLIS);
+        DataSource guarded = new BoundedDataSource(guardedPool.dataSource(), POOL_SIZE, CONNECTION_TIMEOUT_MILLIS);
+        Result virtual = run(Executors.newVirtualThreadPerTaskExecutor(), guarded);
+
+        reporter.publishEntry("platform", platform.describe() + ", 풀 안 최대 대기 " + platformPool.maxWaiting());
+        reporter.publishEntry("virtual-unguarded", unguarded.describe() + ", 풀 안 최대 대기 " + unguardedPool.maxWaiting());
+        reporter.publishEntry("virtual-guarded", virtual.describe() + ", 풀 안 최대 대기 " + guardedPool.maxWaiting());
+
+        // 같은 대기 시간이면 모두 실패 없이 끝난다
+        assertThat(platform.failures()).isZero();
+        assertThat(unguarded.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        // 가드가 없으면 수천 개의 가상 스레드가 풀 안에서 동시에 기다린다
+        assertThat(unguardedPool.maxWaiting()).isGreaterThan(POOL_SIZE);
+        // 가드가 있으면 풀에 들어가는 호출이 풀 크기를 넘지 않고, 나머지는 가드의 공정한 대기열에서 기다린다
+        assertThat(guardedPool.maxWaiting()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+    }
+
+    @Test
+    @DisplayName("가드는 먼저 기다리기 시작한 요청에 먼저 커넥션을 준다")
+    void guardGrantsInArrivalOrder() throws Exception {
+        FakePool pool = new FakePool(1, CONNECTION_TIMEOUT_MILLIS);
+        BoundedDataSource guarded = new BoundedDataSource(pool.dataSource(), 1, CONNECTION_TIMEOUT_MILLIS);
+        List<Integer> granted = new CopyOnWriteArrayList<>();
+        List<Thread> waiters = new ArrayList<>(FAIRNESS_WAITERS);
+
+        Connection held = guarded.getConnection();
+        for (int i = 0; i < FAIRNESS_WAITERS; i++) {
+            int order = i;
+            waiters.add(Thread.ofVirtual().start(() -> {
+                try (Connection ignored = guarded.getConnection()) {
+                    granted.add(order);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            // 앞 요청이 대기열에 들어간 뒤 다음 요청을 보낸다
+            awaitQueueLength(guarded, i + 1);
+        }
+        held.close();
+        for (Thread waiter : waiters) {
+            waiter.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertThat(granted).containsExactlyElementsOf(IntStream.range(0, FAIRNESS_WAITERS).boxed().toList());
+        assertThat(pool.maxWaiting()).isEqualTo(1);
+    }
+
+    private static void awaitQueueLength(BoundedDataSource dataSource, int length) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (dataSource.getQueueLength() < length) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("대기열이 " + length + "이 되지 않았습니다.");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private Result run(ExecutorService executor, DataSource dataSource) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        long started = System.nanoTime();
+        try (executor) {
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        Thread.sleep(OUTSIDE_DB_MILLIS);
+                        try (Connection ignored = dataSource.getConnection()) {
+                            Thread.sleep(INSIDE_DB_MILLIS);
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        return new Result(REQUESTS / seconds, failures.get());
+    }
+
+    private record Result(double throughput, int failures) {
+
+        String describe() {
+            return String.format("%.0f req/s, 실패 %d", throughput, failures);
+        }
+    }
+
+    /**
+     * 크기가 정해진 커넥션 풀 흉내 (빈 커넥션이 없으면 timeout까지 대기 후 실패)
+     * getConnection 안에 동시에 들어와 있는 호출 수(대기 포함)의 최댓값을 센다.
+     */
+    private static class FakePool {
+        private final Semaphore available;
+        private final long timeoutMillis;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final AtomicInteger maxWaiting = new AtomicInteger();
+
+        FakePool(int size, long timeoutMillis) {
+            this.available = new Semaphore(size);
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        int maxWaiting() {
+            return maxWaiting.get();
+        }
+
+        DataSource dataSource() {
+            return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                    (proxy, method, args) -> {
+                        if (!"getConnection".equals(method.getName())) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        maxWaiting.accumulateAndGet(waiting.incrementAndGet(), Math::max);
+                        try {
+                            if (!available.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                                throw new SQLTransientConnectionException("connection timeout");
+                            }
+                        } finally {
+                            waiting.decrementAndGet();
+                        }
+                        return connection();
+                    });
+        }
+
+        private Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName())) {
+                            available.release();
+                        }
+                        return null;
+                    });
+        }
+    }
+}
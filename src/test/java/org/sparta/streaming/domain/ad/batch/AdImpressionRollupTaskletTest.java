@@ -0,0 +1,194 @@
+package org.sparta.streaming.domain.ad.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdImpressionRollupTaskletTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 10, 1);
+    private static final LocalDate DAY2 = DAY1.plusDays(1);
+    private static final LocalDate DAY3 = DAY1.plusDays(2);
+    private static final LocalDate DAY4 = DAY1.plusDays(3);
+
+    private static final String ON_DUPLICATE_KEY = "ON DUPLICATE KEY UPDATE";
+
+    // H2 MySQL 모드 (INSERT ... SELECT ... ON DUPLICATE KEY UPDATE, SELECT ... FOR UPDATE)
+    // H2는 ON DUPLICATE KEY UPDATE에서 SELECT 컬럼(r.x)을 읽지 못해, 같은 값을 넣는 컬럼의 VALUES()로 바꿔 실행
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+        @Override
+        public int update(String sql, Object... args) {
+            int at = sql.indexOf(ON_DUPLICATE_KEY);
+            if (at >= 0) {
+                sql = sql.substring(0, at) + sql.substring(at)
+                        .replace("r.impression_count", "VALUES(impression_count)");
+            }
+            return super.update(sql, args);
+        }
+    };
+    private final BatchWatermarks watermarks = new BatchWatermarks(jdbcTemplate);
+    private final AdImpressionRollupTasklet tasklet = new AdImpressionRollupTasklet(jdbcTemplate, watermarks);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE video_ads (
+                    video_ads_id INT PRIMARY KEY,
+                    video_id INT NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE ad_watch_history (
+                    record_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    video_ads_id INT NOT NULL,
+                    watched_at TIMESTAMP NOT NULL,
+                    view_counted BOOLEAN NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE daily_ad_impression_rollup (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    video_ads_id INT NOT NULL,
+                    video_id INT NOT NULL,
+                    watched_date DATE NOT NULL,
+                    ingested_date DATE NOT NULL,
+                    impression_count BIGINT NOT NULL,
+                    updated_at TIMESTAMP NOT NULL,
+                    CONSTRAINT uk_ad_rollup UNIQUE (video_ads_id, ingested_date, watched_date)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE batch_watermarks (
+                    name VARCHAR(100) PRIMARY KEY,
+                    as_of_date DATE,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+        jdbcTemplate.update("INSERT INTO video_ads VALUES (11, 1), (21, 2)");
+
+        // 광고 11: 매일 2건 (그중 1건은 조회수 제외) / 광고 21: 2일차에 1건
+        for (LocalDate day = DAY1; !day.isAfter(DAY4); day = day.plusDays(1)) {
+            impression(11, day, day, true);
+            impression(11, day, day, true);
+            impression(11, day, day, false);
+        }
+        impression(21, DAY2, DAY2, true);
+    }
+
+    @Test
+    @DisplayName("처음이면 전체 이력을 집계하고 기준일을 targetDate로")
+    void firstRunRollsUpAllHistory() {
+        run(DAY2);
+
+        assertThat(rollup()).containsExactly(
+                Map.entry("11 " + DAY1 + "/" + DAY1, 2L),
+                Map.entry("11 " + DAY2 + "/" + DAY2, 2L),
+                Map.entry("21 " + DAY2 + "/" + DAY2, 1L));
+        assertThat(watermarks.get(AdImpressionRollupTasklet.WATERMARK)).isEqualTo(DAY2);
+    }
+
+    @Test
+    @DisplayName("기준일이 밀려 있으면 기준일 다음 적재일부터 targetDate까지 한 번에 집계")
+    void catchesUpFromWatermark() {
+        watermarks.lock(AdImpressionRollupTasklet.WATERMARK);
+        watermarks.set(AdImpressionRollupTasklet.WATERMARK, DAY1);
+
+        run(DAY3);
+
+        // 1일차(이미 반영), 4일차(대상일 이후)는 읽지 않는다
+        assertThat(rollup()).containsExactly(
+                Map.entry("11 " + DAY2 + "/" + DAY2, 2L),
+                Map.entry("11 " + DAY3 + "/" + DAY3, 2L),
+                Map.entry("21 " + DAY2 + "/" + DAY2, 1L));
+        assertThat(watermarks.get(AdImpressionRollupTasklet.WATERMARK)).isEqualTo(DAY3);
+    }
+
+    @Test
+    @DisplayName("늦게 들어온 노출은 (적재일, 시청일) 행으로 따로 세고 예전 적재일 행은 그대로")
+    void keysByIngestedAndWatchedDate() {
+        run(DAY2);
+        // 2일차에 본 광고가 3일차에 기록됨
+        impression(11, DAY2, DAY3, true);
+
+        run(DAY3);
+
+        assertThat(rollup()).contains(
+                Map.entry("11 " + DAY2 + "/" + DAY2, 2L),
+                Map.entry("11 " + DAY3 + "/" + DAY2, 1L),
+                Map.entry("11 " + DAY3 + "/" + DAY3, 2L));
+    }
+
+    @Test
+    @DisplayName("이미 반영한 날을 다시 돌리면 그 적재일만 다시 세고 기준일은 되돌리지 않는다")
+    void rerunRollsUpOnlyTargetDay() {
+        run(DAY3);
+        Map<String, Long> once = rollup();
+
+        // 같은 날을 다시 돌려도 두 번 더하지 않는다
+        run(DAY3);
+        assertThat(rollup()).isEqualTo(once);
+
+        // 2일차, 3일차 적재분이 늘어난 뒤 2일차만 다시 집계
+        impression(11, DAY2, DAY2, true);
+        impression(11, DAY3, DAY3, true);
+        run(DAY2);
+
+        assertThat(rollup())
+                .containsEntry("11 " + DAY2 + "/" + DAY2, 3L)
+                .containsEntry("11 " + DAY3 + "/" + DAY3, 2L);
+        assertThat(watermarks.get(AdImpressionRollupTasklet.WATERMARK)).isEqualTo(DAY3);
+    }
+
+    @Test
+    @DisplayName("집계 시작 적재일: 처음이면 전체, 밀렸으면 기준일 다음 날, 재실행이면 그날")
+    void fromDate() {
+        assertThat(AdImpressionRollupTasklet.fromDate(null, DAY3)).isEqualTo(LocalDate.EPOCH);
+        assertThat(AdImpressionRollupTasklet.fromDate(DAY1, DAY3)).isEqualTo(DAY2);
+        assertThat(AdImpressionRollupTasklet.fromDate(DAY3, DAY3)).isEqualTo(DAY3);
+        assertThat(AdImpressionRollupTasklet.fromDate(DAY4, DAY2)).isEqualTo(DAY2);
+    }
+
+    private void run(LocalDate targetDate) {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution(new JobParametersBuilder()
+                .addLocalDate(BatchDates.TARGET_DATE, targetDate)
+                .toJobParameters());
+        tasklet.execute(new StepContribution(stepExecution), new ChunkContext(new StepContext(stepExecution)));
+    }
+
+    private void impression(int videoAdsId, LocalDate watched, LocalDate ingested, boolean viewCounted) {
+        jdbcTemplate.update(
+                "INSERT INTO ad_watch_history (video_ads_id, watched_at, view_counted, created_at) VALUES (?, ?, ?, ?)",
+                videoAdsId, watched.atTime(12, 0), viewCounted, ingested.atTime(12, 0));
+    }
+
+    // "video_ads_id 적재일/시청일" → 건수
+    private Map<String, Long> rollup() {
+        Map<String, Long> rows = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT video_ads_id, ingested_date, watched_date, impression_count FROM daily_ad_impression_rollup",
+                rs -> {
+                    rows.put(rs.getInt(1) + " " + rs.getDate(2).toLocalDate() + "/" + rs.getDate(3).toLocalDate(),
+                            rs.getLong(4));
+                });
+        return rows;
+    }
+}
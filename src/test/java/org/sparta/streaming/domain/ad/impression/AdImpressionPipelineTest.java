@@ -0,0 +1,159 @@
+package org.sparta.streaming.domain.ad.impression;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.config.WorkerThreads;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class AdImpressionPipelineTest {
+
+    private final FakeWriter writer = new FakeWriter();
+    private AdImpressionPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("batch-size만큼 모이면 linger를 기다리지 않고, 남은 건은 linger 뒤에 기록")
+    void flushByBatchSizeThenLinger() {
+        pipeline = newPipeline(100, 5, 1000);
+        pipeline.start();
+
+        pipeline.submit(impressions(12));
+
+        await(() -> writer.batchSizes().size() >= 2, 500);
+        assertThat(writer.batchSizes()).containsExactly(5, 5);
+
+        await(() -> writer.rows() == 12, 3000);
+        assertThat(writer.batchSizes()).containsExactly(5, 5, 2);
+    }
+
+    @Test
+    @DisplayName("batch-size보다 적으면 linger 시간 안에 한 번에 기록")
+    void flushByLinger() {
+        pipeline = newPipeline(100, 500, 30);
+        pipeline.start();
+
+        pipeline.submit(impressions(3));
+
+        await(() -> writer.rows() == 3, 2000);
+        assertThat(writer.batchSizes()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드가 나머지를 직접 기록")
+    void callerRunsWhenQueueIsFull() {
+        // 소비 스레드를 시작하지 않아 큐가 비지 않는다
+        pipeline = newPipeline(2, 500, 30);
+
+        pipeline.submit(impressions(5));
+
+        assertThat(pipeline.getQueueDepth()).isEqualTo(2);
+        assertThat(writer.batchSizes()).containsExactly(3);
+        assertThat(pipeline.getCallerWrites()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찬 상태에서 직접 기록도 실패하면 예외 없이 소비 스레드가 재시도")
+    void callerWriteFailureIsSpilled() {
+        pipeline = newPipeline(1, 500, 30);
+        writer.failures.set(1);
+
+        // 커밋 후 호출되므로 예외가 나가면 안 된다
+        assertThatCode(() -> pipeline.submit(impressions(3))).doesNotThrowAnyException();
+        assertThat(pipeline.getFailedWrites()).isEqualTo(1);
+        assertThat(pipeline.getSpilledRows()).isEqualTo(2);
+        assertThat(pipeline.getSpillDepth()).isEqualTo(2);
+
+        pipeline.start();
+
+        await(() -> writer.rows() == 3, 2000);
+        assertThat(pipeline.getSpillDepth()).isZero();
+        assertThat(pipeline.getDroppedRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 실패 중에도 버리지 않고 기록될 때까지 재시도")
+    void retriesUntilWritten() {
+        pipeline = newPipeline(100, 500, 30);
+        writer.failures.set(3);
+        pipeline.start();
+
+        pipeline.submit(impressions(4));
+
+        await(() -> writer.rows() == 4, 5000);
+        assertThat(writer.batchSizes()).containsExactly(4);
+        assertThat(pipeline.getFailedWrites()).isEqualTo(3);
+        assertThat(pipeline.getDroppedRows()).isZero();
+    }
+
+    private AdImpressionPipeline newPipeline(int queueCapacity, int batchSize, long lingerMillis) {
+        WorkerThreads workerThreads = new WorkerThreads(false, new MockEnvironment());
+        return new AdImpressionPipeline(writer, workerThreads, true, queueCapacity, batchSize, lingerMillis, 10);
+    }
+
+    private static List<AdImpression> impressions(int count) {
+        List<AdImpression> impressions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            impressions.add(new AdImpression(i, 7, "127.0.0.1", true, LocalDateTime.now()));
+        }
+        return impressions;
+    }
+
+    private static void await(BooleanSupplier condition, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError(timeoutMillis + "ms 안에 조건을 만족하지 않았습니다.");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    // 앞의 failures번은 실패하고, 성공한 batch 크기를 기록
+    private static class FakeWriter extends AdImpressionWriter {
+        private final AtomicInteger failures = new AtomicInteger();
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+        FakeWriter() {
+            super(null, 500);
+        }
+
+        @Override
+        public int write(List<AdImpression> impressions) {
+            if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new IllegalStateException("DB 장애");
+            }
+            batches.add(impressions.size());
+            return impressions.size();
+        }
+
+        List<Integer> batchSizes() {
+            return List.copyOf(batches);
+        }
+
+        int rows() {
+            return batches.stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.sparta.streaming.domain.ad.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdBreakIndexTest {
+
+    private final AdBreakIndex index = AdBreakIndex.of(List.of(
+            new AdBreak(11, 300),
+            new AdBreak(12, 600),
+            new AdBreak(13, 900)
+    ));
+
+    @Test
+    @DisplayName("(이전 위치, 현재 위치] 구간의 광고만 반환")
+    void passedBetween() {
+        assertThat(index.passedBetween(0, 299)).isEmpty();
+        assertThat(index.passedBetween(0, 300)).containsExactly(11);
+        assertThat(index.passedBetween(300, 600)).containsExactly(12);
+        assertThat(index.passedBetween(299, 901)).containsExactly(11, 12, 13);
+        assertThat(index.passedBetween(900, 1200)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("되감기는 광고 없음")
+    void rewind() {
+        assertThat(index.passedBetween(900, 100)).isEmpty();
+        assertThat(index.passedBetween(600, 600)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("광고 스케줄은 위치 오름차순, 정렬 안 된 입력은 거부")
+    void positions() {
+        assertThat(index.positions()).containsExactly(300, 600, 900);
+        assertThat(AdBreakIndex.of(List.of()).isEmpty()).isTrue();
+        assertThatThrownBy(() -> AdBreakIndex.of(List.of(new AdBreak(1, 600), new AdBreak(2, 300))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
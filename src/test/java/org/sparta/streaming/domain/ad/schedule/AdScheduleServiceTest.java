@@ -0,0 +1,214 @@
+package org.sparta.streaming.domain.ad.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.domain.ad.entity.Ad;
+import org.sparta.streaming.domain.ad.index.AdBreakIndexCache;
+import org.sparta.streaming.domain.ad.repository.AdRepository;
+import org.sparta.streaming.domain.video.entity.Video;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdScheduleServiceTest {
+
+    private static final int THREADS = 8;
+
+    // H2 MySQL 모드 (INSERT IGNORE, 유니크 제약은 운영 스키마와 같게)
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failNext = new AtomicBoolean();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+        @Override
+        public int update(String sql, Object... args) {
+            if (sql.startsWith("INSERT") && failNext.getAndSet(false)) {
+                throw new IllegalStateException("DB 장애");
+            }
+            if (sql.startsWith("INSERT")) {
+                statements.add(sql);
+            }
+            return super.update(sql, args);
+        }
+    };
+    private final AdRepository adRepository = mock(AdRepository.class);
+    private final AdBreakIndexCache adBreakIndexCache = mock(AdBreakIndexCache.class);
+    private final AdScheduleService service = new AdScheduleService(jdbcTemplate, adRepository, adBreakIndexCache,
+            300, 1000, 3600);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE video_ads (
+                    video_ads_id INT AUTO_INCREMENT PRIMARY KEY,
+                    video_id INT NOT NULL,
+                    ad_id INT NOT NULL,
+                    position_seconds INT NOT NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    CONSTRAINT uk_video_ads_position UNIQUE (video_id, position_seconds)
+                )
+                """);
+        Ad ad = mock(Ad.class);
+        when(ad.getAdId()).thenReturn(1);
+        when(adRepository.findFirstByOrderByAdIdAsc()).thenReturn(Optional.of(ad));
+    }
+
+    @Test
+    @DisplayName("간격마다 광고 지점, 영상 끝 지점은 제외")
+    void positions() {
+        assertThat(AdScheduleService.positions(300, 300)).isEmpty();
+        assertThat(AdScheduleService.positions(301, 300)).containsExactly(300);
+        assertThat(AdScheduleService.positions(600, 300)).containsExactly(300);
+        assertThat(AdScheduleService.positions(601, 300)).containsExactly(300, 600);
+        assertThat(AdScheduleService.positions(0, 300)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 재생 시 자동 등록과 같은 위치")
+    void sameAsLegacyLoop() {
+        for (int length = 0; length <= 3000; length += 7) {
+            int expected = 0;
+            for (int position = 300; position < length; position += 300) {
+                expected++;
+            }
+            assertThat(AdScheduleService.positions(length, 300)).hasSize(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("광고 지점은 개수와 관계없이 multi-row INSERT 한 문장으로 만든다")
+    void createScheduleIsOneStatement() {
+        int inserted = service.createSchedule(video(1, 3001));
+
+        assertThat(inserted).isEqualTo(10);
+        assertThat(statements).hasSize(1);
+        assertThat(positionsOf(1)).containsExactly(300, 600, 900, 1200, 1500, 1800, 2100, 2400, 2700, 3000);
+        verify(adBreakIndexCache).invalidate(1);
+    }
+
+    @Test
+    @DisplayName("동시에 여러 번 만들어도 INSERT IGNORE라 중복 행이 생기지 않는다")
+    void concurrentCreateIgnoresDuplicates() throws Exception {
+        List<Integer> inserted = runConcurrently(() -> service.createSchedule(video(1, 1201)));
+
+        assertThat(inserted.stream().mapToInt(Integer::intValue).sum()).isEqualTo(4);
+        assertThat(positionsOf(1)).containsExactly(300, 600, 900, 1200);
+    }
+
+    @Test
+    @DisplayName("예전 동영상 채우기는 동시 요청 중 하나만 INSERT하고 그 호출만 true")
+    void backfillIsSingleFlight() throws Exception {
+        List<Boolean> filled = runConcurrently(() -> service.backfillIfMissing(1, 1201, true));
+
+        assertThat(filled).containsOnlyOnce(true);
+        assertThat(statements).hasSize(1);
+        assertThat(positionsOf(1)).hasSize(4);
+
+        // 이미 시도한 동영상, 인덱스가 차 있는 동영상, 광고 간격보다 짧은 동영상은 INSERT하지 않는다
+        assertThat(service.backfillIfMissing(1, 1201, true)).isFalse();
+        assertThat(service.backfillIfMissing(2, 1201, false)).isFalse();
+        assertThat(service.backfillIfMissing(3, 300, true)).isFalse();
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("채우기가 실패하면 다음 재생에서 다시 시도한다")
+    void backfillRetriesAfterFailure() {
+        failNext.set(true);
+        assertThatThrownBy(() -> service.backfillIfMissing(1, 1201, true)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(service.backfillIfMissing(1, 1201, true)).isTrue();
+        assertThat(positionsOf(1)).hasSize(4);
+        verify(adBreakIndexCache, times(1)).invalidate(1);
+    }
+
+    @Test
+    @DisplayName("재생 트랜잭션이 롤백되면 다음 재생에서 다시 채운다")
+    void backfillRetriesAfterRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(service.backfillIfMissing(1, 1201, true)).isTrue();
+            jdbcTemplate.update("DELETE FROM video_ads");  // INSERT 롤백
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.backfillIfMissing(1, 1201, true)).isTrue();
+        assertThat(positionsOf(1)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("재생 트랜잭션이 커밋되면 다시 채우지 않는다")
+    void backfillNotRetriedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(service.backfillIfMissing(1, 1201, true)).isTrue();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.backfillIfMissing(1, 1201, true)).isFalse();
+        assertThat(statements).hasSize(1);
+        verify(adBreakIndexCache).invalidate(1);
+    }
+
+    private <T> List<T> runConcurrently(Supplier<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.get();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<Integer> positionsOf(int videoId) {
+        return jdbcTemplate.queryForList(
+                "SELECT position_seconds FROM video_ads WHERE video_id = ? ORDER BY position_seconds",
+                Integer.class, videoId);
+    }
+
+    private static Video video(int videoId, int lengthSeconds) {
+        Video video = mock(Video.class);
+        when(video.getVideoId()).thenReturn(videoId);
+        when(video.getVideoLengthSeconds()).thenReturn(lengthSeconds);
+        return video;
+    }
+}
@@ -0,0 +1,233 @@
+package org.sparta.streaming.domain.settlement.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.sparta.streaming.domain.ad.batch.AdImpressionRollupTasklet;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CumulativeTotalsTaskletTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 10, 1);
+    private static final LocalDate DAY5 = DAY1.plusDays(4);
+
+    private static final String ON_DUPLICATE_KEY = "ON DUPLICATE KEY UPDATE";
+
+    // H2 MySQL 모드 (INSERT ... SELECT ... ON DUPLICATE KEY UPDATE, SELECT ... FOR UPDATE)
+    // H2는 ON DUPLICATE KEY UPDATE에서 SELECT 컬럼(d.x)을 읽지 못해, 같은 값을 넣는 컬럼의 VALUES()로 바꿔 실행
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+        @Override
+        public int update(String sql, Object... args) {
+            int at = sql.indexOf(ON_DUPLICATE_KEY);
+            if (at >= 0) {
+                sql = sql.substring(0, at) + sql.substring(at)
+                        .replace("d.ad_views", "VALUES(day_ad_views)")
+                        .replace("d.views", "VALUES(day_views)");
+            }
+            return super.update(sql, args);
+        }
+    };
+    private final BatchWatermarks watermarks = new BatchWatermarks(jdbcTemplate);
+    private final CumulativeTotalsTasklet tasklet = new CumulativeTotalsTasklet(jdbcTemplate, watermarks);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE daily_video_statistics (
+                    video_id INT NOT NULL,
+                    stat_date DATE NOT NULL,
+                    view_count BIGINT NOT NULL,
+                    total_watch_seconds BIGINT NOT NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (video_id, stat_date)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE daily_ad_impression_rollup (
+                    video_ads_id INT NOT NULL,
+                    video_id INT NOT NULL,
+                    watched_date DATE NOT NULL,
+                    ingested_date DATE NOT NULL,
+                    impression_count BIGINT NOT NULL,
+                    updated_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (video_ads_id, ingested_date, watched_date)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE video_cumulative_totals (
+                    video_id INT PRIMARY KEY,
+                    total_views BIGINT NOT NULL,
+                    total_ad_views BIGINT NOT NULL,
+                    day_views BIGINT NOT NULL,
+                    day_ad_views BIGINT NOT NULL,
+                    as_of_date DATE NOT NULL,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE batch_watermarks (
+                    name VARCHAR(100) PRIMARY KEY,
+                    as_of_date DATE,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+
+        // 동영상 1: 매일 조회 10 + 광고 1 / 동영상 2: 2일차 조회만, 4일차 광고만 / 동영상 3: 5일차만
+        for (LocalDate day = DAY1; !day.isAfter(DAY5); day = day.plusDays(1)) {
+            stat(1, day, 10);
+            ad(11, 1, day, 1);
+        }
+        stat(2, DAY1.plusDays(1), 5);
+        ad(21, 2, DAY1.plusDays(3), 3);
+        stat(3, DAY5, 7);
+        ad(31, 3, DAY5, 2);
+
+        watermarks.lock(AdImpressionRollupTasklet.WATERMARK);
+        watermarks.set(AdImpressionRollupTasklet.WATERMARK, DAY5);
+    }
+
+    @Test
+    @DisplayName("INCREMENTAL: 기준일이 밀려 있으면 빠진 날짜를 하루씩 더해 targetDate까지")
+    void incrementalAdvancesMissedDays() {
+        run("INCREMENTAL", DAY1);  // 처음이면 전체 이력으로 생성
+        run("INCREMENTAL", DAY5);
+
+        assertThat(totals()).containsExactly(
+                Map.entry(1, "50/5"),
+                Map.entry(2, "5/3"),
+                Map.entry(3, "7/2"));
+        // 하루치 증가분은 마지막으로 활동한 날의 값
+        assertThat(dayTotals(1)).isEqualTo("10/1@" + DAY5);
+        assertThat(dayTotals(2)).isEqualTo("0/3@" + DAY1.plusDays(3));
+        assertThat(watermarks.get(CumulativeTotalsTasklet.WATERMARK)).isEqualTo(DAY5);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 날을 다시 돌리면 그날 분을 빼고 다시 더해 두 번 세지 않는다")
+    void rerunDoesNotDoubleCount() {
+        run("INCREMENTAL", DAY1);
+        run("INCREMENTAL", DAY5);
+        Map<Integer, String> once = totals();
+
+        run("INCREMENTAL", DAY5);
+        assertThat(totals()).isEqualTo(once);
+
+        // 5일차 통계를 다시 계산한 뒤 재실행하면 바뀐 값으로 바뀐다
+        jdbcTemplate.update("UPDATE daily_video_statistics SET view_count = 12 WHERE video_id = 1 AND stat_date = ?",
+                DAY5);
+        run("INCREMENTAL", DAY5);
+        assertThat(totals()).containsEntry(1, "52/5");
+        assertThat(dayTotals(1)).isEqualTo("12/1@" + DAY5);
+    }
+
+    @Test
+    @DisplayName("targetDate보다 뒤까지 반영돼 있으면 INCREMENTAL은 거부 (REBUILD 필요)")
+    void incrementalRejectsEarlierDate() {
+        run("INCREMENTAL", DAY5);
+
+        assertThatThrownBy(() -> run("INCREMENTAL", DAY1.plusDays(2)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("REBUILD 결과는 하루씩 더한 결과와 같다")
+    void rebuildMatchesIncremental() {
+        run("INCREMENTAL", DAY1);
+        for (LocalDate day = DAY1.plusDays(1); !day.isAfter(DAY5); day = day.plusDays(1)) {
+            run("INCREMENTAL", day);
+        }
+        Map<Integer, String> incremental = totals();
+
+        run("REBUILD", DAY5);
+
+        assertThat(totals()).isEqualTo(incremental);
+        assertThat(dayTotals(1)).isEqualTo("10/1@" + DAY5);
+        assertThat(dayTotals(2)).isEqualTo("0/0@" + DAY5);
+        assertThat(dayTotals(3)).isEqualTo("7/2@" + DAY5);
+        assertThat(watermarks.get(CumulativeTotalsTasklet.WATERMARK)).isEqualTo(DAY5);
+    }
+
+    @Test
+    @DisplayName("VERIFY: 이력과 같으면 VERIFIED, 어긋나면 실패하고 기준일은 그대로")
+    void verifyDetectsDrift() {
+        run("INCREMENTAL", DAY1);
+        run("INCREMENTAL", DAY5);
+
+        assertThat(run("VERIFY", DAY5).getExitStatus()).isEqualTo(CumulativeTotalsTasklet.VERIFIED);
+
+        jdbcTemplate.update("UPDATE video_cumulative_totals SET total_ad_views = total_ad_views + 1 WHERE video_id = 2");
+        assertThatThrownBy(() -> run("VERIFY", DAY5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("1건");
+
+        // 빠진 동영상도 어긋난 것으로 본다
+        jdbcTemplate.update("DELETE FROM video_cumulative_totals WHERE video_id = 2");
+        assertThatThrownBy(() -> run("VERIFY", DAY5))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(watermarks.get(CumulativeTotalsTasklet.WATERMARK)).isEqualTo(DAY5);
+    }
+
+    @Test
+    @DisplayName("광고 노출 집계가 targetDate까지 안 됐으면 반영하지 않는다")
+    void requiresAdRollup() {
+        watermarks.set(AdImpressionRollupTasklet.WATERMARK, DAY5.minusDays(1));
+
+        assertThatThrownBy(() -> run("INCREMENTAL", DAY5))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(totals()).isEmpty();
+    }
+
+    private StepContribution run(String mode, LocalDate targetDate) {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution(new JobParametersBuilder()
+                .addLocalDate(BatchDates.TARGET_DATE, targetDate)
+                .addString(CumulativeTotalsTasklet.MODE, mode)
+                .toJobParameters());
+        StepContribution contribution = new StepContribution(stepExecution);
+        tasklet.execute(contribution, new ChunkContext(new StepContext(stepExecution)));
+        return contribution;
+    }
+
+    private void stat(int videoId, LocalDate day, long views) {
+        jdbcTemplate.update("INSERT INTO daily_video_statistics VALUES (?, ?, ?, 0, NOW())", videoId, day, views);
+    }
+
+    private void ad(int videoAdsId, int videoId, LocalDate day, long impressions) {
+        jdbcTemplate.update("INSERT INTO daily_ad_impression_rollup VALUES (?, ?, ?, ?, ?, NOW())",
+                videoAdsId, videoId, day, day, impressions);
+    }
+
+    // video_id → "누적 조회수/누적 광고 조회수"
+    private Map<Integer, String> totals() {
+        Map<Integer, String> totals = new TreeMap<>();
+        jdbcTemplate.query("SELECT video_id, total_views, total_ad_views FROM video_cumulative_totals",
+                rs -> {
+                    totals.put(rs.getInt(1), rs.getLong(2) + "/" + rs.getLong(3));
+                });
+        return totals;
+    }
+
+    // "하루 조회수/하루 광고 조회수@반영일"
+    private String dayTotals(int videoId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT day_views, day_ad_views, as_of_date FROM video_cumulative_totals WHERE video_id = ?",
+                (rs, rowNum) -> rs.getLong(1) + "/" + rs.getLong(2) + "@" + rs.getDate(3).toLocalDate(), videoId);
+    }
+}
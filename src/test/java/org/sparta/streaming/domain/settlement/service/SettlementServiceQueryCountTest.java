@@ -0,0 +1,110 @@
+package org.sparta.streaming.domain.settlement.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.domain.settlement.dto.SettlementResponse;
+import org.sparta.streaming.domain.settlement.dto.VideoSettlementResponse;
+import org.sparta.streaming.domain.settlement.entity.DailyVideoSettlement;
+import org.sparta.streaming.domain.user.entity.User;
+import org.sparta.streaming.domain.video.entity.Video;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import(SettlementService.class)
+class SettlementServiceQueryCountTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 5);
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private final List<Video> videos = new ArrayList<>();
+
+    // 영상 10개 × 7일, 영상 i의 하루 정산: 동영상 i원 + 광고 1원
+    @BeforeEach
+    void setUp() {
+        User seller = em.persist(User.createSeller("seller@test.com", "pw", "판매자"));
+        for (int i = 1; i <= 10; i++) {
+            Video video = em.persist(Video.createVideo(seller, "영상 " + i, null, 600, "https://cdn/" + i + ".mp4"));
+            videos.add(video);
+            for (int day = 0; day < 7; day++) {
+                em.persist(DailyVideoSettlement.create(video, seller, MONDAY.plusDays(day),
+                        0, 0, 0, 0, 0, 0, BigDecimal.valueOf(i), BigDecimal.ONE));
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("일간 정산: 영상 수와 관계없이 SQL 1번, 동영상 엔티티를 읽지 않는다")
+    void dailyIsOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        SettlementResponse response = settlementService.getDailySettlement(MONDAY);
+
+        assertThat(response.videos()).hasSize(10);
+        assertThat(response.totalAmount()).isEqualByComparingTo("65");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("주간 정산: 영상별 합계를 SQL 1번으로")
+    void weeklyIsOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        SettlementResponse response = settlementService.getWeeklySettlement(MONDAY.plusDays(3));
+
+        assertThat(response.videos().get(0).videoId()).isEqualTo(videos.get(9).getVideoId());
+        assertThat(response.videos().get(0).totalAmount()).isEqualByComparingTo("77");
+        assertThat(response.totalAmount()).isEqualByComparingTo("455");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("영상 기간 정산: SQL 1번, 정산이 없으면 0원")
+    void videoIsOneStatement() {
+        Integer videoId = videos.get(0).getVideoId();
+        Statistics statistics = resetStatistics();
+
+        VideoSettlementResponse response = settlementService.getVideoSettlement(videoId, MONDAY, MONDAY.plusDays(1));
+        VideoSettlementResponse empty = settlementService.getVideoSettlement(videoId,
+                MONDAY.minusDays(30), MONDAY.minusDays(1));
+
+        assertThat(response.totalAmount()).isEqualByComparingTo("4");
+        assertThat(empty.totalAmount()).isEqualByComparingTo("0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
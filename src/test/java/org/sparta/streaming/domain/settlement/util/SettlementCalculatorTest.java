@@ -0,0 +1,125 @@
+package org.sparta.streaming.domain.settlement.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementCalculatorTest {
+
+    private static final int[] BOUNDARIES = {0, 100_000, 500_000, 1_000_000};
+
+    private final SettlementCalculator calculator = new SettlementCalculator(
+            SettlementCalculator.DEFAULT_VIDEO_TIERS, SettlementCalculator.DEFAULT_AD_TIERS);
+
+    @Test
+    @DisplayName("무작위 (이전 누적, 증가분)에서 기존 double 구간 계산과 같은 금액")
+    void matchesLegacyCalculation() {
+        SplittableRandom random = new SplittableRandom(20_240_101L);
+        for (int n = 0; n < 200_000; n++) {
+            int previousTotal = sample(random);
+            int todayViews = random.nextInt(4) == 0 ? random.nextInt(50) : random.nextInt(1_500_000);
+
+            assertThat(calculator.calculateVideoAmount(previousTotal, todayViews))
+                    .as("video prev=%d today=%d", previousTotal, todayViews)
+                    .isEqualTo(Legacy.amount(previousTotal, todayViews, Legacy.VIDEO_RATES));
+            assertThat(calculator.calculateAdAmount(previousTotal, todayViews))
+                    .as("ad prev=%d today=%d", previousTotal, todayViews)
+                    .isEqualTo(Legacy.amount(previousTotal, todayViews, Legacy.AD_RATES));
+        }
+    }
+
+    @Test
+    @DisplayName("청크 단위 계산은 건별 계산과 같다")
+    void bulkMatchesSingle() {
+        SplittableRandom random = new SplittableRandom(7L);
+        int count = 1_000;
+        int[] previousTotals = new int[count];
+        int[] todayViews = new int[count];
+        for (int i = 0; i < count; i++) {
+            previousTotals[i] = sample(random);
+            todayViews[i] = random.nextInt(1_500_000);
+        }
+
+        long[] videoAmounts = new long[count];
+        long[] adAmounts = new long[count];
+        calculator.calculateVideoAmounts(previousTotals, todayViews, videoAmounts, count);
+        calculator.calculateAdAmounts(previousTotals, todayViews, adAmounts, count);
+
+        for (int i = 0; i < count; i++) {
+            assertThat(videoAmounts[i]).isEqualTo(calculator.calculateVideoAmount(previousTotals[i], todayViews[i]).longValueExact());
+            assertThat(adAmounts[i]).isEqualTo(calculator.calculateAdAmount(previousTotals[i], todayViews[i]).longValueExact());
+        }
+    }
+
+    @Test
+    @DisplayName("구간별 절사: 두 소수 단가 구간에 걸치면 구간마다 1원 미만을 버린다")
+    void truncatesPerTier() {
+        // 5 X 1.1 = 5.5 → 5, 5 X 1.3 = 6.5 → 6
+        assertThat(calculator.calculateVideoAmount(499_995, 10)).isEqualTo(BigDecimal.valueOf(11));
+        // 조회수 55만: 100,000 X 1.0 + 400,000 X 1.1 + 50,000 X 1.3
+        assertThat(calculator.calculateVideoAmount(0, 550_000)).isEqualTo(BigDecimal.valueOf(605_000));
+    }
+
+    @Test
+    @DisplayName("F(total)은 구간 단가를 0.1원 단위로 누적한 값")
+    void cumulativeTenths() {
+        SettlementTiers tiers = SettlementTiers.parse(SettlementCalculator.DEFAULT_VIDEO_TIERS);
+
+        assertThat(tiers.cumulativeTenths(0)).isZero();
+        assertThat(tiers.cumulativeTenths(100_000)).isEqualTo(1_000_000);
+        assertThat(tiers.cumulativeTenths(100_001)).isEqualTo(1_000_011);
+        assertThat(tiers.cumulativeTenths(1_000_001)).isEqualTo(1_000_000 + 4_400_000 + 6_500_000 + 15);
+    }
+
+    @Test
+    @DisplayName("구간표 형식이 잘못되면 예외")
+    void rejectsInvalidTiers() {
+        assertThatThrownBy(() -> SettlementTiers.parse("100:1.0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SettlementTiers.parse("0:1.0,0:1.1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SettlementTiers.parse("0:1.05")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SettlementTiers.parse("0=1.0")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 구간 경계 근처를 자주 뽑는다
+    private static int sample(SplittableRandom random) {
+        if (random.nextBoolean()) {
+            return Math.max(0, BOUNDARIES[random.nextInt(BOUNDARIES.length)] + random.nextInt(-20, 21));
+        }
+        return random.nextInt(2_000_000);
+    }
+
+    /**
+     * 바꾸기 전 SettlementCalculator 계산 (double 단가, 구간별 (long) 절사)
+     */
+    private static final class Legacy {
+
+        static final double[] VIDEO_RATES = {1.0, 1.1, 1.3, 1.5};
+        static final double[] AD_RATES = {10.0, 12.0, 15.0, 20.0};
+
+        static BigDecimal amount(int previousTotal, int todayViews, double[] rates) {
+            if (todayViews <= 0) {
+                return BigDecimal.ZERO;
+            }
+            int currentTotal = previousTotal + todayViews;
+            long totalAmount = 0;
+            totalAmount += tier(previousTotal, currentTotal, 0, 100_000, rates[0]);
+            totalAmount += tier(previousTotal, currentTotal, 100_000, 500_000, rates[1]);
+            totalAmount += tier(previousTotal, currentTotal, 500_000, 1_000_000, rates[2]);
+            totalAmount += tier(previousTotal, currentTotal, 1_000_000, Integer.MAX_VALUE, rates[3]);
+            return BigDecimal.valueOf(totalAmount);
+        }
+
+        static long tier(int previousTotal, int currentTotal, int tierStart, int tierEnd, double rate) {
+            if (previousTotal >= tierEnd || currentTotal <= tierStart) {
+                return 0;
+            }
+            int viewsInTier = Math.min(currentTotal, tierEnd) - Math.max(previousTotal, tierStart);
+            return (long) (viewsInTier * rate);
+        }
+    }
+}
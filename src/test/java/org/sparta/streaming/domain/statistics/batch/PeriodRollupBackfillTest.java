@@ -0,0 +1,155 @@
+package org.sparta.streaming.domain.statistics.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.batch.BatchDates;
+import org.sparta.streaming.batch.watermark.BatchWatermarks;
+import org.sparta.streaming.cache.PeriodResponseCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PeriodRollupBackfillTest {
+
+    // 9/28(월) ~ 10/7: 주 두 개(9/28, 10/5), 월 두 개(9월, 10월)에 걸친다
+    private static final LocalDate FROM = LocalDate.of(2026, 9, 28);
+    private static final LocalDate TO = LocalDate.of(2026, 10, 7);
+
+    // H2 MySQL 모드 (INSERT IGNORE, SELECT ... FOR UPDATE), year/month는 컬럼 이름으로 사용
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,MONTH"));
+    private final BatchWatermarks watermarks = new BatchWatermarks(jdbcTemplate);
+    private final PeriodResponseCache responseCache = mock(PeriodResponseCache.class);
+    private final PeriodRollupBackfill backfill =
+            new PeriodRollupBackfill(new PeriodRollupTasklet(jdbcTemplate, watermarks), watermarks, responseCache);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE daily_video_statistics (
+                    video_id INT NOT NULL,
+                    stat_date DATE NOT NULL,
+                    view_count BIGINT NOT NULL,
+                    total_watch_seconds BIGINT NOT NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (video_id, stat_date)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE weekly_video_statistics (
+                    video_id INT NOT NULL,
+                    week_start_date DATE NOT NULL,
+                    week_end_date DATE NOT NULL,
+                    view_count BIGINT NOT NULL,
+                    total_watch_seconds BIGINT NOT NULL,
+                    last_stat_date DATE NOT NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (video_id, week_start_date)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE monthly_video_statistics (
+                    video_id INT NOT NULL,
+                    year INT NOT NULL,
+                    month INT NOT NULL,
+                    month_start_date DATE NOT NULL,
+                    month_end_date DATE NOT NULL,
+                    view_count BIGINT NOT NULL,
+                    total_watch_seconds BIGINT NOT NULL,
+                    last_stat_date DATE NOT NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (video_id, year, month)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE batch_watermarks (
+                    name VARCHAR(100) PRIMARY KEY,
+                    as_of_date DATE,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+
+        // 동영상 1: 매일 조회 1, 시청 10초 / 동영상 2: 10/6 하루만
+        for (LocalDate day = FROM; !day.isAfter(TO); day = day.plusDays(1)) {
+            daily(1, day, 1, 10);
+        }
+        daily(2, LocalDate.of(2026, 10, 6), 5, 100);
+    }
+
+    @Test
+    @DisplayName("배포 전 기간: 걸친 주/월을 일간 통계로 채우고 기준일을 to로")
+    void fillsPeriodsBeforeDeploy() {
+        int rows = backfill.backfill(FROM, TO);
+
+        // 주: (9/28, 동영상 1), (10/5, 동영상 1), (10/5, 동영상 2) / 월: (9월, 1), (10월, 1), (10월, 2)
+        assertThat(rows).isEqualTo(6);
+        assertThat(weekly(1, FROM)).containsExactly(7L, 70L);
+        assertThat(weekly(1, LocalDate.of(2026, 10, 5))).containsExactly(3L, 30L);
+        assertThat(weekly(2, LocalDate.of(2026, 10, 5))).containsExactly(5L, 100L);
+        assertThat(monthly(1, 9)).containsExactly(3L, 30L);
+        assertThat(monthly(1, 10)).containsExactly(7L, 70L);
+        assertThat(monthly(2, 10)).containsExactly(5L, 100L);
+
+        assertThat(watermarks.get(PeriodRollupTasklet.WEEKLY_WATERMARK)).isEqualTo(TO);
+        assertThat(watermarks.get(PeriodRollupTasklet.MONTHLY_WATERMARK)).isEqualTo(TO);
+
+        // 다시 집계한 주/월 응답 캐시 비우기 (트랜잭션 밖이라 바로)
+        verify(responseCache).invalidate(FROM);
+        verify(responseCache).invalidate(LocalDate.of(2026, 10, 5));
+        verify(responseCache).invalidate(LocalDate.of(2026, 9, 1));
+        verify(responseCache).invalidate(LocalDate.of(2026, 10, 1));
+    }
+
+    @Test
+    @DisplayName("다시 돌려도 두 번 더하지 않고, 이후 날짜까지 반영된 기준일은 되돌리지 않는다")
+    void replacesRowsAndKeepsLaterWatermark() {
+        LocalDate later = TO.plusDays(3);
+        watermarks.lock(PeriodRollupTasklet.WEEKLY_WATERMARK);
+        watermarks.set(PeriodRollupTasklet.WEEKLY_WATERMARK, later);
+
+        backfill.backfill(FROM, TO);
+        backfill.backfill(LocalDate.of(2026, 10, 6), LocalDate.of(2026, 10, 6));
+
+        assertThat(weekly(1, LocalDate.of(2026, 10, 5))).containsExactly(3L, 30L);
+        assertThat(monthly(1, 10)).containsExactly(7L, 70L);
+        assertThat(watermarks.get(PeriodRollupTasklet.WEEKLY_WATERMARK)).isEqualTo(later);
+        assertThat(watermarks.get(PeriodRollupTasklet.MONTHLY_WATERMARK)).isEqualTo(TO);
+    }
+
+    @Test
+    @DisplayName("기간이 거꾸로이거나 오늘 이후면 거부")
+    void rejectsInvalidRange() {
+        assertThatThrownBy(() -> backfill.backfill(TO, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+        LocalDate today = LocalDate.now(BatchDates.ZONE);
+        assertThatThrownBy(() -> backfill.backfill(FROM, today))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void daily(int videoId, LocalDate day, long views, long watchSeconds) {
+        jdbcTemplate.update("INSERT INTO daily_video_statistics VALUES (?, ?, ?, ?, NOW())",
+                videoId, day, views, watchSeconds);
+    }
+
+    private Long[] weekly(int videoId, LocalDate weekStart) {
+        return jdbcTemplate.queryForObject(
+                "SELECT view_count, total_watch_seconds FROM weekly_video_statistics "
+                        + "WHERE video_id = ? AND week_start_date = ?",
+                (rs, rowNum) -> new Long[]{rs.getLong(1), rs.getLong(2)}, videoId, weekStart);
+    }
+
+    private Long[] monthly(int videoId, int month) {
+        return jdbcTemplate.queryForObject(
+                "SELECT view_count, total_watch_seconds FROM monthly_video_statistics "
+                        + "WHERE video_id = ? AND year = 2026 AND month = ?",
+                (rs, rowNum) -> new Long[]{rs.getLong(1), rs.getLong(2)}, videoId, month);
+    }
+}
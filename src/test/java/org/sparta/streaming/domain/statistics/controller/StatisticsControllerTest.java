@@ -0,0 +1,69 @@
+package org.sparta.streaming.domain.statistics.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sparta.streaming.cache.PeriodResponseCache;
+import org.sparta.streaming.domain.statistics.batch.DailyStatisticsBatchConfig;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardMetric;
+import org.sparta.streaming.domain.statistics.leaderboard.LeaderboardPeriod;
+import org.sparta.streaming.domain.statistics.repository.DailyVideoStatisticsRepository;
+import org.sparta.streaming.domain.statistics.repository.MonthlyVideoStatisticsRepository;
+import org.sparta.streaming.domain.statistics.repository.VideoLeaderboardRepository;
+import org.sparta.streaming.domain.statistics.repository.WeeklyVideoStatisticsRepository;
+import org.sparta.streaming.domain.statistics.service.StatisticsService;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StatisticsControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 7);
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 5);
+
+    private final VideoLeaderboardRepository leaderboardRepository = mock(VideoLeaderboardRepository.class);
+    private final StatisticsService statisticsService = new StatisticsService(
+            mock(DailyVideoStatisticsRepository.class), mock(WeeklyVideoStatisticsRepository.class),
+            mock(MonthlyVideoStatisticsRepository.class), leaderboardRepository, 100);
+    private final PeriodResponseCache responseCache = mock(PeriodResponseCache.class);
+    private final StatisticsController controller = new StatisticsController(statisticsService, responseCache);
+
+    @Test
+    @DisplayName("범위 밖 limit은 1 ~ 순위표 크기로 맞춘 값으로 캐시 키를 만들고 조회한다")
+    void cacheKeyUsesClampedLimit() {
+        assertThat(respondedEndpoint(1000)).isEqualTo("statistics/weekly/views?limit=100");
+        assertThat(respondedEndpoint(101)).isEqualTo("statistics/weekly/views?limit=100");
+        assertThat(respondedEndpoint(0)).isEqualTo("statistics/weekly/views?limit=1");
+        assertThat(respondedEndpoint(-5)).isEqualTo("statistics/weekly/views?limit=1");
+        assertThat(respondedEndpoint(10)).isEqualTo("statistics/weekly/views?limit=10");
+    }
+
+    @Test
+    @DisplayName("캐시에 없을 때의 조회도 맞춘 limit으로")
+    void loaderUsesClampedLimit() {
+        ArgumentCaptor<Supplier<?>> loader = ArgumentCaptor.forClass(Supplier.class);
+        controller.getWeeklyTopByViews(DAY, 1000);
+        verify(responseCache).respond(any(), any(), any(), any(), loader.capture());
+
+        loader.getValue().get();
+
+        verify(leaderboardRepository).findBoard(LeaderboardPeriod.WEEKLY, MONDAY, LeaderboardMetric.VIEWS,
+                PageRequest.of(0, 100));
+    }
+
+    private String respondedEndpoint(int limit) {
+        PeriodResponseCache cache = mock(PeriodResponseCache.class);
+        new StatisticsController(statisticsService, cache).getWeeklyTopByViews(DAY, limit);
+        ArgumentCaptor<String> endpoint = ArgumentCaptor.forClass(String.class);
+        verify(cache).respond(eq(DailyStatisticsBatchConfig.JOB_NAME), endpoint.capture(),
+                eq(MONDAY), eq(MONDAY.plusDays(6)), any());
+        return endpoint.getValue();
+    }
+}
@@ -0,0 +1,75 @@
+package org.sparta.streaming.domain.statistics.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    @Test
+    @DisplayName("상위 k개를 점수 내림차순, 같으면 videoId 오름차순으로")
+    void topSortsAndBreaksTies() {
+        List<LeaderboardEntry> top = Leaderboard.top(List.of(
+                new LeaderboardEntry(3, 10, 0),
+                new LeaderboardEntry(1, 30, 0),
+                new LeaderboardEntry(2, 10, 0),
+                new LeaderboardEntry(4, 5, 0)), LeaderboardMetric.VIEWS, 3);
+
+        assertThat(top).extracting(LeaderboardEntry::videoId).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("하루씩 반영한 순위표가 매일 기간 전체를 다시 집계한 결과와 같다")
+    void advanceMatchesFullRecompute() {
+        SplittableRandom random = new SplittableRandom(2024);
+        for (int trial = 0; trial < 50; trial++) {
+            int k = 1 + random.nextInt(10);
+            int videos = 1 + random.nextInt(60);
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                Map<Integer, LeaderboardEntry> totals = new HashMap<>();
+                List<LeaderboardEntry> board = List.of();
+
+                for (int day = 0; day < 31; day++) {
+                    List<LeaderboardEntry> dayRows = dayRows(random, videos);
+                    dayRows.forEach(row -> totals.merge(row.videoId(), row, LeaderboardEntry::plus));
+
+                    List<LeaderboardEntry> advanced = Leaderboard.advance(board, dayRows, metric, k, Integer.MAX_VALUE,
+                            ids -> ids.stream().map(totals::get).toList());
+
+                    assertThat(advanced).isEqualTo(Leaderboard.top(totals.values(), metric, k));
+                    board = advanced;
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("후보가 너무 많으면 null (전체 재집계)")
+    void tooManyCandidates() {
+        List<LeaderboardEntry> board = List.of(new LeaderboardEntry(1, 100, 0), new LeaderboardEntry(2, 10, 0));
+        List<LeaderboardEntry> dayRows = List.of(
+                new LeaderboardEntry(3, 50, 0), new LeaderboardEntry(4, 50, 0), new LeaderboardEntry(5, 50, 0));
+
+        assertThat(Leaderboard.advance(board, dayRows, LeaderboardMetric.VIEWS, 2, 2, ids -> List.of())).isNull();
+    }
+
+    // 인기 동영상 몇 개가 대부분의 조회를 가져가고, 나머지는 가끔 조금씩
+    private static List<LeaderboardEntry> dayRows(SplittableRandom random, int videos) {
+        List<LeaderboardEntry> rows = new ArrayList<>();
+        for (int videoId = 1; videoId <= videos; videoId++) {
+            if (random.nextInt(3) == 0) {
+                continue;
+            }
+            int views = videoId % 7 == 0 ? random.nextInt(1_000) : random.nextInt(20);
+            rows.add(new LeaderboardEntry(videoId, views, views * (long) random.nextInt(1, 600)));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,121 @@
+package org.sparta.streaming.domain.statistics.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.domain.statistics.dto.VideoStatisticsResponse;
+import org.sparta.streaming.domain.statistics.entity.DailyVideoStatistics;
+import org.sparta.streaming.domain.statistics.entity.MonthlyVideoStatistics;
+import org.sparta.streaming.domain.user.entity.User;
+import org.sparta.streaming.domain.video.entity.Video;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"  // monthly_video_statistics.year, month
+})
+@Import(StatisticsService.class)
+class StatisticsServiceQueryCountTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 7);
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 5);
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private final List<Video> videos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User seller = em.persist(User.createSeller("seller@test.com", "pw", "판매자"));
+        for (int i = 1; i <= 20; i++) {
+            videos.add(em.persist(Video.createVideo(seller, "영상 " + i, null, 600, "https://cdn/" + i + ".mp4")));
+        }
+    }
+
+    @Test
+    @DisplayName("순위표가 있으면 SQL 1번 (제목은 같은 쿼리에서 조인)")
+    void boardIsOneStatement() {
+        for (int rank = 1; rank <= videos.size(); rank++) {
+            em.getEntityManager().createNativeQuery("""
+                            INSERT INTO video_leaderboard
+                                (period_type, period_start, metric, rank_no, video_id,
+                                 view_count, total_watch_seconds, as_of_date, updated_at)
+                            VALUES ('WEEKLY', ?1, 'VIEWS', ?2, ?3, ?4, 0, ?5, CURRENT_TIMESTAMP)
+                            """)
+                    .setParameter(1, MONDAY)
+                    .setParameter(2, rank)
+                    .setParameter(3, videos.get(rank - 1).getVideoId())
+                    .setParameter(4, 1000 - rank)
+                    .setParameter(5, DAY)
+                    .executeUpdate();
+        }
+        Statistics statistics = resetStatistics();
+
+        List<VideoStatisticsResponse> top = statisticsService.getWeeklyTopByViews(DAY, 10);
+
+        assertThat(top).hasSize(10);
+        assertThat(top.get(0).title()).isEqualTo("영상 1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("순위표가 없으면 순위표 조회 + 일간 통계 조회, 행 수와 관계없이 SQL 2번")
+    void dailyFallbackHasNoPerRowQueries() {
+        for (int i = 0; i < videos.size(); i++) {
+            em.persist(DailyVideoStatistics.create(videos.get(i), DAY, i * 10, i * 100L));
+        }
+        Statistics statistics = resetStatistics();
+
+        List<VideoStatisticsResponse> top = statisticsService.getDailyTopByViews(DAY, 5);
+
+        assertThat(top).extracting(VideoStatisticsResponse::title)
+                .containsExactly("영상 20", "영상 19", "영상 18", "영상 17", "영상 16");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("월간 통계도 제목까지 한 쿼리로")
+    void monthlyFallbackHasNoPerRowQueries() {
+        for (int i = 0; i < videos.size(); i++) {
+            em.persist(MonthlyVideoStatistics.create(videos.get(i), 2026, 10,
+                    LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 31), i, i * 1000L, DAY));
+        }
+        Statistics statistics = resetStatistics();
+
+        List<VideoStatisticsResponse> top = statisticsService.getMonthlyTopByWatchTime(DAY, 3);
+
+        assertThat(top).extracting(VideoStatisticsResponse::totalWatchSeconds).containsExactly(19_000L, 18_000L, 17_000L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    // 준비 데이터를 DB에 쓰고 영속성 컨텍스트를 비워, 조회가 지연 로딩 없이 끝나는지 본다
+    private Statistics resetStatistics() {
+        em.flush();
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
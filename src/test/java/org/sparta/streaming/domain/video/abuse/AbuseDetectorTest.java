@@ -0,0 +1,104 @@
+package org.sparta.streaming.domain.video.abuse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.redis.InMemoryRedisStore;
+import org.sparta.streaming.redis.RedisStore;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AbuseDetectorTest {
+
+    private final MutableClock clock = new MutableClock(1_700_000_000_000L);
+
+    @Test
+    @DisplayName("로컬 링 버퍼: 30초 이내 같은 IP 재생만 어뷰징")
+    void localDetector() {
+        assertWindowBehavior(new LocalAbuseDetector(30, 10_000, clock));
+    }
+
+    @Test
+    @DisplayName("Redis(인메모리 대체) 백엔드: 30초 이내 같은 IP 재생만 어뷰징")
+    void redisDetector() {
+        assertWindowBehavior(new RedisAbuseDetector(
+                new InMemoryRedisStore(clock), 30, new LocalAbuseDetector(30, 10_000, clock)));
+    }
+
+    @Test
+    @DisplayName("Redis 실패 시 예외 없이 로컬 감지기로 판단하고 실패 횟수를 센다")
+    void redisFailureFallsBackToLocal() {
+        RedisStore failing = mock(RedisStore.class);
+        when(failing.setAndGet(anyString(), anyString(), anyLong()))
+                .thenThrow(new IllegalStateException("Redis 연결 실패"));
+        RedisAbuseDetector detector = new RedisAbuseDetector(failing, 30, new LocalAbuseDetector(30, 10_000, clock));
+
+        assertWindowBehavior(detector);
+        assertThat(detector.getRedisErrors()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("로컬 링 버퍼: 버킷이 가득 차면 기록을 버리고 카운트")
+    void localDetectorIsBounded() {
+        LocalAbuseDetector detector = new LocalAbuseDetector(30, 31, clock);
+
+        for (int videoId = 0; videoId < 5; videoId++) {
+            detector.checkAndRecord(videoId, "10.0.0.1");
+        }
+
+        assertThat(detector.getDroppedCount()).isEqualTo(4);
+    }
+
+    private void assertWindowBehavior(AbuseDetector detector) {
+        assertThat(detector.checkAndRecord(1, "10.0.0.1")).isFalse();
+        assertThat(detector.checkAndRecord(1, "10.0.0.1")).isTrue();
+        assertThat(detector.checkAndRecord(2, "10.0.0.1")).isFalse();
+        assertThat(detector.checkAndRecord(1, "10.0.0.2")).isFalse();
+
+        clock.advanceSeconds(29);
+        assertThat(detector.checkAndRecord(1, "10.0.0.1")).isTrue();
+
+        clock.advanceSeconds(31);
+        assertThat(detector.checkAndRecord(1, "10.0.0.1")).isFalse();
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advanceSeconds(long seconds) {
+            millis += seconds * 1000;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
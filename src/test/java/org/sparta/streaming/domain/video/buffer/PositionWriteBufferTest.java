@@ -0,0 +1,91 @@
+package org.sparta.streaming.domain.video.buffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PositionWriteBufferTest {
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    // batchUpdate 직전에 끼어드는 동작 (flush 도중 들어온 위치 업데이트 흉내)
+    private Runnable beforeUpdate = () -> {};
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource) {
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            beforeUpdate.run();
+            return super.batchUpdate(sql, batchArgs);
+        }
+    };
+
+    private final PositionWriteBuffer buffer = new PositionWriteBuffer(
+            jdbcTemplate, new DataSourceTransactionManager(dataSource), null, true, 1000, 10000);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE video_watch_history (
+                    record_id BIGINT PRIMARY KEY,
+                    last_watched_position INT NOT NULL,
+                    updated_at TIMESTAMP NULL
+                )
+                """);
+        jdbcTemplate.update("INSERT INTO video_watch_history VALUES (1, 0, NULL), (2, 0, NULL)");
+    }
+
+    @Test
+    @DisplayName("커밋된 위치는 DB에 반영되고 버퍼에서 빠진다")
+    void flushRemovesCommittedEntries() {
+        buffer.offer(1L, 30);
+        buffer.offer(2L, 45);
+
+        assertThat(buffer.flush()).isEqualTo(2);
+
+        assertThat(position(1L)).isEqualTo(30);
+        assertThat(position(2L)).isEqualTo(45);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 도중 들어온 더 새로운 위치는 버퍼에 남는다")
+    void newerPositionDuringFlushIsKept() {
+        buffer.offer(1L, 30);
+        beforeUpdate = () -> buffer.offer(1L, 60);
+
+        buffer.flush();
+
+        assertThat(position(1L)).isEqualTo(30);
+        assertThat(buffer.pendingPosition(1L)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("flush가 실패하면 위치가 버퍼에 그대로 남아 조회된다")
+    void failedFlushKeepsEntries() {
+        buffer.offer(1L, 30);
+        beforeUpdate = () -> {
+            throw new IllegalStateException("DB 장애");
+        };
+
+        assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class);
+
+        assertThat(buffer.pendingPosition(1L)).isEqualTo(30);
+        assertThat(position(1L)).isZero();
+    }
+
+    private int position(Long recordId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_watched_position FROM video_watch_history WHERE record_id = ?", Integer.class, recordId);
+    }
+}
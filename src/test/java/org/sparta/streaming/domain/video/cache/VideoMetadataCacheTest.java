@@ -0,0 +1,158 @@
+package org.sparta.streaming.domain.video.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.redis.InMemoryRedisStore;
+import org.sparta.streaming.redis.RedisStore;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VideoMetadataCacheTest {
+
+    private final Map<Integer, VideoMetadata> table = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    // 두 노드가 같은 Redis를 공유
+    private final InMemoryRedisStore redis = new InMemoryRedisStore(Clock.systemUTC());
+    private final VideoMetadataCache nodeA = newCache(redis);
+    private final VideoMetadataCache nodeB = newCache(redis);
+    // DB 조회 직후(값을 읽은 뒤, 반환 전) 한 번 실행
+    private Runnable afterRead;
+
+    @Test
+    @DisplayName("L1 → L2 → DB 순서로 조회, DB는 한 번만")
+    void readThrough() {
+        table.put(1, new VideoMetadata(1, 7, 900, "제목", "https://cdn/1.mp4"));
+
+        assertThat(nodeA.find(1)).contains(table.get(1));
+        assertThat(nodeA.find(1)).contains(table.get(1));
+        assertThat(nodeB.find(1)).contains(table.get(1));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(nodeA.getLocalStats().hitCount()).isEqualTo(1);
+        assertThat(nodeB.getRemoteHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화는 Redis와 다른 노드의 L1까지 비운다")
+    void invalidationIsBroadcast() {
+        table.put(1, new VideoMetadata(1, 7, 900, "제목", "https://cdn/1.mp4"));
+        nodeA.find(1);
+        nodeB.find(1);
+
+        table.put(1, new VideoMetadata(1, 7, 900, "바뀐 제목", "https://cdn/1.mp4"));
+        nodeA.invalidate(1);
+
+        assertThat(nodeB.find(1).map(VideoMetadata::title)).contains("바뀐 제목");
+        assertThat(nodeA.find(1).map(VideoMetadata::title)).contains("바뀐 제목");
+        // tombstone이 남아 있는 동안은 노드마다 DB에서 읽는다
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 조회 도중 변경/무효화하면, 무효화 메시지가 늦게 와도 옛 값을 L2에 올리지 않는다")
+    void staleLoadIsNotWrittenToRedis() {
+        table.put(1, new VideoMetadata(1, 7, 900, "제목", "https://cdn/1.mp4"));
+        DelayedPubSub slowNode = new DelayedPubSub(redis);
+        VideoMetadataCache nodeC = newCache(slowNode);
+
+        // nodeC가 옛 값을 읽은 직후 nodeA가 변경 + 무효화 (nodeC에는 메시지가 아직 도착하지 않음)
+        afterRead = () -> {
+            table.put(1, new VideoMetadata(1, 7, 900, "바뀐 제목", "https://cdn/1.mp4"));
+            nodeA.invalidate(1);
+        };
+        assertThat(nodeC.find(1).map(VideoMetadata::title)).contains("제목");
+
+        assertThat(nodeB.find(1).map(VideoMetadata::title)).contains("바뀐 제목");
+        slowNode.deliver();
+        assertThat(nodeC.find(1).map(VideoMetadata::title)).contains("바뀐 제목");
+    }
+
+    @Test
+    @DisplayName("없는 동영상은 캐시하지 않는다")
+    void missingVideo() {
+        assertThat(nodeA.find(99)).isEmpty();
+
+        table.put(99, new VideoMetadata(99, 7, 60, "새 영상", "https://cdn/99.mp4"));
+        assertThat(nodeA.find(99)).isPresent();
+    }
+
+    private VideoMetadataCache newCache(RedisStore redisStore) {
+        return new VideoMetadataCache(videoId -> {
+            loads.incrementAndGet();
+            Optional<VideoMetadata> loaded = Optional.ofNullable(table.get(videoId));
+            Runnable hook = afterRead;
+            afterRead = null;
+            if (hook != null) {
+                hook.run();
+            }
+            return loaded;
+        }, redisStore, new ObjectMapper(), 100, 300, 3600, 10);
+    }
+
+    /**
+     * 같은 Redis를 쓰지만 구독 메시지가 deliver() 전까지 도착하지 않는 노드
+     */
+    private static class DelayedPubSub implements RedisStore {
+        private final RedisStore delegate;
+        private final List<Runnable> pending = new ArrayList<>();
+
+        DelayedPubSub(RedisStore delegate) {
+            this.delegate = delegate;
+        }
+
+        void deliver() {
+            pending.forEach(Runnable::run);
+            pending.clear();
+        }
+
+        @Override
+        public void subscribe(String channel, Consumer<String> listener) {
+            delegate.subscribe(channel, message -> pending.add(() -> listener.accept(message)));
+        }
+
+        @Override
+        public String setAndGet(String key, String value, long ttlSeconds) {
+            return delegate.setAndGet(key, value, ttlSeconds);
+        }
+
+        @Override
+        public String get(String key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public void set(String key, String value, long ttlSeconds) {
+            delegate.set(key, value, ttlSeconds);
+        }
+
+        @Override
+        public boolean setIfAbsent(String key, String value, long ttlSeconds) {
+            return delegate.setIfAbsent(key, value, ttlSeconds);
+        }
+
+        @Override
+        public void delete(String key) {
+            delegate.delete(key);
+        }
+
+        @Override
+        public void replaceSortedSet(String key, Map<String, Double> scores, long ttlSeconds) {
+            delegate.replaceSortedSet(key, scores, ttlSeconds);
+        }
+
+        @Override
+        public void publish(String channel, String message) {
+            delegate.publish(channel, message);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package org.sparta.streaming.domain.video.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.domain.ad.impression.AdImpression;
+import org.sparta.streaming.domain.ad.index.AdBreak;
+import org.sparta.streaming.domain.ad.index.AdBreakIndex;
+import org.sparta.streaming.domain.ad.index.AdBreakIndexCache;
+import org.sparta.streaming.domain.ad.schedule.AdScheduleService;
+import org.sparta.streaming.domain.user.entity.Role;
+import org.sparta.streaming.domain.user.entity.User;
+import org.sparta.streaming.domain.video.abuse.AbuseDetector;
+import org.sparta.streaming.domain.video.buffer.PositionWriteBuffer;
+import org.sparta.streaming.domain.video.cache.VideoMetadata;
+import org.sparta.streaming.domain.video.cache.VideoMetadataCache;
+import org.sparta.streaming.domain.video.dto.PlayResponse;
+import org.sparta.streaming.domain.video.dto.PlaybackEventBatchRequest;
+import org.sparta.streaming.domain.video.dto.PlaybackEventBatchResponse;
+import org.sparta.streaming.domain.video.dto.StopRequest;
+import org.sparta.streaming.domain.video.entity.VideoWatchHistory;
+import org.sparta.streaming.domain.video.repository.VideoRepository;
+import org.sparta.streaming.domain.video.repository.VideoWatchHistoryRepository;
+import org.sparta.streaming.domain.video.session.ActiveSession;
+import org.sparta.streaming.domain.video.session.ActiveSessionRegistry;
+import org.sparta.streaming.domain.video.writer.WatchHistoryWriter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingServiceTest {
+
+    private static final int VIDEO_ID = 1;
+    private static final User USER = User.fromTokenClaims(7, "user@test.com", Role.USER);
+
+    private final Map<Integer, VideoMetadata> videos = new HashMap<>();
+    private final VideoWatchHistoryRepository watchHistoryRepository = mock(VideoWatchHistoryRepository.class);
+    private final AdBreakIndexCache adBreakIndexCache = mock(AdBreakIndexCache.class);
+    private final AdScheduleService adScheduleService = mock(AdScheduleService.class);
+    private final WatchHistoryWriter watchHistoryWriter = mock(WatchHistoryWriter.class);
+    private final PositionWriteBuffer positionWriteBuffer = mock(PositionWriteBuffer.class);
+    // Redis 없는 단일 노드 (로컬 레지스트리만 사용)
+    private final ActiveSessionRegistry sessionRegistry = new ActiveSessionRegistry(null, true, 100, 1800);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private final StreamingService streamingService = newService(watchHistoryWriter, sessionRegistry);
+
+    StreamingServiceTest() {
+        videos.put(VIDEO_ID, new VideoMetadata(VIDEO_ID, 99, 600, "영상", "https://cdn/1.mp4"));
+        when(adBreakIndexCache.get(anyInt())).thenReturn(AdBreakIndex.EMPTY);
+        // 버퍼에 남은 위치 없음 (Integer 기본값 0이 아닌 null)
+        when(positionWriteBuffer.pendingPosition(anyLong())).thenReturn(null);
+        when(watchHistoryWriter.recordStop(anyLong(), anyInt(), anyInt(), any())).thenReturn(true);
+        when(watchHistoryWriter.recordPosition(anyLong(), anyInt())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Redis 없는 다중 노드: 다른 노드에서 다시 재생했으면 이 노드의 옛 세션 대신 최신 시청 기록에 쓴다")
+    void staleSessionFallsBackToLatestHistory() {
+        ActiveSessionRegistry registry = new ActiveSessionRegistry(null, false, 100, 1800);
+        registry.register(VIDEO_ID, 7, new ActiveSession(10L, true, 100));
+        // 다른 노드의 재생으로 생긴 새 시청 기록 (30초부터 이어보기)
+        VideoWatchHistory latest = history(11L, 30);
+        when(watchHistoryRepository.findTopByVideoVideoIdAndUserUserIdOrderByCreatedAtDesc(VIDEO_ID, 7))
+                .thenReturn(Optional.of(latest));
+
+        newService(watchHistoryWriter, registry).stopVideo(VIDEO_ID, USER, stopRequest(60), request);
+
+        verify(watchHistoryWriter).recordStop(eq(11L), eq(60), eq(30), eq(List.of()));
+        verify(watchHistoryWriter, never()).recordStop(eq(10L), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 없는 다중 노드: 다른 노드가 저장한 위치부터 시청 시간과 광고를 계산한다")
+    void positionSavedOnOtherNodeIsUsed() {
+        ActiveSessionRegistry registry = new ActiveSessionRegistry(null, false, 100, 1800);
+        registry.register(VIDEO_ID, 7, new ActiveSession(10L, true, 100));
+        when(adBreakIndexCache.get(VIDEO_ID)).thenReturn(AdBreakIndex.of(List.of(new AdBreak(1001, 200))));
+        // 같은 세션이지만 다른 노드에서 250초까지 위치를 저장함
+        VideoWatchHistory latest = history(10L, 250);
+        when(watchHistoryRepository.findTopByVideoVideoIdAndUserUserIdOrderByCreatedAtDesc(VIDEO_ID, 7))
+                .thenReturn(Optional.of(latest));
+
+        newService(watchHistoryWriter, registry).stopVideo(VIDEO_ID, USER, stopRequest(300), request);
+
+        // 옛 위치(100초) 기준이면 시청 시간 200초, 이미 본 200초 광고가 다시 기록된다
+        verify(watchHistoryWriter).recordStop(eq(10L), eq(300), eq(50), eq(List.of()));
+    }
+
+    @Test
+    @DisplayName("단일 노드: 레지스트리 세션을 DB 조회 없이 그대로 쓴다")
+    void singleNodeSessionIsTrusted() {
+        sessionRegistry.register(VIDEO_ID, 7, new ActiveSession(10L, true, 100));
+
+        streamingService.updatePosition(VIDEO_ID, USER, stopRequest(200), request);
+
+        verify(watchHistoryWriter).recordPosition(10L, 200);
+        verify(watchHistoryRepository, never()).findTopByVideoVideoIdAndUserUserIdOrderByCreatedAtDesc(any(), any());
+        assertThat(sessionRegistry.find(VIDEO_ID, 7)).contains(new ActiveSession(10L, true, 200));
+    }
+
+    @Test
+    @DisplayName("예전 동영상 첫 재생: 방금 채운 광고 지점을 응답에 포함")
+    void firstPlayReturnsBackfilledAdPositions() {
+        when(adBreakIndexCache.get(VIDEO_ID)).thenReturn(AdBreakIndex.EMPTY);
+        when(adScheduleService.backfillIfMissing(VIDEO_ID, 600, true)).thenReturn(true);
+        when(adBreakIndexCache.load(VIDEO_ID)).thenReturn(AdBreakIndex.of(List.of(new AdBreak(5, 300))));
+
+        PlayResponse response = streamingService.playVideo(VIDEO_ID, USER, request);
+
+        assertThat(response.getAdPositions()).containsExactly(300);
+    }
+
+    // ========================================
+    // 재생 이벤트 묶음 = update-position / stop을 차례로 호출한 결과
+    // ========================================
+
+    @Test
+    @DisplayName("여러 동영상, 중단 뒤 위치 이동, 여러 이벤트에 걸친 광고 통과가 차례 호출과 같다")
+    void batchMatchesSequentialCalls() {
+        setUpPlayback();
+        List<Event> events = List.of(
+                new Event(1, "POSITION", 90),
+                new Event(2, "POSITION", 60),   // 광고 50은 건너뜀
+                new Event(1, "STOP", 150),      // 광고 100 통과
+                new Event(2, "STOP", 260),      // 광고 250 통과
+                new Event(1, "POSITION", 250),  // 중단 뒤 건너뛰기 (광고 200은 기록 안 됨)
+                new Event(1, "STOP", 420),      // 광고 300, 400 통과
+                new Event(1, "STOP", 380),      // 되감기 중단 (시청 시간, 광고 없음)
+                new Event(1, "POSITION", 10));
+
+        RecordingWriter batch = new RecordingWriter();
+        PlaybackEventBatchResponse response = newPlaybackService(batch).processEvents(USER, batchRequest(events), request);
+
+        RecordingWriter sequential = new RecordingWriter();
+        List<String> errors = applySequentially(newPlaybackService(sequential), events);
+
+        assertThat(errors).isEmpty();
+        assertThat(batch.positions).isEqualTo(sequential.positions).containsEntry(10L, 10).containsEntry(20L, 260);
+        assertThat(batch.watchedSeconds).isEqualTo(sequential.watchedSeconds)
+                .containsEntry(10L, 60 + 170).containsEntry(20L, 200);
+        assertThat(batch.ads).isEqualTo(sequential.ads)
+                .containsEntry(10L, List.of(1001, 1003, 1004)).containsEntry(20L, List.of(2002));
+
+        assertThat(response.getProcessed()).isEqualTo(events.size());
+        assertThat(response.getResults()).extracting(PlaybackEventBatchResponse.VideoResult::getVideoId)
+                .containsExactly(1, 2);
+        assertThat(response.getResults()).extracting(PlaybackEventBatchResponse.VideoResult::getAdsWatched)
+                .containsExactly(3, 1);
+        // 동영상마다 한 번만 쓴다
+        assertThat(batch.writes).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동영상별 오류는 그 동영상만 건너뛰고, 나머지는 차례 호출과 같게 반영")
+    void perVideoErrorsMatchSequentialCalls() {
+        setUpPlayback();
+        List<Event> events = List.of(
+                new Event(1, "POSITION", 120),
+                new Event(3, "STOP", 100),      // 시청 기록 없음
+                new Event(4, "POSITION", 10),   // 없는 동영상
+                new Event(2, "STOP", 100),      // 쓰는 시점에 시청 기록이 지워짐
+                new Event(1, "STOP", 210),
+                new Event(3, "POSITION", 50));
+
+        RecordingWriter batch = new RecordingWriter();
+        batch.missing.add(20L);
+        PlaybackEventBatchResponse response = newPlaybackService(batch).processEvents(USER, batchRequest(events), request);
+
+        RecordingWriter sequential = new RecordingWriter();
+        sequential.missing.add(20L);
+        List<String> errors = applySequentially(newPlaybackService(sequential), events);
+
+        assertThat(batch.positions).isEqualTo(sequential.positions).containsOnlyKeys(10L);
+        assertThat(batch.watchedSeconds).isEqualTo(sequential.watchedSeconds);
+        assertThat(batch.ads).isEqualTo(sequential.ads);
+
+        assertThat(response.getProcessed()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(PlaybackEventBatchResponse.VideoResult::getVideoId,
+                        PlaybackEventBatchResponse.VideoResult::isSuccess,
+                        PlaybackEventBatchResponse.VideoResult::getMessage)
+                .containsExactly(
+                        tuple(1, true, "1개의 광고 시청이 기록되었습니다."),
+                        tuple(3, false, "시청 기록이 없습니다."),
+                        tuple(4, false, "존재하지 않는 동영상입니다."),
+                        tuple(2, false, "시청 기록이 없습니다."));
+        // 차례 호출에서도 같은 이벤트들이 같은 이유로 실패한다
+        assertThat(errors).containsExactly("시청 기록이 없습니다.", "존재하지 않는 동영상입니다.",
+                "시청 기록이 없습니다.", "시청 기록이 없습니다.");
+    }
+
+    // 동영상 1: 600초, 광고 100/200/300/400, 세션 10 (0초)
+    // 동영상 2: 300초, 광고 50/250, 세션 20 (30초)
+    // 동영상 3: 시청 기록 없음, 동영상 4: 없음
+    private void setUpPlayback() {
+        videos.put(2, new VideoMetadata(2, 99, 300, "영상 2", "https://cdn/2.mp4"));
+        videos.put(3, new VideoMetadata(3, 99, 300, "영상 3", "https://cdn/3.mp4"));
+        when(adBreakIndexCache.get(1)).thenReturn(AdBreakIndex.of(List.of(
+                new AdBreak(1001, 100), new AdBreak(1002, 200), new AdBreak(1003, 300), new AdBreak(1004, 400))));
+        when(adBreakIndexCache.get(2)).thenReturn(AdBreakIndex.of(List.of(
+                new AdBreak(2001, 50), new AdBreak(2002, 250))));
+    }
+
+    // 같은 시작 세션을 가진 별도 단일 노드
+    private StreamingService newPlaybackService(RecordingWriter writer) {
+        ActiveSessionRegistry registry = new ActiveSessionRegistry(null, true, 100, 1800);
+        registry.register(1, 7, new ActiveSession(10L, true, 0));
+        registry.register(2, 7, new ActiveSession(20L, true, 30));
+        return newService(writer, registry);
+    }
+
+    private List<String> applySequentially(StreamingService service, List<Event> events) {
+        List<String> errors = new ArrayList<>();
+        for (Event event : events) {
+            try {
+                if ("STOP".equals(event.type())) {
+                    service.stopVideo(event.videoId(), USER, stopRequest(event.currentPosition()), request);
+                } else {
+                    service.updatePosition(event.videoId(), USER, stopRequest(event.currentPosition()), request);
+                }
+            } catch (IllegalArgumentException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    private static PlaybackEventBatchRequest batchRequest(List<Event> events) {
+        return new ObjectMapper().convertValue(Map.of("events", events), PlaybackEventBatchRequest.class);
+    }
+
+    record Event(Integer videoId, String type, Integer currentPosition) {
+    }
+
+    /**
+     * 시청 기록 테이블 흉내: 기록별 마지막 위치, 누적 시청 시간, 기록된 광고
+     */
+    private static class RecordingWriter implements WatchHistoryWriter {
+        private final Map<Long, Integer> positions = new HashMap<>();
+        private final Map<Long, Integer> watchedSeconds = new HashMap<>();
+        private final Map<Long, List<Integer>> ads = new HashMap<>();
+        private final Set<Long> missing = new HashSet<>();
+        private int writes;
+
+        @Override
+        public void recordPlay(VideoWatchHistory history) {
+        }
+
+        @Override
+        public boolean recordPosition(Long recordId, int position) {
+            if (missing.contains(recordId)) {
+                return false;
+            }
+            writes++;
+            positions.put(recordId, position);
+            return true;
+        }
+
+        @Override
+        public boolean recordStop(Long recordId, int position, int watched, List<AdImpression> impressions) {
+            if (missing.contains(recordId)) {
+                return false;
+            }
+            writes++;
+            positions.put(recordId, position);
+            watchedSeconds.merge(recordId, watched, Integer::sum);
+            List<Integer> recorded = ads.computeIfAbsent(recordId, id -> new ArrayList<>());
+            impressions.forEach(impression -> recorded.add(impression.videoAdsId()));
+            return true;
+        }
+    }
+
+    private StreamingService newService(WatchHistoryWriter writer, ActiveSessionRegistry registry) {
+        return new StreamingService(
+                mock(VideoRepository.class),
+                new VideoMetadataCache(videoId -> Optional.ofNullable(videos.get(videoId)), null, new ObjectMapper(),
+                        100, 300, 0, 0),
+                watchHistoryRepository,
+                positionWriteBuffer,
+                mock(AbuseDetector.class),
+                registry,
+                adBreakIndexCache,
+                adScheduleService,
+                writer);
+    }
+
+    private static VideoWatchHistory history(Long recordId, int lastPosition) {
+        VideoWatchHistory history = mock(VideoWatchHistory.class);
+        when(history.getRecordId()).thenReturn(recordId);
+        when(history.getViewCounted()).thenReturn(true);
+        when(history.getLastWatchedPosition()).thenReturn(lastPosition);
+        return history;
+    }
+
+    private static StopRequest stopRequest(int position) {
+        StopRequest stopRequest = new StopRequest();
+        ReflectionTestUtils.setField(stopRequest, "currentPosition", position);
+        return stopRequest;
+    }
+}
@@ -0,0 +1,59 @@
+package org.sparta.streaming.domain.video.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.redis.InMemoryRedisStore;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveSessionRegistryTest {
+
+    // 두 노드가 같은 Redis를 공유
+    private final InMemoryRedisStore redis = new InMemoryRedisStore(Clock.systemUTC());
+    private final ActiveSessionRegistry nodeA = new ActiveSessionRegistry(redis, false, 100, 1800);
+    private final ActiveSessionRegistry nodeB = new ActiveSessionRegistry(redis, false, 100, 1800);
+
+    @Test
+    @DisplayName("다른 노드에서 다시 재생하면 이 노드의 옛 세션 대신 새 세션을 쓴다")
+    void playOnOtherNode() {
+        nodeA.register(1, 7, new ActiveSession(10L, true, 100));
+        assertThat(nodeA.find(1, 7)).contains(new ActiveSession(10L, true, 100));
+
+        nodeB.register(1, 7, new ActiveSession(11L, false, 0));
+
+        assertThat(nodeA.find(1, 7)).contains(new ActiveSession(11L, false, 0));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 위치 저장도 보이고, 다른 노드가 지우면 비어 있다(DB에서 다시 찾음)")
+    void positionAndEvictionOnOtherNode() {
+        nodeA.register(1, 7, new ActiveSession(10L, true, 100));
+        nodeA.find(1, 7);
+
+        nodeB.register(1, 7, new ActiveSession(10L, true, 250));
+        assertThat(nodeA.find(1, 7).map(ActiveSession::lastPosition)).contains(250);
+
+        nodeB.evict(1, 7);
+        assertThat(nodeA.find(1, 7)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 등록은 커밋된 뒤에만 보인다")
+    void registerAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.register(1, 7, new ActiveSession(10L, true, 0));
+            assertThat(nodeB.find(1, 7)).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(nodeB.find(1, 7)).contains(new ActiveSession(10L, true, 0));
+    }
+}
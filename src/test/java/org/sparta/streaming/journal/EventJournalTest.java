@@ -0,0 +1,46 @@
+package org.sparta.streaming.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("처음 정한 이름을 디렉터리에 저장하고, 호스트 이름이 바뀌어도 그 이름을 쓴다")
+    void nameIsStoredInDirectory() {
+        String name = EventJournal.resolveName(directory, "", false);
+
+        assertThat(name).startsWith("journal-");
+        assertThat(directory.resolve(EventJournal.ID_FILE)).hasContent(name);
+        // 컨테이너를 다시 만든 뒤 (설정 없음, 기록 있음)
+        assertThat(EventJournal.resolveName(directory, "", true)).isEqualTo(name);
+    }
+
+    @Test
+    @DisplayName("설정한 이름이 저장된 이름과 다르면 시작하지 않는다")
+    void configuredNameMustMatch() {
+        EventJournal.resolveName(directory, "node-a", false);
+
+        assertThat(EventJournal.resolveName(directory, "node-a", true)).isEqualTo("node-a");
+        assertThatThrownBy(() -> EventJournal.resolveName(directory, "node-b", true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("이름 파일 없이 기록만 있는 기존 저널은 이름 설정이 필요하다")
+    void legacyJournalNeedsName() {
+        assertThatThrownBy(() -> EventJournal.resolveName(directory, " ", true))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(EventJournal.resolveName(directory, "streaming-app", true)).isEqualTo("streaming-app");
+    }
+}
@@ -0,0 +1,117 @@
+package org.sparta.streaming.journal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.streaming.domain.ad.impression.AdImpressionWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalApplierTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    // H2 MySQL 모드 (ON DUPLICATE KEY UPDATE, SELECT ... FOR UPDATE)
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    private final JournalApplier applier = new JournalApplier(jdbcTemplate, new AdImpressionWriter(jdbcTemplate, 500));
+
+    // 1: 재생, 2: 위치 저장, 3: 중단(60초), 4~5: 광고 두 건, 6: 중단(30초)
+    private final List<JournalRecord> journal = List.of(
+            record(1, new JournalEvent.Play(10L, 1, 7, "10.0.0.1", true, 0, AT)),
+            record(2, new JournalEvent.Position(10L, 40, AT.plusSeconds(40))),
+            record(3, new JournalEvent.Stop(10L, 60, 60, AT.plusSeconds(60))),
+            record(4, new JournalEvent.AdWatched(101, 7, "10.0.0.1", true, AT.plusSeconds(60))),
+            record(5, new JournalEvent.AdWatched(102, 7, "10.0.0.1", true, AT.plusSeconds(60))),
+            record(6, new JournalEvent.Stop(10L, 90, 30, AT.plusSeconds(90))));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE video_watch_history (
+                    record_id BIGINT PRIMARY KEY,
+                    video_id INT NOT NULL,
+                    user_id INT NOT NULL,
+                    last_watched_position INT NOT NULL,
+                    total_watched_seconds INT NOT NULL,
+                    view_counted BOOLEAN NOT NULL,
+                    ip_address VARCHAR(45),
+                    created_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NULL,
+                    journal_id VARCHAR(100) NULL,
+                    journal_sequence BIGINT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE ad_watch_history (
+                    record_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    video_ads_id INT NOT NULL,
+                    user_id INT NOT NULL,
+                    watched_at TIMESTAMP NOT NULL,
+                    view_counted BOOLEAN NOT NULL,
+                    ip_address VARCHAR(45),
+                    created_at TIMESTAMP NOT NULL,
+                    journal_id VARCHAR(100) NULL,
+                    journal_sequence BIGINT NULL
+                )
+                """);
+    }
+
+    @Test
+    @DisplayName("같은 이벤트를 다시 반영해도 시청 시간과 광고 기록은 한 번만 쌓인다")
+    void replayIsIdempotent() {
+        applier.apply("node-a", journal);
+        applier.apply("node-a", journal);
+
+        assertWatched(90, 90);
+        assertThat(adCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("묶음 경계가 달라도 이미 반영한 이벤트만 건너뛰고 나머지는 반영한다")
+    void replayWithDifferentBatchBoundaries() {
+        applier.apply("node-a", journal.subList(0, 4));
+        assertWatched(60, 60);
+        assertThat(adCount()).isEqualTo(1);
+
+        // 체크포인트를 잃고 처음부터 한 묶음으로 다시 반영
+        applier.apply("node-a", journal);
+
+        assertWatched(90, 90);
+        assertThat(adCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 저널의 이벤트는 시퀀스가 같아도 별개로 반영한다")
+    void otherJournalIsNotSkipped() {
+        applier.apply("node-a", journal);
+        applier.apply("node-b", List.of(
+                record(3, new JournalEvent.Stop(10L, 120, 30, AT.plusSeconds(120))),
+                record(4, new JournalEvent.AdWatched(103, 7, "10.0.0.1", true, AT.plusSeconds(120)))));
+
+        assertWatched(120, 120);
+        assertThat(adCount()).isEqualTo(3);
+    }
+
+    private void assertWatched(int position, int totalSeconds) {
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT last_watched_position, total_watched_seconds FROM video_watch_history WHERE record_id = 10"))
+                .containsEntry("LAST_WATCHED_POSITION", position)
+                .containsEntry("TOTAL_WATCHED_SECONDS", totalSeconds);
+    }
+
+    private int adCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ad_watch_history", Integer.class);
+    }
+
+    private static JournalRecord record(long sequence, JournalEvent event) {
+        return new JournalRecord(sequence, JournalEvent.encode(event));
+    }
+}
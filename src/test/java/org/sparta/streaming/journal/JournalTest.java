@@ -0,0 +1,92 @@
+package org.sparta.streaming.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 시퀀스 순서대로 모두 읽힌다 (세그먼트 교체 포함)")
+    void concurrentAppendAndRead() throws Exception {
+        try (Journal journal = new Journal(directory, 4096, true)) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        journal.append(List.of(JournalEvent.encode(
+                                new JournalEvent.Position(thread * 1000L + i, i, LocalDateTime.now()))));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            assertThat(journal.getDurableSequence()).isEqualTo(800);
+            assertThat(readAll(journal, 1)).hasSize(800);
+            try (Stream<Path> segments = Files.list(directory)) {
+                assertThat(segments.count()).isGreaterThan(1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 깨진 꼬리를 잘라내고 다음 시퀀스부터 이어서 기록한다")
+    void recoverTornTail() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6);
+        try (Journal journal = new Journal(directory, 1 << 20, true)) {
+            journal.append(List.of(
+                    JournalEvent.encode(new JournalEvent.Stop(1L, 300, 120, at)),
+                    JournalEvent.encode(new JournalEvent.AdWatched(7, 3, null, true, at))));
+        }
+        try (Stream<Path> segments = Files.list(directory)) {
+            Path segment = segments.findFirst().orElseThrow();
+            Files.write(segment, new byte[]{0, 0, 0, 9, 1, 2}, StandardOpenOption.APPEND);
+        }
+
+        try (Journal journal = new Journal(directory, 1 << 20, true)) {
+            assertThat(journal.getDurableSequence()).isEqualTo(2);
+            long sequence = journal.append(List.of(JournalEvent.encode(new JournalEvent.Position(1L, 10, at))));
+            assertThat(sequence).isEqualTo(3);
+
+            List<JournalRecord> records = readAll(journal, 1);
+            assertThat(records).extracting(JournalRecord::sequence).containsExactly(1L, 2L, 3L);
+            assertThat(JournalEvent.decode(records.get(0).payload()))
+                    .isEqualTo(new JournalEvent.Stop(1L, 300, 120, at));
+            assertThat(JournalEvent.decode(records.get(1).payload()))
+                    .isEqualTo(new JournalEvent.AdWatched(7, 3, null, true, at));
+        }
+    }
+
+    private static List<JournalRecord> readAll(Journal journal, long fromSequence) {
+        List<JournalRecord> all = new ArrayList<>();
+        try (JournalCursor cursor = journal.openCursor(fromSequence)) {
+            List<JournalRecord> records;
+            while (!(records = cursor.next(64)).isEmpty()) {
+                all.addAll(records);
+            }
+        }
+        return all;
+    }
+}